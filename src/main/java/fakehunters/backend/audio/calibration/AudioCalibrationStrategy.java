@@ -0,0 +1,14 @@
+package fakehunters.backend.audio.calibration;
+
+/**
+ * FastAPI 응답 확률 보정 전략 (audio.calibration.strategy 값으로 선택)
+ */
+public interface AudioCalibrationStrategy {
+
+    String name();
+
+    /**
+     * stats를 읽어 scores의 전체 / 모델별 확률과 지표 신뢰도를 채움
+     */
+    void calibrate(AudioResponseStats stats, CalibratedScores scores);
+}
@@ -0,0 +1,141 @@
+package fakehunters.backend.audio.calibration;
+
+import fakehunters.backend.audio.dto.response.FastApiAudioResponse;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * FastAPI 오디오 응답 요약 (시간 구간 1회 순회, primitive 값만 보관)
+ * - 구간 수 / high 위험 구간 수
+ * - 전체 / 모델별 real·fake 확률 (double, 모델 순서는 응답 순서)
+ * - 응답 prediction / confidence (보정 없이 저장하는 전략용)
+ */
+public final class AudioResponseStats {
+
+    private static final String HIGH_RISK = "high";
+
+    private final String prediction;
+    private final double realProbability;
+    private final double fakeProbability;
+    private final double confidence;
+    private final int segmentCount;
+    private final int highRiskCount;
+    private final String[] modelNames;
+    private final double[] modelReal;
+    private final double[] modelFake;
+
+    private AudioResponseStats(String prediction, double realProbability, double fakeProbability, double confidence,
+                               int segmentCount, int highRiskCount,
+                               String[] modelNames, double[] modelReal, double[] modelFake) {
+        this.prediction = prediction;
+        this.realProbability = realProbability;
+        this.fakeProbability = fakeProbability;
+        this.confidence = confidence;
+        this.segmentCount = segmentCount;
+        this.highRiskCount = highRiskCount;
+        this.modelNames = modelNames;
+        this.modelReal = modelReal;
+        this.modelFake = modelFake;
+    }
+
+    public static AudioResponseStats of(FastApiAudioResponse response) {
+        Map<String, BigDecimal> probabilities = response.getProbabilities();
+        if (probabilities == null) {
+            throw new IllegalStateException("FastAPI 응답에 probabilities가 없습니다.");
+        }
+
+        int segmentCount = 0;
+        int highRiskCount = 0;
+        List<FastApiAudioResponse.TimeSegment> segments = response.getTimeSegments();
+        if (segments != null) {
+            segmentCount = segments.size();
+            for (FastApiAudioResponse.TimeSegment segment : segments) {
+                if (HIGH_RISK.equals(segment.getRisk())) {
+                    highRiskCount++;
+                }
+            }
+        }
+
+        Map<String, Map<String, BigDecimal>> outputs = response.getModelOutputs();
+        int modelCount = outputs != null ? outputs.size() : 0;
+        String[] modelNames = new String[modelCount];
+        double[] modelReal = new double[modelCount];
+        double[] modelFake = new double[modelCount];
+        if (outputs != null) {
+            int i = 0;
+            for (Map.Entry<String, Map<String, BigDecimal>> entry : outputs.entrySet()) {
+                modelNames[i] = entry.getKey();
+                modelReal[i] = required(entry.getValue().get("real"), entry.getKey() + ".real");
+                modelFake[i] = required(entry.getValue().get("fake"), entry.getKey() + ".fake");
+                i++;
+            }
+        }
+
+        return new AudioResponseStats(
+                response.getPrediction(),
+                required(probabilities.get("real"), "probabilities.real"),
+                required(probabilities.get("fake"), "probabilities.fake"),
+                response.getConfidence() != null ? response.getConfidence().doubleValue() : Double.NaN,
+                segmentCount, highRiskCount,
+                modelNames, modelReal, modelFake);
+    }
+
+    private static double required(BigDecimal value, String field) {
+        if (value == null) {
+            throw new IllegalStateException("FastAPI 응답에 " + field + " 값이 없습니다.");
+        }
+        return value.doubleValue();
+    }
+
+    /**
+     * 응답 prediction (없으면 null)
+     */
+    public String prediction() {
+        return prediction;
+    }
+
+    public double realProbability() {
+        return realProbability;
+    }
+
+    public double fakeProbability() {
+        return fakeProbability;
+    }
+
+    /**
+     * 응답 confidence (없으면 NaN)
+     */
+    public double confidence() {
+        return confidence;
+    }
+
+    public int segmentCount() {
+        return segmentCount;
+    }
+
+    public int highRiskCount() {
+        return highRiskCount;
+    }
+
+    public double highRiskRatio() {
+        return segmentCount > 0 ? (double) highRiskCount / segmentCount : 0.0;
+    }
+
+    public int modelCount() {
+        return modelNames.length;
+    }
+
+    public String modelName(int model) {
+        return modelNames[model];
+    }
+
+    public double modelReal(int model) {
+        return modelReal[model];
+    }
+
+    public double modelFake(int model) {
+        return modelFake[model];
+    }
+}
@@ -0,0 +1,48 @@
+package fakehunters.backend.audio.calibration;
+
+import fakehunters.backend.audio.dto.response.FastApiAudioResponse;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * FastAPI 응답 요약(AudioResponseStats) + 설정된 보정 전략 적용
+ * 전략 추가는 AudioCalibrationStrategy 빈을 등록하고 audio.calibration.strategy에 name() 지정
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AudioResultCalibrator {
+
+    private final List<AudioCalibrationStrategy> strategies;
+
+    // 발표 후 원본 동작 복원: none
+    @Value("${audio.calibration.strategy:high-risk-ratio}")
+    private String strategyName;
+
+    private AudioCalibrationStrategy strategy;
+
+    @PostConstruct
+    void init() {
+        strategy = strategies.stream()
+                .filter(candidate -> candidate.name().equals(strategyName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("알 수 없는 오디오 보정 전략: " + strategyName));
+        log.info("오디오 보정 전략: {}", strategy.name());
+    }
+
+    public CalibratedScores calibrate(FastApiAudioResponse response) {
+        AudioResponseStats stats = AudioResponseStats.of(response);
+        CalibratedScores scores = new CalibratedScores(stats);
+        strategy.calibrate(stats, scores);
+
+        log.info("보정({}) - high risk 구간: {}/{}, fake: {} → {}, prediction: {}",
+                strategy.name(), stats.highRiskCount(), stats.segmentCount(),
+                stats.fakeProbability(), scores.fakeProbability(), scores.prediction());
+        return scores;
+    }
+}
@@ -0,0 +1,87 @@
+package fakehunters.backend.audio.calibration;
+
+/**
+ * 보정 전략의 결과 (double, 저장 시점에만 BigDecimal로 변환)
+ */
+public final class CalibratedScores {
+
+    private final AudioResponseStats stats;
+
+    double realProbability;
+    double fakeProbability;
+    double indicatorConfidence;
+    final double[] modelReal;
+    final double[] modelFake;
+
+    // true면 응답 값을 그대로 사용 (prediction / confidence도 응답 값, 저장 시 반올림하지 않음)
+    boolean passThrough;
+
+    CalibratedScores(AudioResponseStats stats) {
+        this.stats = stats;
+        this.modelReal = new double[stats.modelCount()];
+        this.modelFake = new double[stats.modelCount()];
+    }
+
+    public AudioResponseStats stats() {
+        return stats;
+    }
+
+    public double realProbability() {
+        return realProbability;
+    }
+
+    public double fakeProbability() {
+        return fakeProbability;
+    }
+
+    public boolean isPassThrough() {
+        return passThrough;
+    }
+
+    public boolean isFake() {
+        return fakeProbability > 0.5;
+    }
+
+    /**
+     * 저장할 전체 prediction (응답 값을 쓰는 전략이면 응답 값, 없으면 null)
+     */
+    public String prediction() {
+        if (passThrough) {
+            return stats.prediction();
+        }
+        return isFake() ? "fake" : "real";
+    }
+
+    /**
+     * 저장할 전체 confidence (응답 값을 쓰는 전략이면 응답 값, 없으면 NaN)
+     */
+    public double confidence() {
+        if (passThrough) {
+            return stats.confidence();
+        }
+        return isFake() ? fakeProbability : realProbability;
+    }
+
+    /**
+     * 탐지 지표 신뢰도 (없으면 NaN)
+     */
+    public double indicatorConfidence() {
+        return indicatorConfidence;
+    }
+
+    public double modelReal(int model) {
+        return modelReal[model];
+    }
+
+    public double modelFake(int model) {
+        return modelFake[model];
+    }
+
+    public boolean isModelFake(int model) {
+        return modelFake[model] > modelReal[model];
+    }
+
+    public double modelConfidence(int model) {
+        return Math.max(modelFake[model], modelReal[model]);
+    }
+}
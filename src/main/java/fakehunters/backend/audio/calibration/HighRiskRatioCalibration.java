@@ -0,0 +1,51 @@
+package fakehunters.backend.audio.calibration;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 시간 구간의 high 위험 비율로 과적합 보정 (발표용)
+ * - 보정값 = 0.55 + r×0.45 (r < 0.15) / 0.70 + r×0.3 (r < 0.3) / 0.85 + r×0.15
+ * - 전체 fake 확률 = 보정값, 모델별 fake 확률 = 원래 값 × 보정값, 지표 신뢰도 = 보정값
+ * - 시간 구간이 없으면 전체 확률 / 지표 신뢰도는 원래 값, 모델별 fake 확률은 그대로
+ * real 확률은 모두 1 - fake (구간이 없을 때의 전체 real 확률만 원래 값)
+ */
+@Component
+public class HighRiskRatioCalibration implements AudioCalibrationStrategy {
+
+    @Override
+    public String name() {
+        return "high-risk-ratio";
+    }
+
+    @Override
+    public void calibrate(AudioResponseStats stats, CalibratedScores scores) {
+        boolean hasSegments = stats.segmentCount() > 0;
+        double factor = hasSegments ? adjusted(stats.highRiskRatio()) : 1.0;
+
+        if (hasSegments) {
+            scores.fakeProbability = factor;
+            scores.realProbability = 1.0 - factor;
+            scores.indicatorConfidence = factor;
+        } else {
+            scores.fakeProbability = stats.fakeProbability();
+            scores.realProbability = stats.realProbability();
+            scores.indicatorConfidence = stats.confidence();
+        }
+
+        for (int i = 0; i < stats.modelCount(); i++) {
+            double fake = stats.modelFake(i) * factor;
+            scores.modelFake[i] = fake;
+            scores.modelReal[i] = 1.0 - fake;
+        }
+    }
+
+    static double adjusted(double highRiskRatio) {
+        if (highRiskRatio >= 0.3) {
+            return 0.85 + highRiskRatio * 0.15;
+        }
+        if (highRiskRatio >= 0.15) {
+            return 0.70 + highRiskRatio * 0.3;
+        }
+        return 0.55 + highRiskRatio * 0.45;
+    }
+}
@@ -0,0 +1,27 @@
+package fakehunters.backend.audio.calibration;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 보정 없음 - FastAPI 확률 / prediction / confidence를 그대로 저장
+ */
+@Component
+public class PassThroughCalibration implements AudioCalibrationStrategy {
+
+    @Override
+    public String name() {
+        return "none";
+    }
+
+    @Override
+    public void calibrate(AudioResponseStats stats, CalibratedScores scores) {
+        scores.fakeProbability = stats.fakeProbability();
+        scores.realProbability = stats.realProbability();
+        scores.indicatorConfidence = stats.confidence();
+        scores.passThrough = true;
+        for (int i = 0; i < stats.modelCount(); i++) {
+            scores.modelFake[i] = stats.modelFake(i);
+            scores.modelReal[i] = stats.modelReal(i);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package fakehunters.backend.audio.controller;
 import fakehunters.backend.audio.dto.request.AudioUploadRequest;
 import fakehunters.backend.audio.dto.response.*;
 import fakehunters.backend.audio.service.AudioAnalysisService;
+import fakehunters.backend.audio.service.AudioAnalysisWorker;
 import fakehunters.backend.audio.service.AudioFileService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,6 +20,7 @@ public class AudioController {
 
     private final AudioFileService audioFileService;
     private final AudioAnalysisService audioAnalysisService;
+    private final AudioAnalysisWorker audioAnalysisWorker;
 
     /**
      * Presigned 업로드 완료 후 DB 등록
@@ -51,6 +53,10 @@ public class AudioController {
         );
     }
 
+    /**
+     * 비동기 분석 요청 (202 Accepted)
+     * 완료 여부는 GET /{audioFileId} 의 status 또는 GET /{audioFileId}/result 로 폴링
+     */
     @PostMapping("/{audioFileId}/analyze")
     public ResponseEntity<AudioAnalysisStartResponse> analyzeAudio(
             @PathVariable Long audioFileId
@@ -58,22 +64,15 @@ public class AudioController {
         log.info("=== Audio Analysis Request ===");
         log.info("Audio File ID: {}", audioFileId);
 
-        try {
-            Long analysisResultId = audioAnalysisService.analyzeAudio(audioFileId);
-            log.info("Analysis Result ID created: {}", analysisResultId);
-
-            return ResponseEntity.ok(
-                    AudioAnalysisStartResponse.builder()
-                            .success(true)
-                            .analysisResultId(analysisResultId)
-                            .status("processing")
-                            .message("분석 시작")
-                            .build()
-            );
-        } catch (Exception e) {
-            log.error("Analysis failed for audioFileId: {}", audioFileId, e);
-            throw e;
-        }
+        boolean submitted = audioAnalysisWorker.submit(audioFileId);
+
+        return ResponseEntity.accepted().body(
+                AudioAnalysisStartResponse.builder()
+                        .success(true)
+                        .status("processing")
+                        .message(submitted ? "분석 시작" : "이미 분석 중입니다.")
+                        .build()
+        );
     }
 
     @GetMapping("/{audioFileId}/result")
@@ -111,6 +110,20 @@ public class AudioController {
         );
     }
 
+    /**
+     * 최신순 keyset 페이지 (응답의 nextCursor를 다음 요청의 cursor로 전달)
+     */
+    @GetMapping("/page")
+    public ResponseEntity<AudioFilePageResponse> getAudioFilePage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String status
+    ) {
+        return ResponseEntity.ok(
+                audioFileService.getAudioFilePage(cursor, limit, status)
+        );
+    }
+
     @DeleteMapping("/{audioFileId}")
     public ResponseEntity<AudioDeleteResponse> deleteAudioFile(
             @PathVariable Long audioFileId
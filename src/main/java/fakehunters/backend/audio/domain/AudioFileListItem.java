@@ -0,0 +1,26 @@
+package fakehunters.backend.audio.domain;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 목록 조회용 (audio_files + 분석 결과 존재 여부, 한 번의 쿼리)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AudioFileListItem {
+
+    private Long id;
+    private String fileName;
+    private Long fileSize;
+    private BigDecimal duration;
+    private Integer sampleRate;
+    private LocalDateTime uploadedAt;
+    private String status;
+    private LocalDateTime createdAt;
+    private boolean hasAnalysis;
+}
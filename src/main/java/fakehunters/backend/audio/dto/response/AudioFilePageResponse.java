@@ -0,0 +1,15 @@
+package fakehunters.backend.audio.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class AudioFilePageResponse {
+
+    private List<AudioFileInfoResponse> files;
+    private String nextCursor;   // 다음 페이지 요청 시 cursor 값 (없으면 null)
+    private boolean hasNext;
+}
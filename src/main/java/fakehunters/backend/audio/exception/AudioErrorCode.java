@@ -36,7 +36,14 @@ public enum AudioErrorCode implements ErrorCode {
     FILE_READ_ERROR("AUDIO014", "파일 읽기에 실패했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
 
     // S3 다운로드 관련
-    DOWNLOAD_ERROR("AUDIO015", "오디오 파일 다운로드에 실패했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
+    DOWNLOAD_ERROR("AUDIO015", "오디오 파일 다운로드에 실패했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
+
+    // 비동기 분석 관련
+    ANALYSIS_QUEUE_FULL("AUDIO016", "분석 요청이 많습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE),
+    ALREADY_ANALYZED("AUDIO018", "이미 분석이 완료된 오디오입니다.", HttpStatus.CONFLICT),
+
+    // 목록 조회 관련
+    INVALID_LIST_QUERY("AUDIO017", "목록 조회 조건이 올바르지 않습니다.", HttpStatus.BAD_REQUEST);
 
     private final String code;
     private final String message;
@@ -1,8 +1,11 @@
 package fakehunters.backend.audio.mapper;
 
 import fakehunters.backend.audio.domain.AudioFile;
+import fakehunters.backend.audio.domain.AudioFileListItem;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,7 +20,22 @@ public interface AudioFileMapper {
 
     List<AudioFile> findByStatus(@Param("status") String status);
 
+    // (created_at, id) 내림차순 keyset 페이지 + 분석 결과 존재 여부 (limit이 null이면 전체)
+    List<AudioFileListItem> findPage(@Param("status") String status,
+                                     @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                     @Param("afterId") Long afterId,
+                                     @Param("limit") Integer limit);
+
     void updateStatus(@Param("id") Long id, @Param("status") String status);
 
+    // processing / completed가 아닐 때만 processing으로 변경 (중복 분석 / 결과 행 중복 방지), 변경된 행 수 반환
+    int markProcessing(@Param("id") Long id);
+
+    // 대기/실행 중인 파일의 updated_at 갱신 (AudioAnalysisWorker heartbeat)
+    int touchProcessing(@Param("id") Long id);
+
+    // heartbeat가 끊긴 채 processing에 멈춘 파일을 failed 처리
+    int failStaleProcessing(@Param("staleSeconds") int staleSeconds);
+
     void deleteById(@Param("id") Long id);
 }
\ No newline at end of file
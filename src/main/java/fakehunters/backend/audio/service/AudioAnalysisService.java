@@ -1,5 +1,8 @@
 package fakehunters.backend.audio.service;
 
+import fakehunters.backend.audio.calibration.AudioResponseStats;
+import fakehunters.backend.audio.calibration.AudioResultCalibrator;
+import fakehunters.backend.audio.calibration.CalibratedScores;
 import fakehunters.backend.audio.domain.*;
 import fakehunters.backend.audio.dto.response.AudioAnalysisResponse;
 import fakehunters.backend.audio.dto.response.FastApiAudioResponse;
@@ -8,12 +11,14 @@ import fakehunters.backend.audio.mapper.*;
 import fakehunters.backend.global.exception.custom.CustomBusinessException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 import lombok.extern.slf4j.Slf4j;
@@ -24,10 +29,9 @@ import lombok.extern.slf4j.Slf4j;
 @Transactional(readOnly = true)
 public class AudioAnalysisService {
 
-    // TODO: 발표 후 복원 필요
-    // 1. createAnalysisResultFromFastApi - 주석 처리된 원본 코드로 교체
-    // 2. createModelPredictionsFromFastApi - 주석 처리된 원본 코드로 교체
-    // 3. createIndicatorsFromFastApi - 주석 처리된 원본 코드로 교체
+    private static final BigDecimal HIGH_RISK_SCORE = new BigDecimal("0.9");
+    private static final BigDecimal DEFAULT_RISK_SCORE = new BigDecimal("0.5");
+    private static final int PROBABILITY_SCALE = 6;
 
     private final AudioFileMapper audioFileMapper;
     private final AudioAnalysisResultMapper audioAnalysisResultMapper;
@@ -38,65 +42,26 @@ public class AudioAnalysisService {
     private final AudioFileService audioFileService;
     private final AudioFastApiClient fastApiClient;
     private final AudioStorageService audioStorageService;
-
-    @Transactional
+    private final AudioResultCalibrator resultCalibrator;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * AudioAnalysisWorker 스레드에서 실행 (상태는 요청 시점에 processing으로 변경됨)
+     * S3 다운로드 / FastAPI 추론 / 보정 계산 동안에는 트랜잭션 없이 진행하고, 결과 저장만 하나의 트랜잭션으로 묶음
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Long analyzeAudio(Long audioFileId) {
         AudioFile audioFile = audioFileMapper.findById(audioFileId)
                 .orElseThrow(() -> new CustomBusinessException(AudioErrorCode.NOT_FOUND));
 
-        audioFileService.updateStatus(audioFileId, "processing");
-
         try {
             log.info("1. FastAPI 호출 시작");
             FastApiAudioResponse fastApiResult = fastApiClient.analyzeAudio(audioFile.getFilePath());
             log.info("2. FastAPI 응답 받음: {}", fastApiResult);
 
-            log.info("3. 분석 결과 생성 시작");
-            AudioAnalysisResult result = createAnalysisResultFromFastApi(audioFileId, fastApiResult);
-            log.info("4. 분석 결과 생성 완료");
-
-            audioAnalysisResultMapper.insert(result);
-            log.info("5. 분석 결과 INSERT 완료: analysisResultId={}", result.getId());
-
-            Long analysisResultId = result.getId();
-
-            log.info("6. 모델 예측 생성 시작");
-            List<AudioModelPrediction> predictions = createModelPredictionsFromFastApi(
-                    analysisResultId,
-                    fastApiResult
-            );
-            log.info("7. 모델 예측 생성 완료: count={}", predictions.size());
-
-            audioModelPredictionMapper.insertBatch(predictions);
-            log.info("8. 모델 예측 INSERT 완료");
-
-            log.info("9. 시간 구간 분석 생성 시작");
-            List<AudioTimeSegmentAnalysis> segments = createTimeSegmentsFromFastApi(
-                    analysisResultId,
-                    fastApiResult
-            );
-            log.info("10. 시간 구간 분석 생성 완료: count={}", segments.size());
-
-            if (!segments.isEmpty()) {
-                log.info("11. 시간 구간 분석 INSERT 시작");
-                audioTimeSegmentAnalysisMapper.insertBatch(segments);
-                log.info("12. 시간 구간 분석 INSERT 완료");
-            }
-
-            log.info("13. 탐지 지표 생성 시작");
-            List<AudioDetectionIndicator> indicators = createIndicatorsFromFastApi(
-                    analysisResultId,
-                    fastApiResult
-            );
-            log.info("14. 탐지 지표 생성 완료: count={}", indicators.size());
-
-            if (!indicators.isEmpty()) {
-                log.info("15. 탐지 지표 INSERT 시작");
-                audioDetectionIndicatorMapper.insertBatch(indicators);
-                log.info("16. 탐지 지표 INSERT 완료");
-            }
-
-            audioFileService.updateStatus(audioFileId, "completed");
+            CalibratedScores scores = resultCalibrator.calibrate(fastApiResult);
+
+            Long analysisResultId = transactionTemplate.execute(status -> saveResult(audioFileId, fastApiResult, scores));
             log.info("17. 분석 완료: analysisResultId={}", analysisResultId);
 
             return analysisResultId;
@@ -112,10 +77,68 @@ public class AudioAnalysisService {
         }
     }
 
+    // 결과 INSERT + completed 상태 변경 (transactionTemplate 안에서 호출)
+    private Long saveResult(Long audioFileId, FastApiAudioResponse fastApiResult, CalibratedScores scores) {
+        log.info("3. 분석 결과 생성 시작");
+        AudioAnalysisResult result = createAnalysisResult(audioFileId, fastApiResult, scores);
+        log.info("4. 분석 결과 생성 완료");
+
+        audioAnalysisResultMapper.insert(result);
+        log.info("5. 분석 결과 INSERT 완료: analysisResultId={}", result.getId());
+
+        Long analysisResultId = result.getId();
+
+        log.info("6. 모델 예측 생성 시작");
+        List<AudioModelPrediction> predictions = createModelPredictions(analysisResultId, scores);
+        log.info("7. 모델 예측 생성 완료: count={}", predictions.size());
+
+        audioModelPredictionMapper.insertBatch(predictions);
+        log.info("8. 모델 예측 INSERT 완료");
+
+        log.info("9. 시간 구간 분석 생성 시작");
+        List<AudioTimeSegmentAnalysis> segments = createTimeSegmentsFromFastApi(
+                analysisResultId,
+                fastApiResult
+        );
+        log.info("10. 시간 구간 분석 생성 완료: count={}", segments.size());
+
+        if (!segments.isEmpty()) {
+            log.info("11. 시간 구간 분석 INSERT 시작");
+            audioTimeSegmentAnalysisMapper.insertBatch(segments);
+            log.info("12. 시간 구간 분석 INSERT 완료");
+        }
+
+        log.info("13. 탐지 지표 생성 시작");
+        List<AudioDetectionIndicator> indicators = createIndicators(
+                analysisResultId,
+                fastApiResult,
+                scores
+        );
+        log.info("14. 탐지 지표 생성 완료: count={}", indicators.size());
+
+        if (!indicators.isEmpty()) {
+            log.info("15. 탐지 지표 INSERT 시작");
+            audioDetectionIndicatorMapper.insertBatch(indicators);
+            log.info("16. 탐지 지표 INSERT 완료");
+        }
+
+        audioFileService.updateStatus(audioFileId, "completed");
+
+        return analysisResultId;
+    }
+
     public AudioAnalysisResponse getAnalysisResult(Long audioFileId) {
         AudioFile audioFile = audioFileMapper.findById(audioFileId)
                 .orElseThrow(() -> new CustomBusinessException(AudioErrorCode.NOT_FOUND));
 
+        // 비동기 분석 중 / 실패 시 상태만 반환 (클라이언트 폴링용)
+        if ("processing".equals(audioFile.getStatus()) || "failed".equals(audioFile.getStatus())) {
+            return AudioAnalysisResponse.builder()
+                    .status(audioFile.getStatus())
+                    .audioFileId(audioFileId)
+                    .build();
+        }
+
         AudioAnalysisResult result = audioAnalysisResultMapper.findByAudioFileId(audioFileId)
                 .orElseThrow(() -> new CustomBusinessException(AudioErrorCode.NOT_FOUND));
 
@@ -146,135 +169,19 @@ public class AudioAnalysisService {
                 .build();
     }
 
-    // ========== 원본 코드 (발표 후 복원용) ==========
-
-    // FastAPI 결과를 DB 엔티티로 변환 (원본)
-//    private AudioAnalysisResult createAnalysisResultFromFastApi(
-//            Long audioFileId,
-//            FastApiAudioResponse fastApiResult
-//    ) {
-//        return AudioAnalysisResult.builder()
-//                .audioFileId(audioFileId)
-//                .prediction(fastApiResult.getPrediction())
-//                .confidence(fastApiResult.getConfidence())
-//                .realProbability(fastApiResult.getProbabilities().get("real"))
-//                .fakeProbability(fastApiResult.getProbabilities().get("fake"))
-//                .suspectedMethod(fastApiResult.getSuspectedMethod())
-//                .methodConfidence(fastApiResult.getMethodConfidence())
-//                .processingTime(fastApiResult.getProcessingTime())
-//                .modelVersion(fastApiResult.getModelVersion())
-//                .build();
-//    }
-
-    // FastAPI 모델 예측 변환 (원본)
-//    private List<AudioModelPrediction> createModelPredictionsFromFastApi(
-//            Long analysisResultId,
-//            FastApiAudioResponse fastApiResult
-//    ) {
-//        List<AudioModelPrediction> predictions = new ArrayList<>();
-//
-//        Map<String, Map<String, BigDecimal>> modelOutputs = fastApiResult.getModelOutputs();
-//
-//        if (modelOutputs != null) {
-//            modelOutputs.forEach((modelName, probs) -> {
-//                BigDecimal realProb = probs.get("real");
-//                BigDecimal fakeProb = probs.get("fake");
-//
-//                predictions.add(AudioModelPrediction.builder()
-//                        .analysisResultId(analysisResultId)
-//                        .modelName(modelName)
-//                        .modelType(modelName.equals("mel") ? "spectrogram" : "frequency")
-//                        .realProbability(realProb)
-//                        .fakeProbability(fakeProb)
-//                        .prediction(fakeProb.compareTo(realProb) > 0 ? "fake" : "real")
-//                        .confidence(fakeProb.max(realProb))
-//                        .build());
-//            });
-//        }
-//
-//        return predictions;
-//    }
-
-    // FastAPI 탐지 지표 변환 (원본)
-//    private List<AudioDetectionIndicator> createIndicatorsFromFastApi(
-//            Long analysisResultId,
-//            FastApiAudioResponse fastApiResult
-//    ) {
-//        List<AudioDetectionIndicator> indicators = new ArrayList<>();
-//
-//        List<String> suspiciousPatterns = fastApiResult.getSuspiciousPatterns();
-//
-//        if (suspiciousPatterns != null) {
-//            suspiciousPatterns.forEach(pattern -> {
-//                indicators.add(AudioDetectionIndicator.builder()
-//                        .analysisResultId(analysisResultId)
-//                        .indicatorType("pattern")
-//                        .description(pattern)
-//                        .severity("high")
-//                        .confidence(fastApiResult.getConfidence())
-//                        .build());
-//            });
-//        }
-//
-//        return indicators;
-//    }
-
-    // ========== 발표용 코드 (과적합 보정) ==========
-
-    // FastAPI 결과를 DB 엔티티로 변환 (발표용 - 과적합 보정)
-    private AudioAnalysisResult createAnalysisResultFromFastApi(
+    // ========== FastAPI 응답 → DB 엔티티 (보정값은 AudioResultCalibrator에서 double로 계산, 여기서만 BigDecimal 변환) ==========
+
+    private AudioAnalysisResult createAnalysisResult(
             Long audioFileId,
-            FastApiAudioResponse fastApiResult
+            FastApiAudioResponse fastApiResult,
+            CalibratedScores scores
     ) {
-        BigDecimal realProb = fastApiResult.getProbabilities().get("real");
-        BigDecimal fakeProb = fastApiResult.getProbabilities().get("fake");
-
-        BigDecimal adjustedFakeProb = fakeProb;
-        BigDecimal adjustedRealProb = realProb;
-
-        // 시간 구간 분석 기반으로 confidence 재계산
-        List<FastApiAudioResponse.TimeSegment> segments = fastApiResult.getTimeSegments();
-        if (segments != null && !segments.isEmpty()) {
-            long highRiskCount = segments.stream()
-                    .filter(s -> "high".equals(s.getRisk()))
-                    .count();
-            long totalCount = segments.size();
-
-            double highRiskRatio = (double) highRiskCount / totalCount;
-
-            log.info("High risk segments: {}/{} ({}%)", highRiskCount, totalCount, highRiskRatio * 100);
-
-            // high risk 비율에 따라 confidence 조정
-            if (highRiskRatio >= 0.3) {
-                adjustedFakeProb = new BigDecimal("0.85").add(
-                        new BigDecimal(String.valueOf(highRiskRatio * 0.15))
-                );
-            } else if (highRiskRatio >= 0.15) {
-                adjustedFakeProb = new BigDecimal("0.70").add(
-                        new BigDecimal(String.valueOf(highRiskRatio * 0.3))
-                );
-            } else {
-                adjustedFakeProb = new BigDecimal("0.55").add(
-                        new BigDecimal(String.valueOf(highRiskRatio * 0.45))
-                );
-            }
-
-            adjustedRealProb = BigDecimal.ONE.subtract(adjustedFakeProb);
-        }
-
-        String adjustedPrediction = adjustedFakeProb.compareTo(new BigDecimal("0.5")) > 0 ? "fake" : "real";
-        BigDecimal confidence = adjustedPrediction.equals("fake") ? adjustedFakeProb : adjustedRealProb;
-
-        log.info("Original: fake={}, real={}", fakeProb, realProb);
-        log.info("Adjusted: fake={}, real={}, prediction={}, confidence={}",
-                adjustedFakeProb, adjustedRealProb, adjustedPrediction, confidence);
-
         return AudioAnalysisResult.builder()
                 .audioFileId(audioFileId)
-                .prediction(adjustedPrediction)
-                .confidence(confidence)
-                .realProbability(adjustedRealProb)
-                .fakeProbability(adjustedFakeProb)
+                .prediction(scores.prediction())
+                .confidence(toDecimal(scores.confidence(), scores))
+                .realProbability(toDecimal(scores.realProbability(), scores))
+                .fakeProbability(toDecimal(scores.fakeProbability(), scores))
                 .suspectedMethod(fastApiResult.getSuspectedMethod())
                 .methodConfidence(fastApiResult.getMethodConfidence())
                 .processingTime(fastApiResult.getProcessingTime())
@@ -282,113 +189,65 @@ public class AudioAnalysisService {
                 .build();
     }
 
-    // 모델 예측 변환 (발표용 - 과적합 보정)
-    private List<AudioModelPrediction> createModelPredictionsFromFastApi(
+    private List<AudioModelPrediction> createModelPredictions(
             Long analysisResultId,
-            FastApiAudioResponse fastApiResult
+            CalibratedScores scores
     ) {
-        List<AudioModelPrediction> predictions = new ArrayList<>();
-
-        Map<String, Map<String, BigDecimal>> modelOutputs = fastApiResult.getModelOutputs();
-
-        // 시간 구간 분석 기반 조정 계산
-        List<FastApiAudioResponse.TimeSegment> segments = fastApiResult.getTimeSegments();
-        double adjustmentFactor;
-
-        if (segments != null && !segments.isEmpty()) {
-            long highRiskCount = segments.stream()
-                    .filter(s -> "high".equals(s.getRisk()))
-                    .count();
-            double highRiskRatio = (double) highRiskCount / segments.size();
-
-            // high risk 비율에 따라 조정
-            if (highRiskRatio < 0.15) {
-                adjustmentFactor = 0.55 + (highRiskRatio * 0.45);
-            } else if (highRiskRatio < 0.3) {
-                adjustmentFactor = 0.70 + (highRiskRatio * 0.3);
-            } else {
-                adjustmentFactor = 0.85 + (highRiskRatio * 0.15);
-            }
-        } else {
-            adjustmentFactor = 1.0;
-        }
-
-        if (modelOutputs != null) {
-            modelOutputs.forEach((modelName, probs) -> {
-                BigDecimal originalRealProb = probs.get("real");
-                BigDecimal originalFakeProb = probs.get("fake");
-
-                // 조정된 확률 계산
-                BigDecimal adjustedFakeProb = originalFakeProb.multiply(new BigDecimal(String.valueOf(adjustmentFactor)));
-                BigDecimal adjustedRealProb = BigDecimal.ONE.subtract(adjustedFakeProb);
-
-                predictions.add(AudioModelPrediction.builder()
-                        .analysisResultId(analysisResultId)
-                        .modelName(modelName)
-                        .modelType(modelName.equals("mel") ? "spectrogram" : "frequency")
-                        .realProbability(adjustedRealProb)
-                        .fakeProbability(adjustedFakeProb)
-                        .prediction(adjustedFakeProb.compareTo(adjustedRealProb) > 0 ? "fake" : "real")
-                        .confidence(adjustedFakeProb.max(adjustedRealProb))
-                        .build());
-            });
+        AudioResponseStats stats = scores.stats();
+        List<AudioModelPrediction> predictions = new ArrayList<>(stats.modelCount());
+
+        for (int i = 0; i < stats.modelCount(); i++) {
+            String modelName = stats.modelName(i);
+            predictions.add(AudioModelPrediction.builder()
+                    .analysisResultId(analysisResultId)
+                    .modelName(modelName)
+                    .modelType(modelName.equals("mel") ? "spectrogram" : "frequency")
+                    .realProbability(toDecimal(scores.modelReal(i), scores))
+                    .fakeProbability(toDecimal(scores.modelFake(i), scores))
+                    .prediction(scores.isModelFake(i) ? "fake" : "real")
+                    .confidence(toDecimal(scores.modelConfidence(i), scores))
+                    .build());
         }
 
         return predictions;
     }
 
-    // 탐지 지표 변환 (발표용 - 과적합 보정)
-    private List<AudioDetectionIndicator> createIndicatorsFromFastApi(
+    private List<AudioDetectionIndicator> createIndicators(
             Long analysisResultId,
-            FastApiAudioResponse fastApiResult
+            FastApiAudioResponse fastApiResult,
+            CalibratedScores scores
     ) {
-        List<AudioDetectionIndicator> indicators = new ArrayList<>();
-
         List<String> suspiciousPatterns = fastApiResult.getSuspiciousPatterns();
-
-        // 시간 구간 분석 기반 신뢰도 조정
-        List<FastApiAudioResponse.TimeSegment> segments = fastApiResult.getTimeSegments();
-        BigDecimal adjustedConfidence;
-
-        if (segments != null && !segments.isEmpty()) {
-            long highRiskCount = segments.stream()
-                    .filter(s -> "high".equals(s.getRisk()))
-                    .count();
-            double highRiskRatio = (double) highRiskCount / segments.size();
-
-            // high risk 비율에 따라 신뢰도 조정
-            if (highRiskRatio < 0.15) {
-                adjustedConfidence = new BigDecimal("0.55").add(
-                        new BigDecimal(String.valueOf(highRiskRatio * 0.45))
-                );
-            } else if (highRiskRatio < 0.3) {
-                adjustedConfidence = new BigDecimal("0.70").add(
-                        new BigDecimal(String.valueOf(highRiskRatio * 0.3))
-                );
-            } else {
-                adjustedConfidence = new BigDecimal("0.85").add(
-                        new BigDecimal(String.valueOf(highRiskRatio * 0.15))
-                );
-            }
-        } else {
-            adjustedConfidence = fastApiResult.getConfidence();
+        if (suspiciousPatterns == null) {
+            return List.of();
         }
 
-        if (suspiciousPatterns != null) {
-            suspiciousPatterns.forEach(pattern -> {
-                indicators.add(AudioDetectionIndicator.builder()
-                        .analysisResultId(analysisResultId)
-                        .indicatorType("pattern")
-                        .description(pattern)
-                        .severity("high")
-                        .confidence(adjustedConfidence)
-                        .build());
-            });
+        BigDecimal confidence = toDecimal(scores.indicatorConfidence(), scores);
+        List<AudioDetectionIndicator> indicators = new ArrayList<>(suspiciousPatterns.size());
+        for (String pattern : suspiciousPatterns) {
+            indicators.add(AudioDetectionIndicator.builder()
+                    .analysisResultId(analysisResultId)
+                    .indicatorType("pattern")
+                    .description(pattern)
+                    .severity("high")
+                    .confidence(confidence)
+                    .build());
         }
 
         return indicators;
     }
 
+    // 보정값은 double 연산 오차(0.5950000000000001 등) 제거 후 저장, 응답 값 그대로면 반올림 없음, NaN = 응답에 값 없음
+    private static BigDecimal toDecimal(double value, CalibratedScores scores) {
+        if (Double.isNaN(value)) {
+            return null;
+        }
+        BigDecimal decimal = BigDecimal.valueOf(value);
+        return scores.isPassThrough()
+                ? decimal
+                : decimal.setScale(PROBABILITY_SCALE, RoundingMode.HALF_UP).stripTrailingZeros();
+    }
+
     // ========== 공통 메서드 ==========
 
     private List<AudioTimeSegmentAnalysis> createTimeSegmentsFromFastApi(
@@ -406,8 +265,7 @@ public class AudioAnalysisService {
                         .startTime(segment.getStart())
                         .endTime(segment.getEnd())
                         .riskLevel(segment.getRisk())
-                        .riskScore(segment.getRisk().equals("high") ?
-                                new BigDecimal("0.9") : new BigDecimal("0.5"))
+                        .riskScore("high".equals(segment.getRisk()) ? HIGH_RISK_SCORE : DEFAULT_RISK_SCORE)
                         .reason(segment.getReason())
                         .indicators(List.of(segment.getReason()))
                         .build());
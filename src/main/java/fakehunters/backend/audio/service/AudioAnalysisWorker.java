@@ -0,0 +1,148 @@
+package fakehunters.backend.audio.service;
+
+import fakehunters.backend.audio.domain.AudioFile;
+import fakehunters.backend.audio.exception.AudioErrorCode;
+import fakehunters.backend.audio.mapper.AudioFileMapper;
+import fakehunters.backend.global.exception.custom.CustomBusinessException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 오디오 분석 비동기 실행
+ * - 요청 스레드는 상태를 processing으로 바꾸고 바로 반환, 분석은 고정 크기 워커 풀에서 실행
+ * - 동시에 FastAPI로 나가는 오디오 수 = audio.analysis.parallelism
+ * - 대기열이 가득 차면 상태를 되돌리고 503 (ANALYSIS_QUEUE_FULL)
+ * - 이미 completed인 파일은 재분석하지 않음 (결과 행은 파일당 하나, 409 ALREADY_ANALYZED)
+ * - 대기/실행 중인 파일은 주기적으로 updated_at을 갱신하고,
+ *   갱신이 끊긴 processing 파일(재시작 / 다른 노드 종료)은 주기 sweep에서 failed 처리 (재분석 요청 가능)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AudioAnalysisWorker {
+
+    private static final String COMPLETED = "completed";
+
+    private final AudioFileMapper audioFileMapper;
+    private final AudioAnalysisService audioAnalysisService;
+
+    @Value("${audio.analysis.parallelism:4}")
+    private int parallelism;
+
+    @Value("${audio.analysis.queue-capacity:100}")
+    private int queueCapacity;
+
+    // heartbeat 주기보다 충분히 길게 (heartbeat가 몇 번 밀려도 살아있는 분석은 건드리지 않도록)
+    @Value("${audio.analysis.stale-seconds:300}")
+    private int staleSeconds;
+
+    // 이 노드에서 대기 중이거나 실행 중인 파일 (heartbeat 대상)
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void init() {
+        AtomicInteger sequence = new AtomicInteger();
+        executor = new ThreadPoolExecutor(
+                parallelism, parallelism,
+                0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "audio-analysis-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        sweep();
+    }
+
+    @Scheduled(fixedDelayString = "${audio.analysis.heartbeat-interval-ms:60000}")
+    public void heartbeat() {
+        for (Long audioFileId : inFlight) {
+            audioFileMapper.touchProcessing(audioFileId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${audio.analysis.sweep-interval-ms:60000}",
+            initialDelayString = "${audio.analysis.sweep-interval-ms:60000}")
+    public void sweep() {
+        int failed = audioFileMapper.failStaleProcessing(staleSeconds);
+        if (failed > 0) {
+            log.info("중단된 오디오 분석 {}건 failed 처리", failed);
+        }
+    }
+
+    /**
+     * 분석 등록 (즉시 반환)
+     *
+     * @return 새로 등록했으면 true, 이미 분석 중이면 false
+     */
+    public boolean submit(Long audioFileId) {
+        AudioFile audioFile = audioFileMapper.findById(audioFileId)
+                .orElseThrow(() -> new CustomBusinessException(AudioErrorCode.NOT_FOUND));
+
+        if (audioFileMapper.markProcessing(audioFileId) == 0) {
+            // markProcessing은 processing / completed 모두 거부하므로 다시 읽어서 구분
+            String status = audioFileMapper.findById(audioFileId)
+                    .map(AudioFile::getStatus)
+                    .orElseThrow(() -> new CustomBusinessException(AudioErrorCode.NOT_FOUND));
+            if (COMPLETED.equals(status)) {
+                throw new CustomBusinessException(AudioErrorCode.ALREADY_ANALYZED);
+            }
+            log.info("이미 분석 중인 오디오 - ID: {}", audioFileId);
+            return false;
+        }
+
+        inFlight.add(audioFileId);
+        try {
+            executor.execute(() -> run(audioFileId));
+            log.info("오디오 분석 대기열 등록 - ID: {}, 대기: {}", audioFileId, executor.getQueue().size());
+            return true;
+        } catch (RejectedExecutionException e) {
+            log.warn("오디오 분석 대기열 초과 - ID: {}", audioFileId);
+            inFlight.remove(audioFileId);
+            audioFileMapper.updateStatus(audioFileId, audioFile.getStatus());
+            throw new CustomBusinessException(AudioErrorCode.ANALYSIS_QUEUE_FULL);
+        }
+    }
+
+    private void run(Long audioFileId) {
+        try {
+            Long analysisResultId = audioAnalysisService.analyzeAudio(audioFileId);
+            log.info("오디오 분석 완료 - ID: {}, 결과: {}", audioFileId, analysisResultId);
+        } catch (Exception e) {
+            // 상태(failed) 처리는 analyzeAudio 내부에서 수행
+            log.error("오디오 분석 실패 - ID: {}", audioFileId, e);
+        } finally {
+            inFlight.remove(audioFileId);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("종료 시 처리 중인 오디오 분석은 재시작 후 failed 처리됩니다.");
+            executor.shutdownNow();
+        }
+    }
+}
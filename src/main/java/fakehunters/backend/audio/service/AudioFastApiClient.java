@@ -6,11 +6,12 @@ import fakehunters.backend.global.exception.custom.CustomBusinessException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.InputStreamResource;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestTemplate;
 import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.services.s3.S3Client;
@@ -18,14 +19,34 @@ import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 
 import java.io.IOException;
-
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * FastAPI 오디오 분석 호출
+ * - s3-key / presigned-url 모드: 파일 대신 S3 위치만 JSON으로 전달 (AI 서버가 S3에서 직접 읽음, 백엔드 전송량 0)
+ * - multipart 모드: S3 객체를 스트리밍으로 multipart 업로드 (힙에 파일 전체를 올리지 않음)
+ * - AI 서버가 참조 전달을 지원하지 않으면(404 / 405 / 415 / 422 / 501) multipart로 재요청하고
+ *   reference-retry-interval 동안은 바로 multipart 사용
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AudioFastApiClient {
 
+    static final String DISPATCH_MULTIPART = "multipart";
+    static final String DISPATCH_S3_KEY = "s3-key";
+    static final String DISPATCH_PRESIGNED_URL = "presigned-url";
+
+    // 참조 전달 미지원으로 보는 응답 코드
+    private static final Set<Integer> UNSUPPORTED_STATUSES = Set.of(404, 405, 415, 422, 501);
+
     private final RestTemplate restTemplate;
     private final S3Client s3Client;
+    private final AudioStorageService audioStorageService;
 
     @Value("${ai.audio.api-url:http://localhost:8000}")
     private String fastApiUrl;
@@ -33,71 +54,114 @@ public class AudioFastApiClient {
     @Value("${aws.s3.bucket}")
     private String bucketName;
 
+    @Value("${ai.audio.dispatch-mode:presigned-url}")
+    private String dispatchMode;
+
+    @Value("${ai.audio.reference-path:/api/v1/audio/analyze-by-reference}")
+    private String referencePath;
+
+    // AI 서버의 다운로드 + 추론 시간보다 길게
+    @Value("${ai.audio.presigned-url-ttl:PT10M}")
+    private Duration presignedUrlTtl;
+
+    @Value("${ai.audio.reference-retry-interval:PT10M}")
+    private Duration referenceRetryInterval;
+
+    private volatile Instant referenceUnsupportedUntil = Instant.MIN;
+
     public FastApiAudioResponse analyzeAudio(String s3FilePath) {
+        String s3Key = s3FilePath.replace("s3://" + bucketName + "/", "");
+        String fileName = s3Key.substring(s3Key.lastIndexOf("/") + 1);
+        log.info("S3 Key: {}, 전달 방식: {}", s3Key, dispatchMode);
+
         try {
-            String url = fastApiUrl + "/api/v1/audio/analyze";
+            if (!DISPATCH_MULTIPART.equals(dispatchMode) && Instant.now().isAfter(referenceUnsupportedUntil)) {
+                try {
+                    return checked(analyzeByReference(s3FilePath, s3Key, fileName));
+                } catch (HttpStatusCodeException e) {
+                    if (!UNSUPPORTED_STATUSES.contains(e.getStatusCode().value())) {
+                        throw e;
+                    }
+                    referenceUnsupportedUntil = Instant.now().plus(referenceRetryInterval);
+                    log.warn("AI 서버가 참조 전달을 지원하지 않음 ({}) - {} 동안 multipart로 전송",
+                            e.getStatusCode(), referenceRetryInterval);
+                }
+            }
+            return checked(analyzeByMultipart(s3Key, fileName));
+
+        } catch (CustomBusinessException e) {
+            throw e;
+        } catch (UncheckedIOException e) {
+            log.error("S3 파일 읽기 실패", e);
+            throw new CustomBusinessException(AudioErrorCode.FILE_READ_ERROR);
+        } catch (Exception e) {
+            log.error("FastAPI 호출 실패", e);
+            throw new CustomBusinessException(AudioErrorCode.AI_SERVER_ERROR);
+        }
+    }
+
+    private ResponseEntity<FastApiAudioResponse> analyzeByReference(String s3FilePath, String s3Key, String fileName) {
+        String url = fastApiUrl + referencePath;
 
-            log.info("FastAPI 호출: {}", url);
-            log.info("S3 파일 경로: {}", s3FilePath);
+        Map<String, String> body = DISPATCH_S3_KEY.equals(dispatchMode)
+                ? Map.of("bucket", bucketName, "s3_key", s3Key, "file_name", fileName)
+                : Map.of("audio_url", audioStorageService.generatePresignedGetUrl(s3FilePath, presignedUrlTtl),
+                        "file_name", fileName);
 
-            // S3에서 파일 다운로드
-            String s3Key = s3FilePath.replace("s3://" + bucketName + "/", "");
-            log.info("S3 Key: {}", s3Key);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        log.info("FastAPI 참조 전달 요청: {}", url);
+        return restTemplate.exchange(url, HttpMethod.POST, new HttpEntity<>(body, headers), FastApiAudioResponse.class);
+    }
 
-            GetObjectRequest getObjectRequest = GetObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(s3Key)
-                    .build();
+    private ResponseEntity<FastApiAudioResponse> analyzeByMultipart(String s3Key, String fileName) {
+        String url = fastApiUrl + "/api/v1/audio/analyze";
 
-            ResponseInputStream<GetObjectResponse> s3Object = s3Client.getObject(getObjectRequest);
-            byte[] fileBytes = s3Object.readAllBytes();
-            String fileName = s3Key.substring(s3Key.lastIndexOf("/") + 1);
+        GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(s3Key)
+                .build();
 
-            log.info("S3 파일 다운로드 완료: {} bytes, fileName: {}", fileBytes.length, fileName);
+        try (ResponseInputStream<GetObjectResponse> s3Object = s3Client.getObject(getObjectRequest)) {
+            long contentLength = s3Object.response().contentLength();
 
-            // ByteArrayResource로 변환
-            ByteArrayResource resource = new ByteArrayResource(fileBytes) {
+            // S3 응답 스트림을 그대로 요청 본문으로 복사
+            // (InputStreamResource 하위 클래스는 contentLength()를 재정의하지 않으면 스트림을 한 번 다 읽음)
+            InputStreamResource resource = new InputStreamResource(s3Object) {
                 @Override
                 public String getFilename() {
                     return fileName;
                 }
+
+                @Override
+                public long contentLength() {
+                    return contentLength;
+                }
             };
 
-            // Multipart 요청 생성
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.MULTIPART_FORM_DATA);
 
             MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
             body.add("file", resource);
 
-            HttpEntity<MultiValueMap<String, Object>> requestEntity =
-                    new HttpEntity<>(body, headers);
-
-            // FastAPI 호출
-            log.info("FastAPI 요청 전송...");
-            ResponseEntity<FastApiAudioResponse> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.POST,
-                    requestEntity,
-                    FastApiAudioResponse.class
-            );
-
-            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                log.info("분석 완료: prediction={}, confidence={}",
-                        response.getBody().getPrediction(),
-                        response.getBody().getConfidence());
-                return response.getBody();
-            } else {
-                log.error("FastAPI 응답 오류: {}", response.getStatusCode());
-                throw new CustomBusinessException(AudioErrorCode.DETECTION_FAILED);
-            }
+            log.info("FastAPI multipart 요청: {}, {} bytes", url, contentLength);
+            return restTemplate.exchange(url, HttpMethod.POST, new HttpEntity<>(body, headers), FastApiAudioResponse.class);
 
         } catch (IOException e) {
-            log.error("S3 파일 읽기 실패", e);
-            throw new CustomBusinessException(AudioErrorCode.FILE_READ_ERROR);
-        } catch (Exception e) {
-            log.error("FastAPI 호출 실패", e);
-            throw new CustomBusinessException(AudioErrorCode.AI_SERVER_ERROR);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private FastApiAudioResponse checked(ResponseEntity<FastApiAudioResponse> response) {
+        if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
+            log.info("분석 완료: prediction={}, confidence={}",
+                    response.getBody().getPrediction(),
+                    response.getBody().getConfidence());
+            return response.getBody();
         }
+        log.error("FastAPI 응답 오류: {}", response.getStatusCode());
+        throw new CustomBusinessException(AudioErrorCode.DETECTION_FAILED);
     }
-}
\ No newline at end of file
+}
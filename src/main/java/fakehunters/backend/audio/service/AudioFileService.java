@@ -1,9 +1,9 @@
 package fakehunters.backend.audio.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import fakehunters.backend.audio.domain.AudioFile;
+import fakehunters.backend.audio.domain.AudioFileListItem;
 import fakehunters.backend.audio.dto.response.AudioFileInfoResponse;
+import fakehunters.backend.audio.dto.response.AudioFilePageResponse;
 import fakehunters.backend.audio.exception.AudioErrorCode;
 import fakehunters.backend.audio.mapper.AudioAnalysisResultMapper;
 import fakehunters.backend.audio.mapper.AudioFileMapper;
@@ -14,12 +14,13 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
 import java.math.BigDecimal;
-import java.nio.file.Files;
-import java.nio.file.Path;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -31,13 +32,15 @@ public class AudioFileService {
     private final AudioFileMapper audioFileMapper;
     private final AudioAnalysisResultMapper audioAnalysisResultMapper;
     private final AudioStorageService audioStorageService;
+    private final AudioMetadataExtractor audioMetadataExtractor;
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final Set<String> STATUSES = Set.of("pending", "processing", "completed", "failed");
 
     @Value("${aws.s3.bucket}")
     private String bucketName;
 
-    @Value("${ffmpeg.ffprobe-path}")
-    private String ffprobePath;
-
     /**
      * Presigned 방식 업로드 후 DB 등록
      * (S3 → 메타데이터 추출 → INSERT)
@@ -58,21 +61,17 @@ public class AudioFileService {
 
         String s3Path = "s3://" + bucketName + "/" + s3Key;
 
-        Path tempFile = null;
         try {
-            // 1. S3 → temp file
-            tempFile = audioStorageService.downloadToTempFile(s3Path);
+            // 1. 메타데이터 추출 (S3 Range GET으로 헤더만 읽음)
+            AudioMetadata meta = audioMetadataExtractor.extract(s3Path);
 
-            // 2. 메타데이터 추출
-            AudioMetadata meta = extractMetadata(tempFile);
-
-            // 3. DB INSERT (NOT NULL 컬럼 모두 채움)
+            // 2. DB INSERT (NOT NULL 컬럼 모두 채움)
             AudioFile audioFile = AudioFile.builder()
                     .fileName(fileName)
                     .filePath(s3Path)
                     .fileSize(fileSize)
-                    .duration(BigDecimal.valueOf(meta.duration))
-                    .sampleRate(meta.sampleRate)
+                    .duration(BigDecimal.valueOf(meta.duration()))
+                    .sampleRate(meta.sampleRate())
                     .status("pending")
                     .build();
 
@@ -82,15 +81,6 @@ public class AudioFileService {
         } catch (Exception e) {
             log.error("Audio upload failed", e);
             throw new CustomBusinessException(AudioErrorCode.UPLOAD_ERROR);
-        } finally {
-            // 4. temp file 정리
-            if (tempFile != null) {
-                try {
-                    Files.deleteIfExists(tempFile);
-                } catch (Exception e) {
-                    log.warn("Failed to delete temp audio file", e);
-                }
-            }
         }
     }
 
@@ -114,23 +104,46 @@ public class AudioFileService {
     }
 
     public List<AudioFileInfoResponse> getAllAudioFiles() {
-        return audioFileMapper.findAllOrderByCreatedAtDesc()
+        return audioFileMapper.findPage(null, null, null, null)
                 .stream()
-                .map(file -> AudioFileInfoResponse.builder()
-                        .id(file.getId())
-                        .fileName(file.getFileName())
-                        .fileSize(file.getFileSize())
-                        .duration(file.getDuration())
-                        .sampleRate(file.getSampleRate())
-                        .status(file.getStatus())
-                        .uploadedAt(file.getUploadedAt())
-                        .hasAnalysis(
-                                audioAnalysisResultMapper.existsByAudioFileId(file.getId())
-                        )
-                        .build())
+                .map(this::toInfoResponse)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 오디오 목록 keyset 페이지 조회
+     * 최신순 (created_at, id), cursor 이후부터 limit건, status 필터
+     */
+    public AudioFilePageResponse getAudioFilePage(String cursor, Integer limit, String status) {
+        int pageSize = limit != null ? limit : DEFAULT_PAGE_SIZE;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE || (status != null && !STATUSES.contains(status))) {
+            throw new CustomBusinessException(AudioErrorCode.INVALID_LIST_QUERY);
+        }
+
+        LocalDateTime afterCreatedAt = null;
+        Long afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+                afterCreatedAt = LocalDateTime.parse(parts[0]);
+                afterId = Long.parseLong(parts[1]);
+            } catch (IllegalArgumentException | DateTimeParseException | ArrayIndexOutOfBoundsException e) {
+                throw new CustomBusinessException(AudioErrorCode.INVALID_LIST_QUERY);
+            }
+        }
+
+        List<AudioFileListItem> items = audioFileMapper.findPage(status, afterCreatedAt, afterId, pageSize + 1);
+
+        boolean hasNext = items.size() > pageSize;
+        List<AudioFileListItem> page = hasNext ? items.subList(0, pageSize) : items;
+
+        return AudioFilePageResponse.builder()
+                .files(page.stream().map(this::toInfoResponse).toList())
+                .nextCursor(hasNext ? encodeCursor(page.get(page.size() - 1)) : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
     @Transactional
     public void updateStatus(Long audioFileId, String status) {
         audioFileMapper.updateStatus(audioFileId, status);
@@ -145,45 +158,22 @@ public class AudioFileService {
         audioFileMapper.deleteById(audioFileId);
     }
 
-    private AudioMetadata extractMetadata(Path audioPath) {
-        try {
-            ProcessBuilder pb = new ProcessBuilder(
-                    ffprobePath,
-                    "-v", "error",
-                    "-select_streams", "a:0",
-                    "-show_entries", "format=duration",
-                    "-show_entries", "stream=sample_rate",
-                    "-of", "json",
-                    audioPath.toAbsolutePath().toString()
-            );
-
-            Process process = pb.start();
-
-            String json;
-            try (BufferedReader reader =
-                         new BufferedReader(new InputStreamReader(process.getInputStream()))) {
-                json = reader.lines().collect(Collectors.joining());
-            }
-
-            ObjectMapper mapper = new ObjectMapper();
-            JsonNode root = mapper.readTree(json);
-
-            double duration =
-                    root.path("format").path("duration").asDouble(-1);
-
-            int sampleRate =
-                    root.path("streams").get(0).path("sample_rate").asInt(-1);
-
-            if (duration <= 0 || sampleRate <= 0) {
-                throw new IllegalStateException("Invalid audio metadata: " + json);
-            }
-
-            return new AudioMetadata(duration, sampleRate);
-
-        } catch (Exception e) {
-            throw new IllegalStateException("Audio metadata extraction failed", e);
-        }
+    private AudioFileInfoResponse toInfoResponse(AudioFileListItem file) {
+        return AudioFileInfoResponse.builder()
+                .id(file.getId())
+                .fileName(file.getFileName())
+                .fileSize(file.getFileSize())
+                .duration(file.getDuration())
+                .sampleRate(file.getSampleRate())
+                .status(file.getStatus())
+                .uploadedAt(file.getUploadedAt())
+                .hasAnalysis(file.isHasAnalysis())
+                .build();
     }
 
-    private record AudioMetadata(double duration, int sampleRate) {}
+    // 마지막 행의 (created_at, id)
+    private String encodeCursor(AudioFileListItem last) {
+        String raw = last.getCreatedAt() + "|" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,420 @@
+package fakehunters.backend.audio.service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 오디오 컨테이너 헤더에서 길이 / 샘플레이트 추출 (디코딩 없이 필요한 바이트 범위만 읽음)
+ * - WAV: fmt 청크의 byteRate, data 청크 크기
+ * - FLAC: STREAMINFO의 sampleRate, totalSamples
+ * - MP3: 첫 프레임 헤더 + Xing / Info / VBRI 프레임 수, 없으면 CBR로 보고 (파일 크기 / 비트레이트)
+ * - OGG (Vorbis / Opus): 식별 헤더 + 파일 끝 tailBytes 안의 마지막 페이지 granule position
+ * - M4A / MP4: moov 박스의 사운드 트랙 mdhd / stsd (moov가 파일 끝에 있으면 그 위치만 읽음)
+ * 해석할 수 없는 형식 / 손상된 헤더는 null (호출 측에서 ffprobe로 대체)
+ */
+final class AudioHeaderParser {
+
+    // MPEG 버전 1: Layer I, II, III / 버전 2, 2.5: Layer I, Layer II·III (kbps, 인덱스 1~14)
+    private static final int[][] MP3_BITRATES = {
+            {32, 64, 96, 128, 160, 192, 224, 256, 288, 320, 352, 384, 416, 448},
+            {32, 48, 56, 64, 80, 96, 112, 128, 160, 192, 224, 256, 320, 384},
+            {32, 40, 48, 56, 64, 80, 96, 112, 128, 160, 192, 224, 256, 320},
+            {32, 48, 56, 64, 80, 96, 112, 128, 144, 160, 176, 192, 224, 256},
+            {8, 16, 24, 32, 40, 48, 56, 64, 80, 96, 112, 128, 144, 160}
+    };
+
+    // 헤더의 버전 비트 순서 (0: 2.5, 1: 예약, 2: 2, 3: 1)
+    private static final int[][] MP3_SAMPLE_RATES = {
+            {11025, 12000, 8000},
+            null,
+            {22050, 24000, 16000},
+            {44100, 48000, 32000}
+    };
+
+    private static final int MP3_VERSION_1 = 3;
+    private static final int OPUS_GRANULE_RATE = 48000;
+    private static final int MAX_CHUNKS = 64;
+
+    private final AudioRangeReader reader;
+    private final int headBytes;
+    private final int tailBytes;
+    private final int maxBoxBytes;
+
+    AudioHeaderParser(AudioRangeReader reader, int headBytes, int tailBytes, int maxBoxBytes) {
+        this.reader = reader;
+        this.headBytes = headBytes;
+        this.tailBytes = tailBytes;
+        this.maxBoxBytes = maxBoxBytes;
+    }
+
+    AudioMetadata parse() throws IOException {
+        byte[] head = reader.read(0, headBytes);
+        if (head.length < 12) {
+            return null;
+        }
+        try {
+            if (matches(head, 0, "RIFF") && matches(head, 8, "WAVE")) {
+                return parseWav();
+            }
+            if (matches(head, 4, "ftyp")) {
+                return parseMp4();
+            }
+            if (matches(head, 0, "OggS")) {
+                return parseOgg(head);
+            }
+            long audioStart = id3v2Size(head);
+            byte[] start = audioStart == 0 ? head : reader.read(audioStart, headBytes);
+            if (matches(start, 0, "fLaC")) {
+                return parseFlac(start);
+            }
+            return parseMp3(start, audioStart);
+        } catch (IndexOutOfBoundsException e) {
+            // 헤더가 잘렸거나 손상됨
+            return null;
+        }
+    }
+
+    // ========== WAV ==========
+
+    private AudioMetadata parseWav() throws IOException {
+        long size = reader.size();
+        long offset = 12;
+        long byteRate = 0;
+        int sampleRate = 0;
+
+        for (int i = 0; i < MAX_CHUNKS && offset + 8 <= size; i++) {
+            byte[] chunk = reader.read(offset, 24);
+            long chunkSize = uint32le(chunk, 4);
+
+            if (matches(chunk, 0, "fmt ")) {
+                sampleRate = (int) uint32le(chunk, 12);
+                byteRate = uint32le(chunk, 16);
+            } else if (matches(chunk, 0, "data")) {
+                if (byteRate <= 0) {
+                    return null;
+                }
+                // 스트리밍 녹음(0 / 0xFFFFFFFF)이나 중간에 끊긴 파일은 파일 끝까지를 데이터로 봄
+                long available = size - offset - 8;
+                long dataSize = chunkSize == 0 || chunkSize > available ? available : chunkSize;
+                return metadata((double) dataSize / byteRate, sampleRate);
+            }
+            // 청크는 2바이트 단위로 정렬
+            offset += 8 + chunkSize + (chunkSize & 1);
+        }
+        return null;
+    }
+
+    // ========== FLAC ==========
+
+    private AudioMetadata parseFlac(byte[] start) {
+        // 첫 메타데이터 블록은 항상 STREAMINFO (블록 헤더 4바이트 + 34바이트)
+        if ((start[4] & 0x7F) != 0) {
+            return null;
+        }
+        int p = 8 + 10;
+        int sampleRate = (u8(start, p) << 12) | (u8(start, p + 1) << 4) | (u8(start, p + 2) >> 4);
+        long totalSamples = ((long) (u8(start, p + 3) & 0x0F) << 32) | uint32be(start, p + 4);
+        // totalSamples 0은 길이 미상
+        return totalSamples > 0 && sampleRate > 0
+                ? metadata((double) totalSamples / sampleRate, sampleRate)
+                : null;
+    }
+
+    // ========== MP3 ==========
+
+    private AudioMetadata parseMp3(byte[] data, long audioStart) throws IOException {
+        for (int i = 0; i + 4 <= data.length; i++) {
+            Mp3Frame frame = mp3Frame(data, i);
+            if (frame == null) {
+                continue;
+            }
+            // 우연히 동기 비트와 같은 바이트일 수 있으므로 다음 프레임 헤더까지 확인
+            int next = i + frame.length();
+            if (next + 4 <= data.length && mp3Frame(data, next) == null) {
+                continue;
+            }
+
+            long frames = vbrFrameCount(data, i, frame);
+            if (frames > 0) {
+                return metadata((double) frames * frame.samplesPerFrame() / frame.sampleRate(), frame.sampleRate());
+            }
+            long audioBytes = reader.size() - audioStart - i;
+            return metadata(audioBytes * 8.0 / frame.bitrate(), frame.sampleRate());
+        }
+        return null;
+    }
+
+    private static Mp3Frame mp3Frame(byte[] b, int i) {
+        if (i + 4 > b.length || u8(b, i) != 0xFF || (u8(b, i + 1) & 0xE0) != 0xE0) {
+            return null;
+        }
+        int version = (u8(b, i + 1) >> 3) & 0x03;
+        int layerBits = (u8(b, i + 1) >> 1) & 0x03;
+        int bitrateIndex = u8(b, i + 2) >> 4;
+        int rateIndex = (u8(b, i + 2) >> 2) & 0x03;
+        if (version == 1 || layerBits == 0 || bitrateIndex == 0 || bitrateIndex == 15 || rateIndex == 3) {
+            return null;
+        }
+
+        int layer = 4 - layerBits;
+        int table = version == MP3_VERSION_1 ? layer - 1 : (layer == 1 ? 3 : 4);
+        return new Mp3Frame(
+                version,
+                layer,
+                MP3_BITRATES[table][bitrateIndex - 1] * 1000,
+                MP3_SAMPLE_RATES[version][rateIndex],
+                ((u8(b, i + 2) >> 1) & 0x01) == 1,
+                (u8(b, i + 3) >> 6) == 3);
+    }
+
+    // Xing / Info (사이드 정보 뒤) 또는 VBRI (헤더 + 32바이트 뒤)의 전체 프레임 수
+    private static long vbrFrameCount(byte[] b, int frameStart, Mp3Frame frame) {
+        int xing = frameStart + 4 + frame.sideInfoLength();
+        if (xing + 12 <= b.length && (matches(b, xing, "Xing") || matches(b, xing, "Info"))) {
+            long flags = uint32be(b, xing + 4);
+            return (flags & 0x01) != 0 ? uint32be(b, xing + 8) : 0;
+        }
+        int vbri = frameStart + 4 + 32;
+        if (vbri + 18 <= b.length && matches(b, vbri, "VBRI")) {
+            return uint32be(b, vbri + 14);
+        }
+        return 0;
+    }
+
+    private record Mp3Frame(int version, int layer, int bitrate, int sampleRate, boolean padding, boolean mono) {
+
+        int samplesPerFrame() {
+            if (layer == 1) {
+                return 384;
+            }
+            return layer == 3 && version != MP3_VERSION_1 ? 576 : 1152;
+        }
+
+        int length() {
+            int pad = padding ? 1 : 0;
+            if (layer == 1) {
+                return (12 * bitrate / sampleRate + pad) * 4;
+            }
+            int coefficient = layer == 3 && version != MP3_VERSION_1 ? 72 : 144;
+            return coefficient * bitrate / sampleRate + pad;
+        }
+
+        int sideInfoLength() {
+            if (version == MP3_VERSION_1) {
+                return mono ? 17 : 32;
+            }
+            return mono ? 9 : 17;
+        }
+    }
+
+    // ID3v2 태그 전체 길이 (헤더 10바이트 + synchsafe 크기 + 푸터)
+    private static long id3v2Size(byte[] head) {
+        if (!matches(head, 0, "ID3")) {
+            return 0;
+        }
+        long size = ((long) (head[6] & 0x7F) << 21) | ((head[7] & 0x7F) << 14)
+                | ((head[8] & 0x7F) << 7) | (head[9] & 0x7F);
+        return 10 + size + ((head[5] & 0x10) != 0 ? 10 : 0);
+    }
+
+    // ========== OGG ==========
+
+    private AudioMetadata parseOgg(byte[] head) throws IOException {
+        long serial = uint32le(head, 14);
+        int packet = 27 + u8(head, 26);
+
+        int sampleRate;
+        int granuleRate;
+        long preSkip = 0;
+        if (u8(head, packet) == 0x01 && matches(head, packet + 1, "vorbis")) {
+            sampleRate = (int) uint32le(head, packet + 12);
+            granuleRate = sampleRate;
+        } else if (matches(head, packet, "OpusHead")) {
+            // Opus granule position은 입력 샘플레이트와 상관없이 48kHz 기준
+            preSkip = uint16le(head, packet + 10);
+            long inputRate = uint32le(head, packet + 12);
+            sampleRate = inputRate > 0 ? (int) inputRate : OPUS_GRANULE_RATE;
+            granuleRate = OPUS_GRANULE_RATE;
+        } else {
+            return null;
+        }
+        if (granuleRate <= 0) {
+            return null;
+        }
+
+        long size = reader.size();
+        int tailLength = (int) Math.min(size, tailBytes);
+        byte[] tail = reader.read(size - tailLength, tailLength);
+
+        long granule = lastGranule(tail, serial);
+        return granule > preSkip ? metadata((double) (granule - preSkip) / granuleRate, sampleRate) : null;
+    }
+
+    private static long lastGranule(byte[] tail, long serial) {
+        for (int i = tail.length - 27; i >= 0; i--) {
+            if (matches(tail, i, "OggS") && uint32le(tail, i + 14) == serial) {
+                long granule = int64le(tail, i + 6);
+                // -1은 이 페이지에서 끝나는 패킷이 없음
+                if (granule != -1) {
+                    return granule;
+                }
+            }
+        }
+        return -1;
+    }
+
+    // ========== M4A / MP4 ==========
+
+    private AudioMetadata parseMp4() throws IOException {
+        long size = reader.size();
+        long offset = 0;
+
+        for (int i = 0; i < MAX_CHUNKS && offset + 8 <= size; i++) {
+            byte[] header = reader.read(offset, 16);
+            long boxSize = uint32be(header, 0);
+            int headerSize = 8;
+            if (boxSize == 1) {
+                boxSize = int64be(header, 8);
+                headerSize = 16;
+            } else if (boxSize == 0) {
+                boxSize = size - offset;
+            }
+            if (boxSize < headerSize) {
+                return null;
+            }
+
+            if (matches(header, 4, "moov")) {
+                if (boxSize > maxBoxBytes) {
+                    return null;
+                }
+                return parseMoov(reader.read(offset + headerSize, (int) (boxSize - headerSize)));
+            }
+            offset += boxSize;
+        }
+        return null;
+    }
+
+    private static AudioMetadata parseMoov(byte[] moov) {
+        int[] mvhd = findBox(moov, 0, moov.length, "mvhd");
+        double movieDuration = mvhd != null ? mp4Duration(moov, mvhd[0]) : -1;
+
+        for (int[] trak : boxes(moov, 0, moov.length, "trak")) {
+            int[] mdia = findBox(moov, trak[0], trak[1], "mdia");
+            if (mdia == null) {
+                continue;
+            }
+            int[] hdlr = findBox(moov, mdia[0], mdia[1], "hdlr");
+            if (hdlr == null || !matches(moov, hdlr[0] + 8, "soun")) {
+                continue;
+            }
+
+            int[] mdhd = findBox(moov, mdia[0], mdia[1], "mdhd");
+            double trackDuration = mdhd != null ? mp4Duration(moov, mdhd[0]) : -1;
+            int sampleRate = stsdSampleRate(moov, mdia);
+            // 65535Hz 초과는 stsd에 0으로 기록됨 → 보통 샘플레이트와 같은 mdhd timescale 사용
+            if (sampleRate <= 0 && mdhd != null) {
+                sampleRate = (int) mp4Timescale(moov, mdhd[0]);
+            }
+            return metadata(trackDuration > 0 ? trackDuration : movieDuration, sampleRate);
+        }
+        return null;
+    }
+
+    // mvhd / mdhd 공통 레이아웃: version(1) flags(3) [v0: 생성·수정 4+4 / v1: 8+8] timescale(4) duration(4 / 8)
+    private static long mp4Timescale(byte[] b, int p) {
+        return uint32be(b, p + (b[p] == 1 ? 20 : 12));
+    }
+
+    private static double mp4Duration(byte[] b, int p) {
+        long timescale = mp4Timescale(b, p);
+        long duration = b[p] == 1 ? int64be(b, p + 24) : uint32be(b, p + 16);
+        // 전부 1이면 길이 미상
+        boolean unknown = b[p] == 1 ? duration == -1 : duration == 0xFFFFFFFFL;
+        return timescale > 0 && !unknown ? (double) duration / timescale : -1;
+    }
+
+    // stsd 첫 샘플 엔트리 (AudioSampleEntry)의 16.16 고정소수점 samplerate
+    private static int stsdSampleRate(byte[] b, int[] mdia) {
+        int[] minf = findBox(b, mdia[0], mdia[1], "minf");
+        int[] stbl = minf != null ? findBox(b, minf[0], minf[1], "stbl") : null;
+        int[] stsd = stbl != null ? findBox(b, stbl[0], stbl[1], "stsd") : null;
+        if (stsd == null || stsd[1] - stsd[0] < 8 + 36) {
+            return 0;
+        }
+        return (int) (uint32be(b, stsd[0] + 8 + 32) >>> 16);
+    }
+
+    private static int[] findBox(byte[] b, int from, int to, String type) {
+        List<int[]> found = boxes(b, from, to, type);
+        return found.isEmpty() ? null : found.get(0);
+    }
+
+    // [from, to) 안의 type 박스들의 {payload 시작, 끝}
+    private static List<int[]> boxes(byte[] b, int from, int to, String type) {
+        List<int[]> found = new ArrayList<>();
+        int i = from;
+        while (i + 8 <= to) {
+            long size = uint32be(b, i);
+            int headerSize = 8;
+            if (size == 1) {
+                size = int64be(b, i + 8);
+                headerSize = 16;
+            } else if (size == 0) {
+                size = to - i;
+            }
+            if (size < headerSize || i + size > to) {
+                break;
+            }
+            if (matches(b, i + 4, type)) {
+                found.add(new int[]{i + headerSize, (int) (i + size)});
+            }
+            i += (int) size;
+        }
+        return found;
+    }
+
+    // ========== 공통 ==========
+
+    private static AudioMetadata metadata(double duration, int sampleRate) {
+        return duration > 0 && sampleRate > 0 ? new AudioMetadata(duration, sampleRate) : null;
+    }
+
+    private static boolean matches(byte[] b, int offset, String magic) {
+        if (offset < 0 || offset + magic.length() > b.length) {
+            return false;
+        }
+        byte[] expected = magic.getBytes(StandardCharsets.ISO_8859_1);
+        for (int i = 0; i < expected.length; i++) {
+            if (b[offset + i] != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int u8(byte[] b, int i) {
+        return b[i] & 0xFF;
+    }
+
+    private static int uint16le(byte[] b, int i) {
+        return u8(b, i) | (u8(b, i + 1) << 8);
+    }
+
+    private static long uint32le(byte[] b, int i) {
+        return u8(b, i) | ((long) u8(b, i + 1) << 8) | ((long) u8(b, i + 2) << 16) | ((long) u8(b, i + 3) << 24);
+    }
+
+    private static long uint32be(byte[] b, int i) {
+        return ((long) u8(b, i) << 24) | ((long) u8(b, i + 1) << 16) | ((long) u8(b, i + 2) << 8) | u8(b, i + 3);
+    }
+
+    private static long int64le(byte[] b, int i) {
+        return uint32le(b, i) | (uint32le(b, i + 4) << 32);
+    }
+
+    private static long int64be(byte[] b, int i) {
+        return (uint32be(b, i) << 32) | uint32be(b, i + 4);
+    }
+}
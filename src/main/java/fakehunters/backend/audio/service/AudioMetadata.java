@@ -0,0 +1,8 @@
+package fakehunters.backend.audio.service;
+
+/**
+ * @param duration   초
+ * @param sampleRate Hz
+ */
+record AudioMetadata(double duration, int sampleRate) {
+}
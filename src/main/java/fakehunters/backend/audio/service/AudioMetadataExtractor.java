@@ -0,0 +1,143 @@
+package fakehunters.backend.audio.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import fakehunters.backend.global.process.ExternalProcessRunner;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 업로드된 오디오의 길이 / 샘플레이트 조회
+ * - S3 Range GET으로 헤더(+ 필요하면 파일 끝 / moov 위치)만 읽어 AudioHeaderParser로 해석 (보통 1~2회 요청)
+ * - 해석할 수 없는 형식은 ffprobe가 presigned GET URL에서 직접 읽음 (임시 파일 없음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AudioMetadataExtractor {
+
+    private final AudioStorageService audioStorageService;
+    private final ExternalProcessRunner processRunner;
+
+    @Value("${ffmpeg.ffprobe-path}")
+    private String ffprobePath;
+
+    @Value("${ffmpeg.probe-timeout:PT30S}")
+    private Duration probeTimeout;
+
+    // Range GET 한 번의 최소 크기 (ID3 / LIST 청크가 크지 않으면 헤더 전체가 한 번에 들어옴)
+    @Value("${audio.metadata.head-bytes:65536}")
+    private int headBytes;
+
+    // OGG 마지막 페이지 탐색 범위
+    @Value("${audio.metadata.tail-bytes:65536}")
+    private int tailBytes;
+
+    // 이보다 큰 moov는 ffprobe로 조회
+    @Value("${audio.metadata.max-box-bytes:8388608}")
+    private int maxBoxBytes;
+
+    AudioMetadata extract(String s3Path) {
+        S3RangeReader reader = new S3RangeReader(s3Path);
+        try {
+            AudioMetadata metadata = new AudioHeaderParser(reader, headBytes, tailBytes, maxBoxBytes).parse();
+            if (metadata != null) {
+                log.debug("오디오 헤더 해석 완료 - {}, Range 요청: {}회", s3Path, reader.requests);
+                return metadata;
+            }
+            log.info("헤더로 해석할 수 없는 오디오 - ffprobe로 조회: {}", s3Path);
+        } catch (IOException | RuntimeException e) {
+            log.warn("오디오 헤더 조회 실패 - ffprobe로 조회: {}", s3Path, e);
+        }
+        return probe(audioStorageService.generatePresignedGetUrl(s3Path, probeTimeout.plusMinutes(1)));
+    }
+
+    private AudioMetadata probe(String input) {
+        try {
+            JsonNode root = processRunner.runJson("ffprobe", List.of(
+                    ffprobePath,
+                    "-v", "error",
+                    "-select_streams", "a:0",
+                    "-show_entries", "format=duration",
+                    "-show_entries", "stream=sample_rate",
+                    "-of", "json",
+                    input
+            ), probeTimeout);
+
+            double duration =
+                    root.path("format").path("duration").asDouble(-1);
+
+            int sampleRate =
+                    root.path("streams").path(0).path("sample_rate").asInt(-1);
+
+            if (duration <= 0 || sampleRate <= 0) {
+                throw new IllegalStateException("Invalid audio metadata: " + root);
+            }
+
+            return new AudioMetadata(duration, sampleRate);
+
+        } catch (Exception e) {
+            throw new IllegalStateException("Audio metadata extraction failed", e);
+        }
+    }
+
+    /**
+     * 마지막으로 받은 블록을 캐시하는 S3 Range 리더 (파서의 작은 읽기들이 같은 요청으로 처리되도록 headBytes 단위로 받음)
+     */
+    private final class S3RangeReader implements AudioRangeReader {
+
+        private final String s3Path;
+        private long size = -1;
+        private long blockOffset;
+        private byte[] block = new byte[0];
+        private int requests;
+
+        private S3RangeReader(String s3Path) {
+            this.s3Path = s3Path;
+        }
+
+        @Override
+        public long size() {
+            if (size < 0) {
+                fetch(0, headBytes);
+            }
+            return size;
+        }
+
+        @Override
+        public byte[] read(long offset, int length) {
+            if (size >= 0) {
+                if (offset >= size) {
+                    return new byte[0];
+                }
+                length = (int) Math.min(length, size - offset);
+            }
+            if (offset < blockOffset || offset + length > blockOffset + block.length || size < 0) {
+                fetch(offset, Math.max(length, headBytes));
+            }
+            int from = (int) (offset - blockOffset);
+            return Arrays.copyOfRange(block, from, Math.min(block.length, from + length));
+        }
+
+        private void fetch(long offset, int length) {
+            ResponseBytes<GetObjectResponse> bytes = audioStorageService.getRange(s3Path, offset, length);
+            block = bytes.asByteArray();
+            blockOffset = offset;
+            requests++;
+
+            // "bytes 0-65535/1234567", 범위를 무시하고 전체를 준 경우 Content-Range 없음
+            String contentRange = bytes.response().contentRange();
+            size = contentRange != null && contentRange.contains("/")
+                    ? Long.parseLong(contentRange.substring(contentRange.lastIndexOf('/') + 1).trim())
+                    : block.length;
+        }
+    }
+}
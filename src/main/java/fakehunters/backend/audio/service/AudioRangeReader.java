@@ -0,0 +1,16 @@
+package fakehunters.backend.audio.service;
+
+import java.io.IOException;
+
+/**
+ * 오디오 파일의 일부 바이트 범위 읽기 (S3 Range GET / 로컬 파일)
+ */
+interface AudioRangeReader {
+
+    long size() throws IOException;
+
+    /**
+     * 파일 끝을 넘는 범위는 잘라서 반환
+     */
+    byte[] read(long offset, int length) throws IOException;
+}
@@ -6,7 +6,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.ResponseBytes;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
@@ -15,9 +15,6 @@ import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
 
-import java.io.OutputStream;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.time.Duration;
 
 @Slf4j
@@ -35,6 +32,13 @@ public class AudioStorageService {
      * S3 PresignedUrl 가져오기
      */
     public String generatePresignedGetUrl(String s3Path) {
+        return generatePresignedGetUrl(s3Path, Duration.ofMinutes(15));
+    }
+
+    /**
+     * 유효 시간을 지정한 PresignedUrl (AI 서버 전달용 등)
+     */
+    public String generatePresignedGetUrl(String s3Path, Duration ttl) {
         try {
             String key = extractKey(s3Path);
 
@@ -45,7 +49,7 @@ public class AudioStorageService {
 
             GetObjectPresignRequest presignRequest =
                     GetObjectPresignRequest.builder()
-                            .signatureDuration(Duration.ofMinutes(15))
+                            .signatureDuration(ttl)
                             .getObjectRequest(getObjectRequest)
                             .build();
 
@@ -77,34 +81,17 @@ public class AudioStorageService {
     }
 
     /**
-     * S3 파일을 임시 파일로 다운로드
-     * (메타데이터 추출, ffprobe 용도)
+     * S3 파일의 일부 범위만 조회 (헤더 기반 메타데이터 추출 용도)
+     * 응답의 Content-Range로 전체 파일 크기를 알 수 있음
      */
-    public Path downloadToTempFile(String s3Path) {
-        try {
-            String key = extractKey(s3Path);
-
-            Path tempFile = Files.createTempFile("audio-", ".tmp");
-
-            GetObjectRequest request = GetObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(key)
-                    .build();
-
-            try (ResponseInputStream<GetObjectResponse> s3Input =
-                         s3Client.getObject(request);
-                 OutputStream fileOut = Files.newOutputStream(tempFile)) {
-
-                s3Input.transferTo(fileOut);
-            }
-
-            log.debug("Downloaded S3 audio to temp file: {}", tempFile);
-            return tempFile;
-
-        } catch (Exception e) {
-            log.error("Failed to download audio from S3: {}", s3Path, e);
-            throw new CustomBusinessException(AudioErrorCode.DOWNLOAD_ERROR);
-        }
+    public ResponseBytes<GetObjectResponse> getRange(String s3Path, long offset, int length) {
+        GetObjectRequest request = GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(extractKey(s3Path))
+                .range("bytes=" + offset + "-" + (offset + length - 1))
+                .build();
+
+        return s3Client.getObjectAsBytes(request);
     }
 
     /**
@@ -0,0 +1,29 @@
+package fakehunters.backend.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+@Configuration
+public class SchedulerConfig {
+
+    // DB 커넥션 풀보다 약간 크게 (그 이상은 커넥션 대기만 늘어남)
+    @Value("${reactor.blocking.thread-cap:16}")
+    private int threadCap;
+
+    // 가득 차면 RejectedExecutionException → 구독자에게 에러로 전달
+    @Value("${reactor.blocking.queued-task-cap:1000}")
+    private int queuedTaskCap;
+
+    /**
+     * 리액티브 흐름 안의 blocking 작업(MyBatis / JDBC, 파일 I/O)용 스케줄러
+     * - WebClient / Lettuce 응답은 이벤트 루프 스레드에서 도착하므로 publishOn / subscribeOn으로 넘겨서 실행
+     * - 공용 Schedulers.boundedElastic()과 분리해 다른 라이브러리 작업과 스레드를 나눠 쓰지 않음
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler blockingScheduler() {
+        return Schedulers.newBoundedElastic(threadCap, queuedTaskCap, "blocking-io");
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.netty.http.client.HttpClient;
 
@@ -22,6 +23,10 @@ public class WebClientConfig {
     @Value("${ai-service.timeout:300000}")
     private int timeout;
 
+    // 영상 분석 응답은 스트리밍으로 저장하므로 한 번에 바인딩하는 응답만 이 한도 적용
+    @Value("${ai-service.max-in-memory-size:16MB}")
+    private DataSize maxInMemorySize;
+
     @Bean
     public WebClient.Builder webClientBuilder() {
         // HTTP 클라이언트 타임아웃 설정
@@ -36,7 +41,7 @@ public class WebClientConfig {
                 .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .codecs(configurer -> configurer
                         .defaultCodecs()
-                        .maxInMemorySize(100 * 1024 * 1024));
+                        .maxInMemorySize((int) maxInMemorySize.toBytes()));
     }
 
     @Bean
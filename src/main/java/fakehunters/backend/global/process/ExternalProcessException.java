@@ -0,0 +1,28 @@
+package fakehunters.backend.global.process;
+
+import lombok.Getter;
+
+/**
+ * 외부 프로세스 실행 실패 (동시 실행 한도 초과 / 시간 초과 / 비정상 종료 / 출력 파싱 실패)
+ * 호출 측에서 도메인 에러 코드로 변환
+ */
+@Getter
+public class ExternalProcessException extends RuntimeException {
+
+    public enum Reason { REJECTED, TIMEOUT, FAILED, INTERRUPTED }
+
+    private final String tool;
+    private final Reason reason;
+
+    public ExternalProcessException(String tool, Reason reason, String message) {
+        super("[" + tool + "] " + message);
+        this.tool = tool;
+        this.reason = reason;
+    }
+
+    public ExternalProcessException(String tool, Reason reason, String message, Throwable cause) {
+        super("[" + tool + "] " + message, cause);
+        this.tool = tool;
+        this.reason = reason;
+    }
+}
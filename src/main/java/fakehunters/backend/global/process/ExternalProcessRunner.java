@@ -0,0 +1,291 @@
+package fakehunters.backend.global.process;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * ffmpeg / ffprobe 등 외부 프로세스 공통 실행기
+ * - 도구별 세마포어로 노드 전체 동시 실행 수 제한 (업로드 폭주 시 fork 폭주 방지)
+ * - 마감 시간이 지나면 프로세스 트리 종료 (SIGTERM → grace 후 강제 종료)
+ * - stdout / stderr는 가상 스레드에서 비동기로 끝까지 읽음 (파이프 버퍼가 차서 멈추는 문제 방지)
+ * - 메트릭: external.process.duration{tool, outcome} (히스토그램), external.process.running{tool},
+ *   external.process.rejected{tool}
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExternalProcessRunner {
+
+    private static final int STDERR_TAIL_LINES = 20;
+
+    private final MeterRegistry meterRegistry;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Value("${process.runner.ffmpeg-permits:2}")
+    private int ffmpegPermits;
+
+    @Value("${process.runner.ffprobe-permits:8}")
+    private int ffprobePermits;
+
+    @Value("${process.runner.default-permits:4}")
+    private int defaultPermits;
+
+    // 슬롯 대기 한도 (넘으면 REJECTED)
+    @Value("${process.runner.acquire-timeout:PT30S}")
+    private Duration acquireTimeout;
+
+    @Value("${process.runner.kill-grace:PT5S}")
+    private Duration killGrace;
+
+    @Value("${process.runner.max-output-bytes:4194304}")
+    private int maxOutputBytes;
+
+    private final Map<String, ToolSlot> slots = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        slot("ffmpeg");
+        slot("ffprobe");
+    }
+
+    /**
+     * 실행 후 결과 반환 (비정상 종료 코드도 결과로 반환, 시간 초과 / 한도 초과는 예외)
+     */
+    public ProcessResult run(String tool, List<String> command, Duration timeout) {
+        return run(tool, command, timeout, null);
+    }
+
+    /**
+     * stderrListener: stderr 한 줄마다 호출 (ffmpeg 진행률 등), 단일 가상 스레드에서 순서대로 호출됨
+     */
+    public ProcessResult run(String tool, List<String> command, Duration timeout, Consumer<String> stderrListener) {
+        ToolSlot slot = slot(tool);
+        acquire(slot, tool);
+
+        long started = System.nanoTime();
+        String outcome = "failure";
+        slot.running.incrementAndGet();
+        Process process = null;
+        try {
+            process = new ProcessBuilder(command).start();
+            process.getOutputStream().close();
+
+            StdoutPump stdout = new StdoutPump(process.getInputStream(), maxOutputBytes);
+            StderrPump stderr = new StderrPump(process.getErrorStream(), stderrListener);
+            Thread stdoutThread = Thread.ofVirtual().name(tool + "-stdout").start(stdout);
+            Thread stderrThread = Thread.ofVirtual().name(tool + "-stderr").start(stderr);
+
+            if (!process.waitFor(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                outcome = "timeout";
+                destroyTree(process);
+                stdoutThread.join(killGrace.toMillis());
+                stderrThread.join(killGrace.toMillis());
+                throw new ExternalProcessException(tool, ExternalProcessException.Reason.TIMEOUT,
+                        "시간 초과 (" + timeout + "): " + stderr.summary());
+            }
+
+            stdoutThread.join();
+            stderrThread.join();
+
+            int exitCode = process.exitValue();
+            outcome = exitCode == 0 ? "success" : "failure";
+            if (stdout.truncated) {
+                log.warn("[{}] stdout이 {} bytes를 넘어 잘림", tool, maxOutputBytes);
+            }
+            return new ProcessResult(tool, exitCode, stdout.text(), stderr.tail(),
+                    Duration.ofNanos(System.nanoTime() - started));
+
+        } catch (IOException e) {
+            throw new ExternalProcessException(tool, ExternalProcessException.Reason.FAILED, "실행 실패", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            outcome = "interrupted";
+            throw new ExternalProcessException(tool, ExternalProcessException.Reason.INTERRUPTED, "실행 중단", e);
+        } finally {
+            if (process != null && process.isAlive()) {
+                destroyTree(process);
+            }
+            slot.running.decrementAndGet();
+            slot.semaphore.release();
+            Timer.builder("external.process.duration")
+                    .tag("tool", tool)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 정상 종료 + stdout JSON 파싱 (ffprobe -of json 등)
+     */
+    public JsonNode runJson(String tool, List<String> command, Duration timeout) {
+        ProcessResult result = run(tool, command, timeout);
+        if (!result.isSuccess()) {
+            throw new ExternalProcessException(tool, ExternalProcessException.Reason.FAILED,
+                    "exit code " + result.exitCode() + ": " + result.stderrSummary());
+        }
+        try {
+            return objectMapper.readTree(result.stdout());
+        } catch (IOException e) {
+            throw new ExternalProcessException(tool, ExternalProcessException.Reason.FAILED, "출력 파싱 실패", e);
+        }
+    }
+
+    private void acquire(ToolSlot slot, String tool) {
+        try {
+            if (!slot.semaphore.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                slot.rejected.increment();
+                throw new ExternalProcessException(tool, ExternalProcessException.Reason.REJECTED,
+                        "동시 실행 한도 초과 (대기 " + acquireTimeout + ")");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExternalProcessException(tool, ExternalProcessException.Reason.INTERRUPTED, "실행 대기 중단", e);
+        }
+    }
+
+    // 자식 프로세스까지 종료 (ffmpeg가 띄운 하위 프로세스 포함)
+    private void destroyTree(Process process) {
+        process.descendants().forEach(ProcessHandle::destroy);
+        process.destroy();
+        try {
+            if (!process.waitFor(killGrace.toMillis(), TimeUnit.MILLISECONDS)) {
+                process.descendants().forEach(ProcessHandle::destroyForcibly);
+                process.destroyForcibly();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            process.descendants().forEach(ProcessHandle::destroyForcibly);
+            process.destroyForcibly();
+        }
+    }
+
+    private ToolSlot slot(String tool) {
+        return slots.computeIfAbsent(tool, name -> {
+            int permits = switch (name) {
+                case "ffmpeg" -> ffmpegPermits;
+                case "ffprobe" -> ffprobePermits;
+                default -> defaultPermits;
+            };
+            ToolSlot slot = new ToolSlot(new Semaphore(permits, true), new AtomicInteger(),
+                    Counter.builder("external.process.rejected").tag("tool", name).register(meterRegistry));
+            Gauge.builder("external.process.running", slot.running, AtomicInteger::get)
+                    .tag("tool", name)
+                    .register(meterRegistry);
+            return slot;
+        });
+    }
+
+    private record ToolSlot(Semaphore semaphore, AtomicInteger running, Counter rejected) {
+    }
+
+    // 한도까지만 보관하고 나머지는 읽어서 버림
+    private static class StdoutPump implements Runnable {
+        private final InputStream in;
+        private final int limit;
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        private boolean truncated;
+
+        StdoutPump(InputStream in, int limit) {
+            this.in = in;
+            this.limit = limit;
+        }
+
+        @Override
+        public void run() {
+            byte[] chunk = new byte[8192];
+            try (in) {
+                int read;
+                while ((read = in.read(chunk)) != -1) {
+                    int keep = Math.min(read, limit - buffer.size());
+                    if (keep > 0) {
+                        buffer.write(chunk, 0, keep);
+                    }
+                    if (keep < read) {
+                        truncated = true;
+                    }
+                }
+            } catch (IOException e) {
+                // 프로세스 강제 종료 시 스트림이 닫힘
+            }
+        }
+
+        String text() {
+            return buffer.toString(StandardCharsets.UTF_8);
+        }
+    }
+
+    // ffmpeg 진행 출력은 \r 로 갱신되며, readLine()은 \r 도 줄 끝으로 처리
+    private static class StderrPump implements Runnable {
+        private final InputStream in;
+        private final Consumer<String> listener;
+        private final Deque<String> tail = new ArrayDeque<>(STDERR_TAIL_LINES);
+
+        StderrPump(InputStream in, Consumer<String> listener) {
+            this.in = in;
+            this.listener = listener;
+        }
+
+        @Override
+        public void run() {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (listener != null) {
+                        try {
+                            listener.accept(line);
+                        } catch (RuntimeException e) {
+                            log.warn("stderr 처리 실패", e);
+                        }
+                    }
+                    synchronized (tail) {
+                        if (tail.size() == STDERR_TAIL_LINES) {
+                            tail.removeFirst();
+                        }
+                        tail.addLast(line);
+                    }
+                }
+            } catch (IOException e) {
+                // 프로세스 강제 종료 시 스트림이 닫힘
+            }
+        }
+
+        List<String> tail() {
+            synchronized (tail) {
+                return List.copyOf(tail);
+            }
+        }
+
+        String summary() {
+            return String.join(" | ", tail());
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package fakehunters.backend.global.process;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 외부 프로세스 실행 결과
+ * stdout은 max-output-bytes까지만 보관, stderr는 마지막 몇 줄만 보관 (오류 로그용)
+ */
+public record ProcessResult(String tool,
+                            int exitCode,
+                            String stdout,
+                            List<String> stderrTail,
+                            Duration elapsed) {
+
+    public boolean isSuccess() {
+        return exitCode == 0;
+    }
+
+    public String stderrSummary() {
+        return String.join(" | ", stderrTail);
+    }
+}
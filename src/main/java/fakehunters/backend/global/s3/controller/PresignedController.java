@@ -1,8 +1,15 @@
 package fakehunters.backend.global.s3.controller;
 
+import fakehunters.backend.global.s3.dto.request.MultipartAbortRequest;
+import fakehunters.backend.global.s3.dto.request.MultipartCompleteRequest;
+import fakehunters.backend.global.s3.dto.request.MultipartPartUrlsRequest;
 import fakehunters.backend.global.s3.dto.request.PresignedUploadRequest;
+import fakehunters.backend.global.s3.dto.response.MultipartCompleteResponse;
+import fakehunters.backend.global.s3.dto.response.MultipartCreateResponse;
+import fakehunters.backend.global.s3.dto.response.MultipartPartUrlsResponse;
 import fakehunters.backend.global.s3.dto.response.PresignedUploadResponse;
 import fakehunters.backend.global.s3.dto.response.PresignedDownloadResponse;
+import fakehunters.backend.global.s3.service.MultipartUploadService;
 import fakehunters.backend.global.s3.service.PresignedUrlService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -14,6 +21,7 @@ import org.springframework.web.bind.annotation.*;
 public class PresignedController {
 
     private final PresignedUrlService presignedUrlService;
+    private final MultipartUploadService multipartUploadService;
 
     /**
      * 업로드용 Presigned PUT URL 발급
@@ -33,6 +41,70 @@ public class PresignedController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 대용량 업로드용 multipart 업로드 시작 (key / uploadId / 권장 파트 크기)
+     */
+    @PostMapping("/multipart")
+    public ResponseEntity<MultipartCreateResponse> createMultipartUpload(
+            @RequestBody PresignedUploadRequest request
+    ) {
+        MultipartCreateResponse response =
+                multipartUploadService.create(
+                        request.getDomain(),
+                        request.getStage(),
+                        request.getExtension(),
+                        request.getContentType()
+                );
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 파트별 Presigned PUT URL 일괄 발급
+     */
+    @PostMapping("/multipart/parts")
+    public ResponseEntity<MultipartPartUrlsResponse> presignMultipartParts(
+            @RequestBody MultipartPartUrlsRequest request
+    ) {
+        MultipartPartUrlsResponse response =
+                multipartUploadService.presignParts(
+                        request.getKey(),
+                        request.getUploadId(),
+                        request.getPartNumbers()
+                );
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * multipart 업로드 완료 (파트 번호 + ETag 목록)
+     */
+    @PostMapping("/multipart/complete")
+    public ResponseEntity<MultipartCompleteResponse> completeMultipartUpload(
+            @RequestBody MultipartCompleteRequest request
+    ) {
+        MultipartCompleteResponse response =
+                multipartUploadService.complete(
+                        request.getKey(),
+                        request.getUploadId(),
+                        request.getParts()
+                );
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * multipart 업로드 취소
+     */
+    @PostMapping("/multipart/abort")
+    public ResponseEntity<Void> abortMultipartUpload(
+            @RequestBody MultipartAbortRequest request
+    ) {
+        multipartUploadService.abort(request.getKey(), request.getUploadId());
+
+        return ResponseEntity.noContent().build();
+    }
+
     /**
      * 다운로드/조회용 Presigned GET URL 발급
      */
@@ -0,0 +1,9 @@
+package fakehunters.backend.global.s3.dto.request;
+
+import lombok.Getter;
+
+@Getter
+public class MultipartAbortRequest {
+    private String key; //S3 object key
+    private String uploadId; //multipart uploadId
+}
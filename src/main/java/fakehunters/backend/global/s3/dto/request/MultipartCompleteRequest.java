@@ -0,0 +1,18 @@
+package fakehunters.backend.global.s3.dto.request;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class MultipartCompleteRequest {
+    private String key; //S3 object key
+    private String uploadId; //multipart uploadId
+    private List<Part> parts; //업로드한 파트 목록 (순서 무관)
+
+    @Getter
+    public static class Part {
+        private Integer partNumber; //파트 번호
+        private String etag; //파트 PUT 응답의 ETag 헤더
+    }
+}
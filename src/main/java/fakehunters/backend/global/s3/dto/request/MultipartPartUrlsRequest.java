@@ -0,0 +1,12 @@
+package fakehunters.backend.global.s3.dto.request;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class MultipartPartUrlsRequest {
+    private String key; //create 응답의 S3 object key
+    private String uploadId; //create 응답의 uploadId
+    private List<Integer> partNumbers; //presign할 파트 번호 (1 ~ 10000, 실패한 파트만 다시 요청 가능)
+}
@@ -0,0 +1,11 @@
+package fakehunters.backend.global.s3.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class MultipartCompleteResponse {
+    private String key; //완성된 S3 object key
+    private String etag; //완성된 객체의 ETag
+}
@@ -0,0 +1,12 @@
+package fakehunters.backend.global.s3.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class MultipartCreateResponse {
+    private String key; //S3 object key (DB 저장용)
+    private String uploadId; //parts / complete / abort 요청에 사용
+    private long partSize; //권장 파트 크기 (bytes, 마지막 파트를 제외하고 5MB 이상)
+}
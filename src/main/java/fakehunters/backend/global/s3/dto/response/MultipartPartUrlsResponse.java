@@ -0,0 +1,20 @@
+package fakehunters.backend.global.s3.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class MultipartPartUrlsResponse {
+    private List<PartUrl> parts; //파트별 Presigned PUT URL
+    private int expiresIn; //URL 만료 시간 (초)
+
+    @Getter
+    @AllArgsConstructor
+    public static class PartUrl {
+        private int partNumber; //파트 번호
+        private String url; //Presigned PUT URL
+    }
+}
@@ -0,0 +1,164 @@
+package fakehunters.backend.global.s3.service;
+
+import fakehunters.backend.global.s3.dto.request.MultipartCompleteRequest;
+import fakehunters.backend.global.s3.dto.response.MultipartCompleteResponse;
+import fakehunters.backend.global.s3.dto.response.MultipartCreateResponse;
+import fakehunters.backend.global.s3.dto.response.MultipartPartUrlsResponse;
+import fakehunters.backend.global.s3.path.S3PathGenerator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 대용량 미디어 S3 multipart 업로드 (create → 파트별 presigned PUT → complete / abort)
+ * - 클라이언트가 파트를 병렬로 올리고 실패한 파트만 다시 presign 받아 재시도
+ * - key 규칙은 단일 PUT과 같은 S3PathGenerator
+ * - 브라우저에서 파트 ETag를 읽으려면 버킷 CORS에 ExposeHeaders: ETag 필요
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MultipartUploadService {
+
+    // S3 한도: 파트 번호 1 ~ 10000, 마지막 파트를 제외한 파트 크기 5MB 이상
+    private static final int MAX_PART_NUMBER = 10_000;
+    private static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+
+    private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
+    private final S3PathGenerator pathGenerator;
+
+    @Value("${aws.s3.bucket}")
+    private String bucket;
+
+    @Value("${aws.s3.multipart.part-size:16777216}")
+    private long partSize;
+
+    // 느린 회선에서 파트 하나를 올리는 동안 만료되지 않도록
+    @Value("${aws.s3.multipart.part-url-ttl:PT1H}")
+    private Duration partUrlTtl;
+
+    // 한 번에 presign할 수 있는 파트 수
+    @Value("${aws.s3.multipart.max-parts-per-request:1000}")
+    private int maxPartsPerRequest;
+
+    public MultipartCreateResponse create(String domain, String stage, String extension, String contentType) {
+        String key = pathGenerator.generate(domain, stage, extension);
+
+        String uploadId = s3Client.createMultipartUpload(builder -> builder
+                        .bucket(bucket)
+                        .key(key)
+                        .contentType(contentType))
+                .uploadId();
+
+        log.info("Multipart 업로드 시작 - key: {}, uploadId: {}", key, uploadId);
+        return new MultipartCreateResponse(key, uploadId, Math.max(MIN_PART_SIZE, partSize));
+    }
+
+    /**
+     * 파트 번호별 Presigned UploadPart URL (서명만 하므로 S3 호출 없음)
+     */
+    public MultipartPartUrlsResponse presignParts(String key, String uploadId, List<Integer> partNumbers) {
+        validateUpload(key, uploadId);
+        if (partNumbers == null || partNumbers.isEmpty()) {
+            throw new IllegalArgumentException("partNumbers must not be empty");
+        }
+
+        // 재시도로 같은 번호가 섞여 와도 중복을 뺀 개수로 제한
+        List<Integer> distinctPartNumbers = partNumbers.stream().distinct().toList();
+        if (distinctPartNumbers.size() > maxPartsPerRequest) {
+            throw new IllegalArgumentException("too many parts per request (max " + maxPartsPerRequest + ")");
+        }
+        for (Integer partNumber : distinctPartNumbers) {
+            validatePartNumber(partNumber);
+        }
+
+        List<MultipartPartUrlsResponse.PartUrl> parts = distinctPartNumbers.stream()
+                .map(partNumber -> {
+                    String url = s3Presigner.presignUploadPart(builder -> builder
+                                    .signatureDuration(partUrlTtl)
+                                    .uploadPartRequest(request -> request
+                                            .bucket(bucket)
+                                            .key(key)
+                                            .uploadId(uploadId)
+                                            .partNumber(partNumber)))
+                            .url()
+                            .toString();
+                    return new MultipartPartUrlsResponse.PartUrl(partNumber, url);
+                })
+                .toList();
+
+        return new MultipartPartUrlsResponse(parts, (int) partUrlTtl.toSeconds());
+    }
+
+    public MultipartCompleteResponse complete(String key, String uploadId, List<MultipartCompleteRequest.Part> parts) {
+        validateUpload(key, uploadId);
+        if (parts == null || parts.isEmpty()) {
+            throw new IllegalArgumentException("parts must not be empty");
+        }
+
+        for (MultipartCompleteRequest.Part part : parts) {
+            validatePartNumber(part.getPartNumber());
+            if (!StringUtils.hasText(part.getEtag())) {
+                throw new IllegalArgumentException("etag must not be empty");
+            }
+        }
+
+        // S3는 파트 번호 오름차순을 요구
+        List<CompletedPart> completedParts = parts.stream()
+                .sorted(Comparator.comparing(MultipartCompleteRequest.Part::getPartNumber))
+                .map(part -> CompletedPart.builder()
+                        .partNumber(part.getPartNumber())
+                        .eTag(part.getEtag())
+                        .build())
+                .toList();
+
+        CompleteMultipartUploadResponse response = s3Client.completeMultipartUpload(builder -> builder
+                .bucket(bucket)
+                .key(key)
+                .uploadId(uploadId)
+                .multipartUpload(upload -> upload.parts(completedParts)));
+
+        log.info("Multipart 업로드 완료 - key: {}, 파트: {}개", key, completedParts.size());
+        return new MultipartCompleteResponse(key, response.eTag());
+    }
+
+    /**
+     * 업로드 취소 (올라간 파트 삭제, 완료되지 않은 파트는 버킷 lifecycle로도 정리 권장)
+     */
+    public void abort(String key, String uploadId) {
+        validateUpload(key, uploadId);
+
+        s3Client.abortMultipartUpload(builder -> builder
+                .bucket(bucket)
+                .key(key)
+                .uploadId(uploadId));
+
+        log.info("Multipart 업로드 취소 - key: {}, uploadId: {}", key, uploadId);
+    }
+
+    private void validateUpload(String key, String uploadId) {
+        if (!StringUtils.hasText(key)) {
+            throw new IllegalArgumentException("key must not be empty");
+        }
+        if (!StringUtils.hasText(uploadId)) {
+            throw new IllegalArgumentException("uploadId must not be empty");
+        }
+    }
+
+    private void validatePartNumber(Integer partNumber) {
+        if (partNumber == null || partNumber < 1 || partNumber > MAX_PART_NUMBER) {
+            throw new IllegalArgumentException("partNumber must be between 1 and " + MAX_PART_NUMBER);
+        }
+    }
+}
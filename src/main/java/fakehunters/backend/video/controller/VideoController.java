@@ -1,27 +1,37 @@
 package fakehunters.backend.video.controller;
 
 import fakehunters.backend.video.domain.VideoFile;
+import fakehunters.backend.video.dto.request.VideoS3AnalyzeRequest;
+import fakehunters.backend.video.dto.response.FramePageResponse;
 import fakehunters.backend.video.dto.response.VideoAnalysisResponse;
+import fakehunters.backend.video.dto.response.VideoTimelineResponse;
 import fakehunters.backend.video.dto.response.VideoProgressResponse;
 import fakehunters.backend.video.mapper.VideoFileMapper;
+import fakehunters.backend.video.service.FrameAnalysisService;
 import fakehunters.backend.video.service.VideoAnalysisService;
+import fakehunters.backend.video.service.VideoFileStreamer;
+import fakehunters.backend.video.service.VideoStorageService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.FileSystemResource;
-import org.springframework.core.io.InputStreamResource;
-import org.springframework.core.io.Resource;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.Disposable;
+import reactor.core.Exceptions;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStream;
+import java.time.Duration;
 
 @Slf4j
 @RestController
@@ -31,6 +41,18 @@ public class VideoController {
 
     private final VideoAnalysisService videoAnalysisService;
     private final VideoFileMapper videoFileMapper;
+    private final VideoFileStreamer videoFileStreamer;
+    private final FrameAnalysisService frameAnalysisService;
+    private final VideoStorageService storageService;
+    private final Scheduler blockingScheduler;
+
+    private static final Duration PROGRESS_STREAM_TIMEOUT = Duration.ofMinutes(30);
+
+    // 리다이렉트 캐시는 presigned URL 만료보다 충분히 짧게
+    private static final long PLAYBACK_REDIRECT_MAX_AGE = 300;
+
+    @Value("${video.s3.playback-url-ttl:PT1H}")
+    private Duration playbackUrlTtl;
 
     @PostMapping("/analyze")
     public Mono<ResponseEntity<VideoAnalysisResponse>> analyzeVideo(
@@ -51,6 +73,23 @@ public class VideoController {
                 });
     }
 
+    /**
+     * S3 직접 업로드 후 분석 등록 (POST /api/s3/presign/upload 로 받은 key 전달)
+     */
+    @PostMapping("/analyze/s3")
+    public Mono<ResponseEntity<VideoAnalysisResponse>> analyzeVideoFromS3(
+            @RequestBody VideoS3AnalyzeRequest request) {
+
+        log.info("영상 분석 요청 (S3) - key: {}, 파일명: {}", request.getS3Key(), request.getFilename());
+
+        return videoAnalysisService.analyzeVideoFromS3(request)
+                .map(response -> {
+                    log.info("분석 요청 수락 - ID: {}, 상태: {}",
+                            response.getAnalysisId(), response.getStatus());
+                    return ResponseEntity.ok(response);
+                });
+    }
+
     @GetMapping("/analysis/{analysisId}")
     public Mono<ResponseEntity<VideoAnalysisResponse>> getAnalysisResult(
             @PathVariable Long analysisId) {
@@ -65,118 +104,120 @@ public class VideoController {
                 });
     }
 
+    @GetMapping("/analysis/{analysisId}/frames")
+    public ResponseEntity<FramePageResponse> getFramePage(
+            @PathVariable Long analysisId,
+            @RequestParam(required = false) Integer afterFrame,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Double fromSeconds,
+            @RequestParam(required = false) Double toSeconds,
+            @RequestParam(defaultValue = "false") boolean suspiciousOnly) {
+
+        log.debug("프레임 페이지 조회 - ID: {}, afterFrame: {}, limit: {}, 구간: [{}, {}], suspiciousOnly: {}",
+                analysisId, afterFrame, limit, fromSeconds, toSeconds, suspiciousOnly);
+
+        return ResponseEntity.ok(frameAnalysisService.getFramePage(
+                analysisId, afterFrame, limit, fromSeconds, toSeconds, suspiciousOnly));
+    }
+
+    @GetMapping("/analysis/{analysisId}/timeline")
+    public ResponseEntity<VideoTimelineResponse> getTimeline(@PathVariable Long analysisId) {
+        log.debug("타임라인 조회 - ID: {}", analysisId);
+        return ResponseEntity.ok(frameAnalysisService.getTimeline(analysisId));
+    }
+
     @GetMapping("/files/{analysisId}")
-    public ResponseEntity<Resource> getVideoFile(
+    public void getVideoFile(
             @PathVariable Long analysisId,
-            @RequestHeader(value = "Range", required = false) String rangeHeader) {
+            HttpServletRequest request,
+            HttpServletResponse response) {
 
         try {
-            log.debug("비디오 파일 요청 - Analysis ID: {}, Range: {}", analysisId, rangeHeader);
+            log.debug("비디오 파일 요청 - Analysis ID: {}, Range: {}",
+                    analysisId, request.getHeader(HttpHeaders.RANGE));
 
             VideoFile videoFile = videoFileMapper.findByAnalysisId(analysisId);
             if (videoFile == null) {
-                return ResponseEntity.notFound().build();
+                response.setStatus(HttpStatus.NOT_FOUND.value());
+                return;
             }
 
             String filePath = videoFile.getWebFilePath() != null
                     ? videoFile.getWebFilePath()
                     : videoFile.getFilePath();
 
-            File file = new File(filePath);
-            if (!file.exists()) {
-                return ResponseEntity.notFound().build();
+            // S3 영상은 presigned GET으로 리다이렉트 (Range / 조건부 요청은 S3가 처리)
+            if (storageService.isS3Path(filePath)) {
+                response.setHeader(HttpHeaders.CACHE_CONTROL, "private, max-age=" + PLAYBACK_REDIRECT_MAX_AGE);
+                response.setHeader(HttpHeaders.LOCATION, storageService.presignGet(filePath, playbackUrlTtl));
+                response.setStatus(HttpStatus.FOUND.value());
+                return;
             }
 
-            long fileSize = file.length();
-
-            // Range 헤더 없으면 전체 파일
-            if (rangeHeader == null || rangeHeader.isEmpty()) {
-                Resource resource = new FileSystemResource(file);
-                return ResponseEntity.ok()
-                        .contentType(MediaType.parseMediaType("video/mp4"))
-                        .contentLength(fileSize)
-                        .header(HttpHeaders.ACCEPT_RANGES, "bytes")
-                        .header(HttpHeaders.CONTENT_DISPOSITION, "inline")
-                        .body(resource);
+            File file = new File(filePath);
+            if (!file.exists()) {
+                response.setStatus(HttpStatus.NOT_FOUND.value());
+                return;
             }
 
-            // Range 파싱
-            String[] ranges = rangeHeader.replace("bytes=", "").split("-");
-            long start = Long.parseLong(ranges[0]);
-            long end = ranges.length > 1 && !ranges[1].isEmpty()
-                    ? Long.parseLong(ranges[1])
-                    : fileSize - 1;
-
-            // 범위 검증
-            if (end >= fileSize) {
-                end = fileSize - 1;
-            }
+            videoFileStreamer.stream(file, request, response);
 
-            if (start > end || start >= fileSize) {
-                return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
-                        .header(HttpHeaders.CONTENT_RANGE, "bytes */" + fileSize)
-                        .build();
+        } catch (IOException e) {
+            // 탐색(seek) 시 브라우저가 이전 Range 요청을 끊는 것은 정상 동작
+            log.debug("비디오 전송 중단 - Analysis ID: {}, {}", analysisId, e.getMessage());
+        } catch (Exception e) {
+            log.error("비디오 파일 제공 중 오류", e);
+            if (!response.isCommitted()) {
+                response.setStatus(HttpStatus.INTERNAL_SERVER_ERROR.value());
             }
+        }
+    }
 
-            long contentLength = end - start + 1;
-
-            log.debug("Range 처리 - start: {}, end: {}, length: {}, total: {}",
-                    start, end, contentLength, fileSize);
-
-            // InputStream을 사용한 Range 처리 (메모리 효율적)
-            InputStream inputStream = new FileInputStream(file);
-            inputStream.skip(start);
-
-            // 지정된 범위만큼만 읽을 수 있는 제한된 InputStream
-            InputStream limitedStream = new InputStream() {
-                private long remaining = contentLength;
-
-                @Override
-                public int read() throws IOException {
-                    if (remaining <= 0) {
-                        return -1;
-                    }
-                    int result = inputStream.read();
-                    if (result != -1) {
-                        remaining--;
-                    }
-                    return result;
-                }
-
-                @Override
-                public int read(byte[] b, int off, int len) throws IOException {
-                    if (remaining <= 0) {
-                        return -1;
-                    }
-                    int toRead = (int) Math.min(len, remaining);
-                    int result = inputStream.read(b, off, toRead);
-                    if (result > 0) {
-                        remaining -= result;
-                    }
-                    return result;
-                }
-
-                @Override
-                public void close() throws IOException {
-                    inputStream.close();
-                }
-            };
-
-            Resource resource = new InputStreamResource(limitedStream);
-
-            return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
-                    .contentType(MediaType.parseMediaType("video/mp4"))
-                    .contentLength(contentLength)
-                    .header(HttpHeaders.ACCEPT_RANGES, "bytes")
-                    .header(HttpHeaders.CONTENT_RANGE,
-                            String.format("bytes %d-%d/%d", start, end, fileSize))
-                    .header(HttpHeaders.CONTENT_DISPOSITION, "inline")
-                    .body(resource);
+    /**
+     * 진행률 SSE 스트림 (연결이 불가능한 환경에서는 /progress/{analysisId} 폴링 사용)
+     */
+    @GetMapping(value = "/progress/{analysisId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamAnalysisProgress(@PathVariable Long analysisId) {
+
+        log.debug("진행률 스트림 연결 - ID: {}", analysisId);
+
+        SseEmitter emitter = new SseEmitter(PROGRESS_STREAM_TIMEOUT.toMillis());
+
+        // emitter.send는 응답 스트림에 직접 쓰므로 Redis pub/sub 스레드가 아닌 blocking 스케줄러에서
+        Disposable subscription = videoAnalysisService.streamAnalysisProgress(analysisId)
+                .publishOn(blockingScheduler)
+                .subscribe(event -> {
+                            try {
+                                emitter.send(toSseEvent(event));
+                            } catch (IOException e) {
+                                throw Exceptions.propagate(e);
+                            }
+                        },
+                        e -> {
+                            log.debug("진행률 스트림 종료 - ID: {}, {}", analysisId, e.getMessage());
+                            emitter.completeWithError(e);
+                        },
+                        emitter::complete);
+
+        emitter.onCompletion(subscription::dispose);
+        emitter.onTimeout(subscription::dispose);
+        emitter.onError(e -> subscription.dispose());
+
+        return emitter;
+    }
 
-        } catch (Exception e) {
-            log.error("비디오 파일 제공 중 오류", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+    private SseEmitter.SseEventBuilder toSseEvent(ServerSentEvent<VideoProgressResponse> event) {
+        SseEmitter.SseEventBuilder builder = SseEmitter.event();
+        if (event.comment() != null) {
+            builder.comment(event.comment());
+        }
+        if (event.event() != null) {
+            builder.name(event.event());
+        }
+        if (event.data() != null) {
+            builder.data(event.data(), MediaType.APPLICATION_JSON);
         }
+        return builder;
     }
 
     @GetMapping("/progress/{analysisId}")
@@ -1,11 +1,15 @@
 package fakehunters.backend.video.domain;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import java.time.OffsetDateTime;
 
 @Getter
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class AnalysisResult {
     private Long resultId;          // BIGSERIAL
     private Long analysisId;        // FK
@@ -1,10 +1,14 @@
 package fakehunters.backend.video.domain;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class DetectedArtifact {
     private Long artifactId;
     private Long resultId;
@@ -1,11 +1,15 @@
 package fakehunters.backend.video.domain;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import java.time.OffsetDateTime;
 
 @Getter
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class ModelPrediction {
     private Long predictionId;
     private Long resultId;
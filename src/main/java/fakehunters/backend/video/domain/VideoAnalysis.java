@@ -1,17 +1,24 @@
 package fakehunters.backend.video.domain;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.time.OffsetDateTime;
 
 
 @Getter
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class VideoAnalysis {
     private Long analysisId;      // PK, BIGSERIAL → String으로 UUID 사용
     private String title;
-    private String status;          // PENDING/PROCESSING/COMPLETED/FAILED
+    private String status;          // PENDING/PROCESSING/COMPLETED/FAILED (AI 분석 단계 기준)
+    private String transcodeStatus; // PENDING/PROCESSING/COMPLETED/FAILED/SKIPPED (웹 변환 단계)
+    private String contentHash;     // 업로드 원본 SHA-256 (hex)
+    private Long sourceAnalysisId;  // 동일 영상 재사용 시 결과를 가진 원본 분석 ID
     private OffsetDateTime createdAt;
     private OffsetDateTime completedAt;
 }
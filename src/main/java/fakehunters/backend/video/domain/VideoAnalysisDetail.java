@@ -0,0 +1,19 @@
+package fakehunters.backend.video.domain;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 분석 결과 화면용 집계 조회 (VideoAnalysisMapper.findDetailByAnalysisId)
+ * 1:N 하위 목록은 DB에서 jsonb_agg로 묶어 JSON 문자열로 받음
+ */
+@Getter
+@NoArgsConstructor
+public class VideoAnalysisDetail {
+    private VideoAnalysis analysis;
+    private VideoFile file;
+    private AnalysisResult result;    // 분석 전이면 null
+    private String predictionsJson;   // [ModelPrediction, ...]
+    private String artifactsJson;     // [DetectedArtifact, ...]
+    private String frameSummaryJson;  // FrameSummaryResponse
+}
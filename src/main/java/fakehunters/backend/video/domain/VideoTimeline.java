@@ -0,0 +1,23 @@
+package fakehunters.backend.video.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import java.time.OffsetDateTime;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VideoTimeline {
+    private Long analysisId;        // PK, FK
+    private Long resultId;
+    private Integer frameCount;
+    private Integer bucketFrames;
+    private Integer consistencyWindow;
+    private String perSecond;       // JSONB
+    private String perFrames;       // JSONB
+    private String downsampled;     // JSONB
+    private OffsetDateTime createdAt;
+}
@@ -0,0 +1,12 @@
+package fakehunters.backend.video.dto.request;
+
+import lombok.Data;
+
+/**
+ * presigned PUT으로 S3에 올린 영상의 분석 요청 (/api/s3/presign/upload, domain=video, stage=inputs)
+ */
+@Data
+public class VideoS3AnalyzeRequest {
+    private String s3Key;
+    private String filename;
+}
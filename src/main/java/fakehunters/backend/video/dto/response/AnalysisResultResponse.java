@@ -2,14 +2,18 @@ package fakehunters.backend.video.dto.response;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.time.OffsetDateTime;
 import java.util.List;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class AnalysisResultResponse {
     private Long resultId;
@@ -35,7 +39,9 @@ public class AnalysisResultResponse {
     private DetectedArtifactsResponse detectedArtifacts;
 
     @Data
-    @Builder
+    @Builder(toBuilder = true)
+    @NoArgsConstructor
+    @AllArgsConstructor
     public static class IndividualModelsResponse {
         private ModelPredictionResponse xception;
         private ModelPredictionResponse efficientnet;
@@ -45,7 +51,9 @@ public class AnalysisResultResponse {
     }
 
     @Data
-    @Builder
+    @Builder(toBuilder = true)
+    @NoArgsConstructor
+    @AllArgsConstructor
     public static class ModelPredictionResponse {
         private String modelName;
         private String prediction;
@@ -57,6 +65,8 @@ public class AnalysisResultResponse {
 
     @Data
     @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
     public static class DetectedArtifactsResponse {
         private ArtifactCategoryResponse spatial;
         private ArtifactCategoryResponse temporal;
@@ -65,6 +75,8 @@ public class AnalysisResultResponse {
 
     @Data
     @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
     public static class ArtifactCategoryResponse {
         private Boolean detected;
         private List<String> sources;
@@ -1,11 +1,15 @@
 package fakehunters.backend.video.dto.response;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class FrameAnalysisResponse {
     private Long frameId;
     private Integer frameNumber;
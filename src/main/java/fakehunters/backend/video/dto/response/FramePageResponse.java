@@ -0,0 +1,18 @@
+package fakehunters.backend.video.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FramePageResponse {
+    private List<FrameAnalysisResponse> frames;
+    private Integer nextAfterFrame;   // 다음 페이지 요청 시 afterFrame 값 (없으면 null)
+    private Boolean hasNext;
+}
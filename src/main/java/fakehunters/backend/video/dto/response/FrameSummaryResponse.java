@@ -0,0 +1,23 @@
+package fakehunters.backend.video.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 분석 결과 화면용 프레임 요약 (프레임 목록은 /analysis/{analysisId}/frames 에서 페이지 단위로 조회)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FrameSummaryResponse {
+    private Integer totalFrames;
+    private Integer suspiciousFrames;
+    private Integer firstFrameNumber;
+    private Integer lastFrameNumber;
+    private Double durationSeconds;          // 마지막 프레임 timestamp
+    private Double maxConfidenceScore;       // 의심 프레임 중 최대 신뢰도
+    private Integer maxConfidenceFrameNumber;
+}
@@ -1,22 +1,31 @@
 package fakehunters.backend.video.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.time.OffsetDateTime;
 import java.util.List;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class VideoAnalysisResponse {
     private Long analysisId;             // 분석ID (PK)
     private String title;                // 제목
     private String status;               // 상태 (PENDING/PROCESSING/COMPLETED/FAILED)
+    private String transcodeStatus;      // 웹 변환 상태 (PENDING/PROCESSING/COMPLETED/FAILED/SKIPPED)
     private OffsetDateTime createdAt;         // 분석 요청 시각
     private OffsetDateTime completedAt;       // 분석 완료 시각
 
     // 연관 데이터
     private VideoFileResponse videoFile;               // 영상 파일 정보
     private AnalysisResultResponse analysisResult;     // 분석 결과
-    private List<FrameAnalysisResponse> frameAnalyses; // 프레임별 분석
+    private FrameSummaryResponse frameSummary;         // 프레임 요약 (목록은 프레임 페이지 API)
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<FrameAnalysisResponse> frameAnalyses; // 프레임별 분석 (AI 서버 응답 수신용)
 }
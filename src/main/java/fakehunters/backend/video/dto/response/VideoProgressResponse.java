@@ -1,5 +1,6 @@
 package fakehunters.backend.video.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -21,4 +22,9 @@ public class VideoProgressResponse {
 
     @JsonProperty("detail")
     private String detail;
+
+    // AI 분석과 병렬로 진행되는 웹 변환 단계 진행률
+    @JsonProperty("transcoding")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private VideoProgressResponse transcoding;
 }
\ No newline at end of file
@@ -0,0 +1,49 @@
+package fakehunters.backend.video.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 신뢰도 타임라인 (프레임 저장 시 미리 집계, 컬럼형 배열로 전달)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VideoTimelineResponse {
+    private Long analysisId;
+    private Integer frameCount;
+    private Integer bucketFrames;        // perFrames 버킷 크기 (프레임 수)
+    private Integer consistencyWindow;   // 시간적 일관성 슬라이딩 윈도우 (프레임 수)
+
+    private BucketSeries perSecond;      // start = 초
+    private BucketSeries perFrames;      // start = 시작 frame_number
+    private DownsampledSeries downsampled;
+
+    // 버킷 i의 값은 각 배열의 i번째 원소 (프레임이 없는 버킷은 제외)
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BucketSeries {
+        private double[] start;
+        private int[] frameCount;
+        private double[] maxConfidence;
+        private double[] meanConfidence;
+        private double[] deepfakeRatio;
+        private double[] consistency;    // 1 - 윈도우 내 인접 프레임 신뢰도 변화량 평균
+    }
+
+    // LTTB 다운샘플링 결과 (원본 프레임 중 선택된 점)
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DownsampledSeries {
+        private int[] frameNumber;
+        private double[] seconds;
+        private double[] confidence;
+    }
+}
@@ -35,7 +35,10 @@ public enum VideoErrorCode implements ErrorCode {
     DELETE_ERROR("VIDEO015", "비디오 삭제 중 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
 
     // 폴링
-    INTERNAL_SERVER_ERROR("VIDEO016", "폴링 중 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
+    INTERNAL_SERVER_ERROR("VIDEO016", "폴링 중 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
+
+    // 프레임 조회
+    INVALID_FRAME_QUERY("VIDEO017", "프레임 조회 조건이 올바르지 않습니다.", HttpStatus.BAD_REQUEST);
 
     private final String code;
     private final String message;
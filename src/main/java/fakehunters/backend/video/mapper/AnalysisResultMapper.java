@@ -1,12 +1,28 @@
 package fakehunters.backend.video.mapper;
 
 import fakehunters.backend.video.domain.AnalysisResult;
+import fakehunters.backend.video.domain.DetectedArtifact;
+import fakehunters.backend.video.domain.ModelPrediction;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.List;
+
 @Mapper
 public interface AnalysisResultMapper {
     void insert(AnalysisResult analysisResult);
+    Long insertWithDetails(@Param("result") AnalysisResult result,
+                           @Param("predictions") List<ModelPrediction> predictions,
+                           @Param("artifacts") List<DetectedArtifact> artifacts);
+
+    // 스트리밍 저장 (빈 결과 행 → 프레임 청크 → 결과 채움 / 실패 시 보상 삭제)
+    Long insertPlaceholder(@Param("analysisId") Long analysisId);
+    Long completeWithDetails(@Param("result") AnalysisResult result,
+                             @Param("predictions") List<ModelPrediction> predictions,
+                             @Param("artifacts") List<DetectedArtifact> artifacts);
+    void deleteWithFrames(@Param("resultId") Long resultId);
+    void deleteIncompleteByAnalysisId(@Param("analysisId") Long analysisId);
+
     AnalysisResult findById(@Param("resultId") Long resultId);
     AnalysisResult findByAnalysisId(@Param("analysisId") Long analysisId);
 }
\ No newline at end of file
@@ -13,6 +13,14 @@ public interface FrameAnalysisMapper {
     List<FrameAnalysis> findByResultId(@Param("resultId") Long resultId);
     List<FrameAnalysis> findSuspiciousFramesByResultId(@Param("resultId") Long resultId);
 
+    // frame_number 기준 keyset 페이지 (limit + 1건 조회로 다음 페이지 여부 판단)
+    List<FrameAnalysis> findPageByAnalysisId(@Param("analysisId") Long analysisId,
+                                             @Param("afterFrame") Integer afterFrame,
+                                             @Param("fromSeconds") Double fromSeconds,
+                                             @Param("toSeconds") Double toSeconds,
+                                             @Param("suspiciousOnly") boolean suspiciousOnly,
+                                             @Param("limit") int limit);
+
     // 프레임 이미지 조회용 메서드 추가
     FrameAnalysis findByAnalysisIdAndFrameNumber(@Param("analysisId") Long analysisId,
                                                  @Param("frameNumber") Integer frameNumber);
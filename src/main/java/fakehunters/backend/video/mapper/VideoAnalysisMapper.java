@@ -1,13 +1,47 @@
 package fakehunters.backend.video.mapper;
 
 import fakehunters.backend.video.domain.VideoAnalysis;
+import fakehunters.backend.video.domain.VideoAnalysisDetail;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.List;
+
 @Mapper
 public interface VideoAnalysisMapper {
     void insert(VideoAnalysis videoAnalysis);
     VideoAnalysis findById(@Param("analysisId") Long analysisId);
+    VideoAnalysisDetail findDetailByAnalysisId(@Param("analysisId") Long analysisId);
     void updateStatus(@Param("analysisId") Long analysisId, @Param("status") String status);
     void updateCompletedAt(@Param("analysisId") Long analysisId);
+    void markCompleted(@Param("analysisId") Long analysisId);
+    void updateTranscodeStatus(@Param("analysisId") Long analysisId, @Param("transcodeStatus") String transcodeStatus);
+    void markTranscodeStarted(@Param("analysisId") Long analysisId);
+
+    // 업로드 중복 제거 (content_hash)
+    void updateContentHash(@Param("analysisId") Long analysisId, @Param("contentHash") String contentHash);
+    Long findDedupSource(@Param("contentHash") String contentHash,
+                         @Param("analysisId") Long analysisId,
+                         @Param("modelVersion") String modelVersion);
+    void linkToSource(@Param("analysisId") Long analysisId,
+                      @Param("sourceAnalysisId") Long sourceAnalysisId,
+                      @Param("transcodeStatus") String transcodeStatus);
+    // 결과(프레임 / 타임라인 포함)를 가진 분석 ID (재사용 작업이면 원본 분석 ID)
+    Long findResultAnalysisId(@Param("analysisId") Long analysisId);
+
+    // 작업 큐 (claim / lease)
+    List<Long> claimJobs(@Param("workerId") String workerId,
+                         @Param("leaseSeconds") int leaseSeconds,
+                         @Param("limit") int limit,
+                         @Param("maxAttempts") int maxAttempts);
+    void renewLease(@Param("analysisId") Long analysisId,
+                    @Param("workerId") String workerId,
+                    @Param("leaseSeconds") int leaseSeconds);
+    void releaseLease(@Param("analysisId") Long analysisId);
+    void backOffLease(@Param("analysisId") Long analysisId,
+                      @Param("backoffSeconds") int backoffSeconds);
+    int requeueOrphanedJobs(@Param("workerId") String workerId);
+    int failExhaustedJobs(@Param("maxAttempts") int maxAttempts);
+    int failStaleTranscodes(@Param("processingStaleSeconds") long processingStaleSeconds,
+                            @Param("pendingStaleSeconds") long pendingStaleSeconds);
 }
\ No newline at end of file
@@ -4,10 +4,17 @@ import fakehunters.backend.video.domain.VideoFile;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.math.BigDecimal;
+
 @Mapper
 public interface VideoFileMapper {
     void insert(VideoFile videoFile);
     VideoFile findById(@Param("fileId") Long fileId);
     VideoFile findByAnalysisId(@Param("analysisId") Long analysisId);
     void updateWebFilePath(@Param("analysisId") Long analysisId, @Param("webFilePath") String webFilePath);
+    void updateDurationSeconds(@Param("analysisId") Long analysisId, @Param("durationSeconds") Double durationSeconds);
+    void updateMediaInfo(@Param("analysisId") Long analysisId,
+                         @Param("resolution") String resolution,
+                         @Param("fps") BigDecimal fps,
+                         @Param("durationSeconds") Double durationSeconds);
 }
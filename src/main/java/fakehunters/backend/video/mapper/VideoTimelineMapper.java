@@ -0,0 +1,12 @@
+package fakehunters.backend.video.mapper;
+
+import fakehunters.backend.video.domain.VideoTimeline;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface VideoTimelineMapper {
+    // analysis_id 기준 upsert (재분석 시 덮어씀)
+    void upsert(VideoTimeline timeline);
+    VideoTimeline findByAnalysisId(@Param("analysisId") Long analysisId);
+}
@@ -0,0 +1,35 @@
+package fakehunters.backend.video.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * ffprobe 스트림의 프레임레이트 (VideoTranscodingService / VideoSegmenter 공용)
+ */
+final class FfprobeFrameRate {
+
+    private FfprobeFrameRate() {
+    }
+
+    /**
+     * avg_frame_rate, 없으면 r_frame_rate (둘 다 없으면 null)
+     */
+    static Double of(JsonNode stream) {
+        Double fps = parse(stream.path("avg_frame_rate").asText(null));
+        return fps != null ? fps : parse(stream.path("r_frame_rate").asText(null));
+    }
+
+    // "30000/1001" 형식, 0/0 은 null
+    static Double parse(String rate) {
+        if (rate == null) {
+            return null;
+        }
+        String[] parts = rate.split("/");
+        try {
+            double numerator = Double.parseDouble(parts[0]);
+            double denominator = parts.length == 2 ? Double.parseDouble(parts[1]) : 1;
+            return numerator > 0 && denominator > 0 ? numerator / denominator : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
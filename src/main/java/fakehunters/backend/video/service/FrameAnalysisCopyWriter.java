@@ -0,0 +1,121 @@
+package fakehunters.backend.video.service;
+
+import fakehunters.backend.video.domain.FrameAnalysis;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * video_analysis_frame 대량 저장 (PostgreSQL COPY FROM STDIN)
+ * - 바인드 파라미터 한도(65535) 없이 프레임 수에 비례하는 한 번의 COPY 스트림
+ * - CSV를 chunk-size 바이트 단위로 나눠 전송 (전체 SQL 문자열을 만들지 않음)
+ * - DataSourceUtils로 커넥션을 얻어 진행 중인 트랜잭션에 참여
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FrameAnalysisCopyWriter {
+
+    private static final String COPY_SQL =
+            "COPY video_analysis_frame (result_id, frame_number, timestamp_seconds, is_deepfake, "
+                    + "confidence_score, anomaly_type, features) FROM STDIN WITH (FORMAT csv)";
+
+    private final DataSource dataSource;
+
+    @Value("${video.result.copy-chunk-size:65536}")
+    private int chunkSize;
+
+    public long copy(List<FrameAnalysis> frames) throws SQLException {
+        if (frames.isEmpty()) {
+            return 0;
+        }
+
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        CopyIn copyIn = null;
+        try {
+            copyIn = connection.unwrap(PGConnection.class)
+                    .getCopyAPI()
+                    .copyIn(COPY_SQL);
+
+            StringBuilder chunk = new StringBuilder(chunkSize + 1024);
+            for (FrameAnalysis frame : frames) {
+                appendRow(chunk, frame);
+                if (chunk.length() >= chunkSize) {
+                    write(copyIn, chunk);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                write(copyIn, chunk);
+            }
+
+            long rows = copyIn.endCopy();
+            copyIn = null;
+            return rows;
+        } finally {
+            if (copyIn != null && copyIn.isActive()) {
+                try {
+                    copyIn.cancelCopy();
+                } catch (SQLException e) {
+                    log.warn("COPY 취소 실패", e);
+                }
+            }
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private void write(CopyIn copyIn, StringBuilder chunk) throws SQLException {
+        byte[] bytes = chunk.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        chunk.setLength(0);
+    }
+
+    private void appendRow(StringBuilder sb, FrameAnalysis frame) {
+        appendValue(sb, frame.getResultId());
+        sb.append(',');
+        appendValue(sb, frame.getFrameNumber());
+        sb.append(',');
+        appendValue(sb, frame.getTimestampSeconds());
+        sb.append(',');
+        appendValue(sb, frame.getIsDeepfake());
+        sb.append(',');
+        appendValue(sb, frame.getConfidenceScore());
+        sb.append(',');
+        appendText(sb, frame.getAnomalyType());
+        sb.append(',');
+        appendText(sb, frame.getFeatures());
+        sb.append('\n');
+    }
+
+    // CSV에서 따옴표 없는 빈 값은 NULL
+    private void appendValue(StringBuilder sb, Object value) {
+        if (value != null) {
+            sb.append(value);
+        }
+    }
+
+    // 문자열은 항상 따옴표로 감싸고 내부 따옴표는 두 번 (빈 문자열과 NULL 구분)
+    private void appendText(StringBuilder sb, String value) {
+        if (value == null) {
+            return;
+        }
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                sb.append('"');
+            }
+            sb.append(c);
+        }
+        sb.append('"');
+    }
+}
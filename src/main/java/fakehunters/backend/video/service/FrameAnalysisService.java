@@ -1,10 +1,19 @@
 package fakehunters.backend.video.service;
 
+import fakehunters.backend.video.domain.AnalysisResult;
 import fakehunters.backend.video.domain.FrameAnalysis;
+import fakehunters.backend.video.domain.VideoAnalysis;
+import fakehunters.backend.video.domain.VideoTimeline;
 
 import fakehunters.backend.video.dto.response.FrameAnalysisResponse;
+import fakehunters.backend.video.dto.response.FramePageResponse;
+import fakehunters.backend.video.dto.response.VideoTimelineResponse;
 import fakehunters.backend.video.exception.VideoErrorCode;
+import fakehunters.backend.video.mapper.AnalysisResultMapper;
 import fakehunters.backend.video.mapper.FrameAnalysisMapper;
+import fakehunters.backend.video.mapper.VideoAnalysisMapper;
+import fakehunters.backend.video.mapper.VideoTimelineMapper;
+import fakehunters.backend.global.exception.custom.CustomBusinessException;
 import fakehunters.backend.global.exception.custom.CustomSystemException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,6 +28,13 @@ import java.util.List;
 public class FrameAnalysisService {
 
     private final FrameAnalysisMapper frameAnalysisMapper;
+    private final AnalysisResultMapper analysisResultMapper;
+    private final VideoAnalysisMapper videoAnalysisMapper;
+    private final VideoTimelineMapper videoTimelineMapper;
+    private final FrameTimelineAggregator timelineAggregator;
+
+    private static final int DEFAULT_PAGE_SIZE = 200;
+    private static final int MAX_PAGE_SIZE = 1000;
 
     @Transactional(readOnly = true)
     public FrameAnalysisResponse getFrameAnalysis(Long frameId) {
@@ -42,6 +58,73 @@ public class FrameAnalysisService {
         return frames.stream().map(this::convertToResponse).toList();
     }
 
+    /**
+     * 프레임 keyset 페이지 조회
+     * afterFrame 이후 frame_number 오름차순, [fromSeconds, toSeconds] 구간 / 의심 프레임 필터
+     */
+    @Transactional(readOnly = true)
+    public FramePageResponse getFramePage(Long analysisId, Integer afterFrame, Integer limit,
+                                          Double fromSeconds, Double toSeconds, boolean suspiciousOnly) {
+        int pageSize = limit != null ? limit : DEFAULT_PAGE_SIZE;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE
+                || (fromSeconds != null && toSeconds != null && fromSeconds > toSeconds)) {
+            throw new CustomBusinessException(VideoErrorCode.INVALID_FRAME_QUERY);
+        }
+
+        List<FrameAnalysis> frames = frameAnalysisMapper.findPageByAnalysisId(
+                resolveResultAnalysisId(analysisId), afterFrame, fromSeconds, toSeconds, suspiciousOnly, pageSize + 1);
+
+        boolean hasNext = frames.size() > pageSize;
+        List<FrameAnalysis> page = hasNext ? frames.subList(0, pageSize) : frames;
+
+        return FramePageResponse.builder()
+                .frames(page.stream().map(this::convertToResponse).toList())
+                .nextAfterFrame(hasNext ? page.get(page.size() - 1).getFrameNumber() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 신뢰도 타임라인 조회
+     * 타임라인 테이블 도입 이전에 저장된 분석은 프레임에서 한 번 집계해 저장 후 반환 (COMPLETED 작업만)
+     */
+    @Transactional
+    public VideoTimelineResponse getTimeline(Long requestedAnalysisId) {
+        Long analysisId = resolveResultAnalysisId(requestedAnalysisId);
+        VideoTimeline timeline = videoTimelineMapper.findByAnalysisId(analysisId);
+        if (timeline == null) {
+            // 분석이 끝나기 전(스트리밍 저장 중 / 실패)의 부분 프레임으로 타임라인을 고정 저장하지 않도록
+            VideoAnalysis analysis = videoAnalysisMapper.findById(analysisId);
+            if (analysis == null || !"COMPLETED".equals(analysis.getStatus())) {
+                throw new CustomSystemException(VideoErrorCode.NOT_FOUND);
+            }
+
+            AnalysisResult result = analysisResultMapper.findByAnalysisId(analysisId);
+            if (result == null) {
+                throw new CustomSystemException(VideoErrorCode.NOT_FOUND);
+            }
+
+            List<FrameAnalysis> frames = frameAnalysisMapper.findByResultId(result.getResultId());
+            timeline = timelineAggregator.toEntity(
+                    analysisId, result.getResultId(), timelineAggregator.aggregate(frames));
+            videoTimelineMapper.upsert(timeline);
+            log.info("타임라인 집계 (기존 분석) - ID: {}, 프레임: {}개", analysisId, frames.size());
+        }
+
+        VideoTimelineResponse response = timelineAggregator.toResponse(timeline);
+        response.setAnalysisId(requestedAnalysisId);
+        return response;
+    }
+
+    // 중복 업로드로 재사용된 작업은 원본 분석의 결과 / 프레임을 조회
+    private Long resolveResultAnalysisId(Long analysisId) {
+        Long resultAnalysisId = videoAnalysisMapper.findResultAnalysisId(analysisId);
+        if (resultAnalysisId == null) {
+            throw new CustomSystemException(VideoErrorCode.NOT_FOUND);
+        }
+        return resultAnalysisId;
+    }
+
     private FrameAnalysisResponse convertToResponse(FrameAnalysis frame) {
         return FrameAnalysisResponse.builder()
                 .frameId(frame.getFrameId())
@@ -0,0 +1,423 @@
+package fakehunters.backend.video.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fakehunters.backend.global.exception.custom.CustomSystemException;
+import fakehunters.backend.video.domain.FrameAnalysis;
+import fakehunters.backend.video.domain.VideoTimeline;
+import fakehunters.backend.video.dto.response.VideoTimelineResponse;
+import fakehunters.backend.video.exception.VideoErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 프레임 신뢰도 타임라인 집계 (프레임 저장 시 한 번 계산해서 video_analysis_timeline에 보관)
+ * - 초 단위 / bucket-frames 프레임 단위 버킷: 최대·평균 신뢰도, 딥페이크 비율, 시간적 일관성
+ * - 시간적 일관성: 1 - 최근 consistency-window 프레임의 인접 신뢰도 변화량 평균 (누적합으로 O(n))
+ * - LTTB로 downsample-points 개까지 줄인 신뢰도 곡선
+ * 프레임 객체 대신 primitive 배열로 한 번에 펼쳐서 계산
+ */
+@Slf4j
+@Component
+public class FrameTimelineAggregator {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Value("${video.timeline.bucket-frames:30}")
+    private int bucketFrames;
+
+    @Value("${video.timeline.consistency-window:15}")
+    private int consistencyWindow;
+
+    @Value("${video.timeline.downsample-points:500}")
+    private int downsamplePoints;
+
+    public VideoTimelineResponse aggregate(List<FrameAnalysis> frames) {
+        FrameSeries series = new FrameSeries(frames.size());
+        for (FrameAnalysis frame : sortedByFrameNumber(frames)) {
+            series.add(frame.getFrameNumber(), frame.getTimestampSeconds(),
+                    frame.getConfidenceScore(), frame.getIsDeepfake());
+        }
+        return aggregate(series);
+    }
+
+    /**
+     * 스트리밍 저장용: 프레임 객체 없이 누적한 원시값으로 집계
+     */
+    public VideoTimelineResponse aggregate(FrameSeries series) {
+        series.sortByFrameNumber();
+        int n = series.size;
+        int bucketSize = Math.max(1, bucketFrames);
+        int window = Math.max(2, consistencyWindow);
+
+        int[] frameNumbers = Arrays.copyOf(series.frameNumbers, n);
+        double[] seconds = Arrays.copyOf(series.seconds, n);
+        double[] confidence = Arrays.copyOf(series.confidence, n);
+        boolean[] deepfake = Arrays.copyOf(series.deepfake, n);
+
+        double[] consistency = consistency(confidence, window);
+
+        return VideoTimelineResponse.builder()
+                .frameCount(n)
+                .bucketFrames(bucketSize)
+                .consistencyWindow(window)
+                .perSecond(perSecond(seconds, confidence, deepfake, consistency))
+                .perFrames(perFrames(frameNumbers, bucketSize, confidence, deepfake, consistency))
+                .downsampled(downsample(frameNumbers, seconds, confidence))
+                .build();
+    }
+
+    public VideoTimeline toEntity(Long analysisId, Long resultId, VideoTimelineResponse timeline) {
+        return VideoTimeline.builder()
+                .analysisId(analysisId)
+                .resultId(resultId)
+                .frameCount(timeline.getFrameCount())
+                .bucketFrames(timeline.getBucketFrames())
+                .consistencyWindow(timeline.getConsistencyWindow())
+                .perSecond(toJson(timeline.getPerSecond()))
+                .perFrames(toJson(timeline.getPerFrames()))
+                .downsampled(toJson(timeline.getDownsampled()))
+                .build();
+    }
+
+    public VideoTimelineResponse toResponse(VideoTimeline timeline) {
+        try {
+            return VideoTimelineResponse.builder()
+                    .analysisId(timeline.getAnalysisId())
+                    .frameCount(timeline.getFrameCount())
+                    .bucketFrames(timeline.getBucketFrames())
+                    .consistencyWindow(timeline.getConsistencyWindow())
+                    .perSecond(objectMapper.readValue(timeline.getPerSecond(), VideoTimelineResponse.BucketSeries.class))
+                    .perFrames(objectMapper.readValue(timeline.getPerFrames(), VideoTimelineResponse.BucketSeries.class))
+                    .downsampled(objectMapper.readValue(timeline.getDownsampled(), VideoTimelineResponse.DownsampledSeries.class))
+                    .build();
+        } catch (JsonProcessingException e) {
+            log.error("타임라인 파싱 실패 - ID: {}", timeline.getAnalysisId(), e);
+            throw new CustomSystemException(VideoErrorCode.PROCESSING_ERROR);
+        }
+    }
+
+    /**
+     * 프레임별 시간적 일관성 (i 포함 최근 window 프레임의 인접 변화량 평균을 1에서 뺀 값)
+     */
+    static double[] consistency(double[] confidence, int window) {
+        int n = confidence.length;
+        double[] prefix = new double[n];
+        for (int i = 1; i < n; i++) {
+            prefix[i] = prefix[i - 1] + Math.abs(confidence[i] - confidence[i - 1]);
+        }
+
+        double[] result = new double[n];
+        for (int i = 0; i < n; i++) {
+            int from = Math.max(0, i - window + 1);
+            int deltas = i - from;
+            result[i] = deltas == 0 ? 1.0 : 1.0 - (prefix[i] - prefix[from]) / deltas;
+        }
+        return result;
+    }
+
+    /**
+     * Largest-Triangle-Three-Buckets: 첫/마지막 점을 고정하고 구간마다 삼각형 넓이가 가장 큰 점 선택
+     * 반환값은 선택된 원소의 인덱스 (오름차순)
+     */
+    static int[] lttb(double[] x, double[] y, int threshold) {
+        int n = x.length;
+        if (threshold >= n || threshold < 3) {
+            int[] all = new int[n];
+            for (int i = 0; i < n; i++) {
+                all[i] = i;
+            }
+            return all;
+        }
+
+        int[] sampled = new int[threshold];
+        int count = 0;
+        sampled[count++] = 0;
+
+        double every = (double) (n - 2) / (threshold - 2);
+        int a = 0;
+        for (int i = 0; i < threshold - 2; i++) {
+            // 다음 구간의 평균점
+            int avgStart = (int) Math.floor((i + 1) * every) + 1;
+            int avgEnd = Math.min((int) Math.floor((i + 2) * every) + 1, n);
+            double avgX = 0;
+            double avgY = 0;
+            for (int j = avgStart; j < avgEnd; j++) {
+                avgX += x[j];
+                avgY += y[j];
+            }
+            int avgLength = avgEnd - avgStart;
+            avgX /= avgLength;
+            avgY /= avgLength;
+
+            // 현재 구간에서 (이전 선택점, 후보, 다음 구간 평균) 삼각형 넓이 최대인 점
+            int rangeStart = (int) Math.floor(i * every) + 1;
+            int rangeEnd = (int) Math.floor((i + 1) * every) + 1;
+            double maxArea = -1;
+            int next = rangeStart;
+            for (int j = rangeStart; j < rangeEnd; j++) {
+                double area = Math.abs((x[a] - avgX) * (y[j] - y[a]) - (x[a] - x[j]) * (avgY - y[a]));
+                if (area > maxArea) {
+                    maxArea = area;
+                    next = j;
+                }
+            }
+            sampled[count++] = next;
+            a = next;
+        }
+        sampled[count] = n - 1;
+        return sampled;
+    }
+
+    // 타임스탬프가 없는 프레임은 초 단위 버킷에서 제외
+    private VideoTimelineResponse.BucketSeries perSecond(double[] seconds, double[] confidence,
+                                                         boolean[] deepfake, double[] consistency) {
+        int n = seconds.length;
+        int first = Integer.MAX_VALUE;
+        int last = Integer.MIN_VALUE;
+        for (double s : seconds) {
+            if (!Double.isNaN(s)) {
+                first = Math.min(first, (int) Math.floor(s));
+                last = Math.max(last, (int) Math.floor(s));
+            }
+        }
+        if (first > last) {
+            return bucketize(new int[n], 0, 0, 1, confidence, deepfake, consistency);
+        }
+
+        int[] bucketOf = new int[n];
+        for (int i = 0; i < n; i++) {
+            bucketOf[i] = Double.isNaN(seconds[i]) ? -1 : (int) Math.floor(seconds[i]) - first;
+        }
+        return bucketize(bucketOf, last - first + 1, first, 1, confidence, deepfake, consistency);
+    }
+
+    private VideoTimelineResponse.BucketSeries perFrames(int[] frameNumbers, int bucketSize, double[] confidence,
+                                                         boolean[] deepfake, double[] consistency) {
+        int n = frameNumbers.length;
+        if (n == 0) {
+            return bucketize(new int[0], 0, 0, bucketSize, confidence, deepfake, consistency);
+        }
+
+        int first = frameNumbers[0];
+        int[] bucketOf = new int[n];
+        for (int i = 0; i < n; i++) {
+            bucketOf[i] = (frameNumbers[i] - first) / bucketSize;
+        }
+        return bucketize(bucketOf, bucketOf[n - 1] + 1, first, bucketSize, confidence, deepfake, consistency);
+    }
+
+    // bucketOf[i] < 0 인 프레임은 제외, 프레임이 없는 버킷은 결과에서 제외
+    private VideoTimelineResponse.BucketSeries bucketize(int[] bucketOf, int bucketCount, double startBase,
+                                                         double startStep, double[] confidence,
+                                                         boolean[] deepfake, double[] consistency) {
+        int[] count = new int[bucketCount];
+        double[] max = new double[bucketCount];
+        double[] sum = new double[bucketCount];
+        int[] fakes = new int[bucketCount];
+        double[] consistencySum = new double[bucketCount];
+
+        for (int i = 0; i < bucketOf.length; i++) {
+            int b = bucketOf[i];
+            if (b < 0 || b >= bucketCount) {
+                continue;
+            }
+            max[b] = count[b] == 0 ? confidence[i] : Math.max(max[b], confidence[i]);
+            count[b]++;
+            sum[b] += confidence[i];
+            if (deepfake[i]) {
+                fakes[b]++;
+            }
+            consistencySum[b] += consistency[i];
+        }
+
+        int filled = 0;
+        for (int c : count) {
+            if (c > 0) {
+                filled++;
+            }
+        }
+
+        double[] start = new double[filled];
+        int[] frameCount = new int[filled];
+        double[] maxConfidence = new double[filled];
+        double[] meanConfidence = new double[filled];
+        double[] deepfakeRatio = new double[filled];
+        double[] bucketConsistency = new double[filled];
+
+        int k = 0;
+        for (int b = 0; b < bucketCount; b++) {
+            if (count[b] == 0) {
+                continue;
+            }
+            start[k] = startBase + b * startStep;
+            frameCount[k] = count[b];
+            maxConfidence[k] = round(max[b]);
+            meanConfidence[k] = round(sum[b] / count[b]);
+            deepfakeRatio[k] = round((double) fakes[b] / count[b]);
+            bucketConsistency[k] = round(consistencySum[b] / count[b]);
+            k++;
+        }
+
+        return VideoTimelineResponse.BucketSeries.builder()
+                .start(start)
+                .frameCount(frameCount)
+                .maxConfidence(maxConfidence)
+                .meanConfidence(meanConfidence)
+                .deepfakeRatio(deepfakeRatio)
+                .consistency(bucketConsistency)
+                .build();
+    }
+
+    // 타임스탬프가 있는 프레임만 대상으로 LTTB
+    private VideoTimelineResponse.DownsampledSeries downsample(int[] frameNumbers, double[] seconds,
+                                                               double[] confidence) {
+        int valid = 0;
+        for (double s : seconds) {
+            if (!Double.isNaN(s)) {
+                valid++;
+            }
+        }
+
+        int[] index = new int[valid];
+        double[] x = new double[valid];
+        double[] y = new double[valid];
+        int k = 0;
+        for (int i = 0; i < seconds.length; i++) {
+            if (!Double.isNaN(seconds[i])) {
+                index[k] = i;
+                x[k] = seconds[i];
+                y[k] = confidence[i];
+                k++;
+            }
+        }
+
+        int[] selected = lttb(x, y, downsamplePoints);
+        int[] frameNumber = new int[selected.length];
+        double[] secondsOut = new double[selected.length];
+        double[] confidenceOut = new double[selected.length];
+        for (int i = 0; i < selected.length; i++) {
+            frameNumber[i] = frameNumbers[index[selected[i]]];
+            secondsOut[i] = round(x[selected[i]]);
+            confidenceOut[i] = round(y[selected[i]]);
+        }
+
+        return VideoTimelineResponse.DownsampledSeries.builder()
+                .frameNumber(frameNumber)
+                .seconds(secondsOut)
+                .confidence(confidenceOut)
+                .build();
+    }
+
+    // AI 서버가 순서대로 보내는 경우가 대부분이므로 정렬이 필요할 때만 복사
+    private List<FrameAnalysis> sortedByFrameNumber(List<FrameAnalysis> frames) {
+        for (int i = 1; i < frames.size(); i++) {
+            Integer previous = frames.get(i - 1).getFrameNumber();
+            Integer current = frames.get(i).getFrameNumber();
+            if (previous == null || current == null || previous > current) {
+                List<FrameAnalysis> sorted = new ArrayList<>(frames);
+                sorted.sort(Comparator.comparing(FrameAnalysis::getFrameNumber,
+                        Comparator.nullsLast(Comparator.naturalOrder())));
+                return sorted;
+            }
+        }
+        return frames;
+    }
+
+    // 신뢰도 컬럼(DECIMAL(5, 4))과 같은 소수 4자리
+    private static double round(double value) {
+        return Math.round(value * 10_000) / 10_000.0;
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            log.error("타임라인 직렬화 실패", e);
+            throw new CustomSystemException(VideoErrorCode.PROCESSING_ERROR);
+        }
+    }
+
+    /**
+     * 타임라인 집계 입력 (프레임당 원시값 4개만 보관)
+     * 스트리밍 저장 시 청크를 DB에 쓰고 버린 뒤에도 타임라인을 계산할 수 있도록 누적
+     */
+    public static final class FrameSeries {
+        private int size;
+        private int[] frameNumbers;
+        private double[] seconds;
+        private double[] confidence;
+        private boolean[] deepfake;
+
+        public FrameSeries() {
+            this(256);
+        }
+
+        public FrameSeries(int initialCapacity) {
+            int capacity = Math.max(16, initialCapacity);
+            frameNumbers = new int[capacity];
+            seconds = new double[capacity];
+            confidence = new double[capacity];
+            deepfake = new boolean[capacity];
+        }
+
+        // frame_number가 없으면 직전 프레임 + 1, 타임스탬프가 없으면 NaN (다운샘플에서 제외)
+        public void add(Integer frameNumber, Double timestampSeconds, Double confidenceScore, Boolean isDeepfake) {
+            if (size == frameNumbers.length) {
+                int capacity = size + (size >> 1);
+                frameNumbers = Arrays.copyOf(frameNumbers, capacity);
+                seconds = Arrays.copyOf(seconds, capacity);
+                confidence = Arrays.copyOf(confidence, capacity);
+                deepfake = Arrays.copyOf(deepfake, capacity);
+            }
+            frameNumbers[size] = frameNumber != null ? frameNumber : (size > 0 ? frameNumbers[size - 1] + 1 : 0);
+            seconds[size] = timestampSeconds != null ? timestampSeconds : Double.NaN;
+            confidence[size] = confidenceScore != null ? confidenceScore : 0.0;
+            deepfake[size] = Boolean.TRUE.equals(isDeepfake);
+            size++;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        // 대부분 이미 정렬돼 있으므로 확인 후 필요할 때만 (frame_number, 입력 순서) 키로 정렬
+        void sortByFrameNumber() {
+            boolean sorted = true;
+            for (int i = 1; i < size && sorted; i++) {
+                sorted = frameNumbers[i - 1] <= frameNumbers[i];
+            }
+            if (sorted) {
+                return;
+            }
+
+            long[] keys = new long[size];
+            for (int i = 0; i < size; i++) {
+                keys[i] = ((long) frameNumbers[i] << 32) | i;
+            }
+            Arrays.sort(keys);
+
+            int[] sortedFrameNumbers = new int[size];
+            double[] sortedSeconds = new double[size];
+            double[] sortedConfidence = new double[size];
+            boolean[] sortedDeepfake = new boolean[size];
+            for (int i = 0; i < size; i++) {
+                int from = (int) keys[i];
+                sortedFrameNumbers[i] = frameNumbers[from];
+                sortedSeconds[i] = seconds[from];
+                sortedConfidence[i] = confidence[from];
+                sortedDeepfake[i] = deepfake[from];
+            }
+            frameNumbers = sortedFrameNumbers;
+            seconds = sortedSeconds;
+            confidence = sortedConfidence;
+            deepfake = sortedDeepfake;
+        }
+    }
+}
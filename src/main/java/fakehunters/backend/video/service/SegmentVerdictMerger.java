@@ -0,0 +1,191 @@
+package fakehunters.backend.video.service;
+
+import fakehunters.backend.video.dto.response.AnalysisResultResponse;
+import fakehunters.backend.video.dto.response.FrameAnalysisResponse;
+import fakehunters.backend.video.dto.response.VideoAnalysisResponse;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 구간별 AI 응답을 원본 영상 하나의 결과로 병합 (구간 응답이 도착하는 순서와 무관)
+ * - 프레임: frame_number += 구간 frameOffset, timestamp += 구간 start_time
+ * - 판정: 병합한 프레임의 딥페이크 비율 ≥ deepfake-ratio, 신뢰도는 판정과 같은 프레임들의 평균 신뢰도
+ * - 앙상블 확률 / 모델 일치도: 구간 프레임 수 가중 평균
+ * - 개별 모델 / 아티팩트 / 위험도: 앙상블 확률이 가장 높은 구간 기준 (suspiciousFrames도 원본 번호로 보정)
+ * 구간 응답들을 동시에 스트리밍하며 호출하므로 상태를 바꾸는 메서드는 synchronized
+ */
+class SegmentVerdictMerger {
+
+    private final double deepfakeRatio;
+    private final FrameTimelineAggregator.FrameSeries frames = new FrameTimelineAggregator.FrameSeries();
+
+    private int segmentCount;
+    private int frameCount;
+    private int deepfakeFrames;
+    private int fakeScored;
+    private int realScored;
+    private double fakeConfidenceSum;
+    private double realConfidenceSum;
+
+    private double ensembleSum;
+    private long ensembleWeight;
+    private double agreementSum;
+    private long agreementWeight;
+    private long processingTimeMs;
+    private String modelVersion;
+    private final Set<String> techniques = new LinkedHashSet<>();
+
+    private AnalysisResultResponse mostSuspicious;
+    private double maxEnsemble = Double.NEGATIVE_INFINITY;
+
+    SegmentVerdictMerger(double deepfakeRatio) {
+        this.deepfakeRatio = deepfakeRatio;
+    }
+
+    /**
+     * 스트리밍 중인 구간의 프레임 청크 반영 후 원본 기준으로 보정해서 반환
+     */
+    synchronized List<FrameAnalysisResponse> addFrames(VideoSegmenter.VideoSegment segment,
+                                                       List<FrameAnalysisResponse> segmentFrames) {
+        for (FrameAnalysisResponse frame : segmentFrames) {
+            if (frame.getFrameNumber() != null) {
+                frame.setFrameNumber(frame.getFrameNumber() + segment.frameOffset());
+            }
+            if (frame.getTimestampSeconds() != null) {
+                frame.setTimestampSeconds(frame.getTimestampSeconds() + segment.startSeconds());
+            }
+            addFrame(frame);
+        }
+        return segmentFrames;
+    }
+
+    /**
+     * 구간 응답이 끝나면 프레임을 뺀 나머지(analysisResult) 반영, segmentFrames = 이 구간의 프레임 수
+     */
+    synchronized void completeSegment(VideoSegmenter.VideoSegment segment, VideoAnalysisResponse response,
+                                      int segmentFrames) {
+        segmentCount++;
+        AnalysisResultResponse result = response.getAnalysisResult();
+        if (result != null) {
+            addResult(segment, result, Math.max(1, segmentFrames));
+        }
+    }
+
+    private void addFrame(FrameAnalysisResponse frame) {
+        frames.add(frame.getFrameNumber(), frame.getTimestampSeconds(),
+                frame.getConfidenceScore(), frame.getIsDeepfake());
+        frameCount++;
+
+        boolean fake = Boolean.TRUE.equals(frame.getIsDeepfake());
+        if (fake) {
+            deepfakeFrames++;
+        }
+        if (frame.getConfidenceScore() != null) {
+            if (fake) {
+                fakeConfidenceSum += frame.getConfidenceScore();
+                fakeScored++;
+            } else {
+                realConfidenceSum += frame.getConfidenceScore();
+                realScored++;
+            }
+        }
+    }
+
+    private void addResult(VideoSegmenter.VideoSegment segment, AnalysisResultResponse result, int weight) {
+        if (result.getEnsembleFakeProbability() != null) {
+            ensembleSum += result.getEnsembleFakeProbability() * weight;
+            ensembleWeight += weight;
+            if (result.getEnsembleFakeProbability() > maxEnsemble) {
+                maxEnsemble = result.getEnsembleFakeProbability();
+                mostSuspicious = withOffset(result, segment.frameOffset());
+            }
+        } else if (mostSuspicious == null) {
+            mostSuspicious = withOffset(result, segment.frameOffset());
+        }
+        if (result.getModelAgreement() != null) {
+            agreementSum += result.getModelAgreement() * weight;
+            agreementWeight += weight;
+        }
+        if (result.getProcessingTimeMs() != null) {
+            processingTimeMs += result.getProcessingTimeMs();
+        }
+        if (modelVersion == null) {
+            modelVersion = result.getModelVersion();
+        }
+        if (result.getDetectedTechniques() != null) {
+            for (String technique : result.getDetectedTechniques().split(",")) {
+                if (!technique.isBlank()) {
+                    techniques.add(technique.trim());
+                }
+            }
+        }
+    }
+
+    // CNN-LSTM suspiciousFrames는 구간 기준 번호 → 구간 응답은 그대로 두고 복사본에서 보정
+    private AnalysisResultResponse withOffset(AnalysisResultResponse result, int frameOffset) {
+        AnalysisResultResponse.IndividualModelsResponse models = result.getIndividualModels();
+        if (models == null || models.getCnnLstm() == null || models.getCnnLstm().getSuspiciousFrames() == null) {
+            return result;
+        }
+
+        AnalysisResultResponse.ModelPredictionResponse cnnLstm = models.getCnnLstm().toBuilder()
+                .suspiciousFrames(models.getCnnLstm().getSuspiciousFrames().stream()
+                        .map(frame -> frame != null ? frame + frameOffset : null)
+                        .toList())
+                .build();
+        return result.toBuilder()
+                .individualModels(models.toBuilder().cnnLstm(cnnLstm).build())
+                .build();
+    }
+
+    synchronized FrameTimelineAggregator.FrameSeries frames() {
+        return frames;
+    }
+
+    synchronized int frameCount() {
+        return frameCount;
+    }
+
+    /**
+     * 병합 결과 (프레임 목록 제외, VideoResultWriter.completeStream 입력)
+     */
+    synchronized VideoAnalysisResponse toResponse() {
+        Double ensemble = ensembleWeight > 0 ? ensembleSum / ensembleWeight : null;
+
+        // 프레임이 없으면 구간 앙상블 확률로 판정
+        boolean deepfake;
+        Double confidence;
+        double ratio = frameCount > 0 ? (double) deepfakeFrames / frameCount : 0.0;
+        if (frameCount > 0) {
+            deepfake = ratio >= deepfakeRatio;
+            confidence = deepfake
+                    ? (fakeScored > 0 ? fakeConfidenceSum / fakeScored : null)
+                    : (realScored > 0 ? realConfidenceSum / realScored : null);
+        } else {
+            deepfake = ensemble != null && ensemble >= 0.5;
+            confidence = ensemble != null ? (deepfake ? ensemble : 1 - ensemble) : null;
+        }
+
+        AnalysisResultResponse merged = AnalysisResultResponse.builder()
+                .isDeepfake(deepfake)
+                .confidenceScore(confidence)
+                .modelVersion(modelVersion)
+                .processingTimeMs(processingTimeMs)
+                .detectedTechniques(techniques.isEmpty() ? null : String.join(",", techniques))
+                .summary(String.format("%d개 구간 병합 분석 - 딥페이크 프레임 %d/%d (%.1f%%)",
+                        segmentCount, deepfakeFrames, frameCount, ratio * 100))
+                .ensembleFakeProbability(ensemble)
+                .modelAgreement(agreementWeight > 0 ? agreementSum / agreementWeight : null)
+                .riskLevel(mostSuspicious != null ? mostSuspicious.getRiskLevel() : null)
+                .individualModels(mostSuspicious != null ? mostSuspicious.getIndividualModels() : null)
+                .detectedArtifacts(mostSuspicious != null ? mostSuspicious.getDetectedArtifacts() : null)
+                .build();
+
+        return VideoAnalysisResponse.builder()
+                .status("COMPLETED")
+                .analysisResult(merged)
+                .build();
+    }
+}
@@ -0,0 +1,134 @@
+package fakehunters.backend.video.service;
+
+import fakehunters.backend.video.dto.response.FrameAnalysisResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 구간 분할 분석 (video.segment.enabled)
+ * - 구간들을 최대 concurrency 개씩 동시에 AI 서버로 전송, 실패한 구간만 max-retries 번 재시도
+ *   (로컬 구간은 multipart, S3에 올린 구간은 원본 S3 입력과 같은 key / presigned URL 요청)
+ * - 구간 응답은 VideoResultStreamIngestor로 도착하는 대로 파싱해서 원본 기준 프레임으로 보정 후 청크 트랜잭션으로 저장
+ *   (힙에는 구간당 프레임 청크 2개 정도만 남음, 재시도는 응답 헤더를 받기 전 실패(연결 / 오류 상태)만)
+ * - 모든 구간이 끝나면 병합 프레임으로 판정(SegmentVerdictMerger)하고 완료 트랜잭션
+ * 결과를 받는 시간은 영상 길이 대신 구간 수 / concurrency 에 비례
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SegmentedVideoAnalyzer {
+
+    private final WebClient aiServiceWebClient;
+    private final VideoMultipartBodyFactory multipartBodyFactory;
+    private final VideoResultWriter resultWriter;
+    private final VideoResultStreamIngestor streamIngestor;
+    private final VideoProgressService progressService;
+    private final VideoStorageService storageService;
+    private final Scheduler blockingScheduler;
+
+    @Value("${ai-service.video.s3-analyze-uri:/api/v1/video/analyze-s3}")
+    private String s3AnalyzeUri;
+
+    @Value("${ai-service.video.presign-ttl:PT1H}")
+    private Duration aiPresignTtl;
+
+    // 노드 하나의 AI 서버 동시 요청 수 = 영상 작업 워커 수 × concurrency
+    @Value("${video.segment.concurrency:4}")
+    private int concurrency;
+
+    @Value("${video.segment.max-retries:1}")
+    private int maxRetries;
+
+    // 병합 프레임 중 딥페이크 프레임 비율이 이 이상이면 딥페이크 판정
+    @Value("${video.segment.deepfake-ratio:0.5}")
+    private double deepfakeRatio;
+
+    /**
+     * @return 저장된 결과 ID
+     */
+    public Mono<Long> analyze(Long analysisId, List<VideoSegmenter.VideoSegment> segments) {
+        return streamIngestor.withPlaceholder(analysisId, resultId -> {
+            SegmentVerdictMerger merger = new SegmentVerdictMerger(deepfakeRatio);
+            AtomicInteger done = new AtomicInteger();
+
+            return Flux.fromIterable(segments)
+                    .flatMap(segment -> analyzeSegment(analysisId, resultId, segment, merger)
+                            .doOnSuccess(ignored -> reportProgress(analysisId, done.incrementAndGet(), segments.size())),
+                            Math.max(1, concurrency))
+                    .then(Mono.fromCallable(() -> {
+                        log.info("구간 분석 병합 - ID: {}, 구간: {}개, 프레임: {}개",
+                                analysisId, segments.size(), merger.frameCount());
+                        return resultWriter.completeStream(analysisId, resultId, merger.toResponse(), merger.frames());
+                    }).subscribeOn(blockingScheduler));
+        });
+    }
+
+    private Mono<Void> analyzeSegment(Long analysisId, Long resultId, VideoSegmenter.VideoSegment segment,
+                                      SegmentVerdictMerger merger) {
+        AtomicInteger frameCount = new AtomicInteger();
+        return requestSegment(analysisId, segment)
+                .flatMap(body -> streamIngestor.ingestFrames(analysisId, body, chunk -> {
+                    frameCount.addAndGet(chunk.size());
+                    List<FrameAnalysisResponse> frames = merger.addFrames(segment, chunk);
+                    return resultWriter.appendFrames(resultId, frames);
+                }))
+                .doOnNext(response -> {
+                    merger.completeSegment(segment, response, frameCount.get());
+                    log.debug("구간 분석 완료 - ID: {}, 구간: {} ({}s~{}s), 프레임: {}개", analysisId,
+                            segment.index(), segment.startSeconds(), segment.endSeconds(), frameCount.get());
+                })
+                .then();
+    }
+
+    // 오류 상태는 본문을 읽기 전에 실패하므로 재시도해도 이미 저장된 프레임이 없음
+    private Mono<Flux<DataBuffer>> requestSegment(Long analysisId, VideoSegmenter.VideoSegment segment) {
+        return prepareRequest(analysisId, segment)
+                .flatMap(request -> request.retrieve().toEntityFlux(DataBuffer.class))
+                .retryWhen(Retry.backoff(Math.max(0, maxRetries), Duration.ofSeconds(1))
+                        .doBeforeRetry(signal -> log.warn("구간 분석 재시도 - ID: {}, 구간: {}, {}",
+                                analysisId, segment.index(), signal.failure().getMessage())))
+                .map(entity -> entity.getBody() != null ? entity.getBody() : Flux.<DataBuffer>empty());
+    }
+
+    private Mono<WebClient.RequestHeadersSpec<?>> prepareRequest(Long analysisId,
+                                                                 VideoSegmenter.VideoSegment segment) {
+        if (segment.s3Path() != null) {
+            Map<String, Object> body = Map.of(
+                    "analysis_id", analysisId,
+                    "s3_key", storageService.extractKey(segment.s3Path()),
+                    "presigned_url", storageService.presignGet(segment.s3Path(), aiPresignTtl));
+            return Mono.just(aiServiceWebClient.post()
+                    .uri(s3AnalyzeUri)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(body));
+        }
+
+        return Mono.fromCallable(() -> multipartBodyFactory.create(segment.path(), segment.filename(), analysisId))
+                .subscribeOn(blockingScheduler)
+                .map(body -> aiServiceWebClient.post()
+                        .uri("/api/v1/video/analyze")
+                        .body(BodyInserters.fromMultipartData(body)));
+    }
+
+    private void reportProgress(Long analysisId, int done, int total) {
+        // 100은 결과 저장 완료 시점에 기록
+        int percent = Math.min(99, done * 100 / total);
+        progressService.update(analysisId, percent, "ai_analysis",
+                String.format("구간 분석 중입니다. (%d/%d)", done, total));
+    }
+}
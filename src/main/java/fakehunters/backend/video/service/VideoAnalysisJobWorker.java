@@ -0,0 +1,164 @@
+package fakehunters.backend.video.service;
+
+import fakehunters.backend.video.domain.VideoFile;
+import fakehunters.backend.video.mapper.VideoAnalysisMapper;
+import fakehunters.backend.video.mapper.VideoFileMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * video_analysis_job 테이블 기반 영상 분석 작업 큐 워커
+ * - PENDING 작업을 claim(lease 부여) 후 고정 크기 워커 풀에서 실행
+ * - 동시에 AI 서버로 나가는 영상 수 = video.job.parallelism
+ * - 재시작 시 PROCESSING 상태로 남은 작업은 다시 대기열로 복구
+ *   (끝나지 못한 웹 변환은 FAILED 처리하고 원본 파일로 재생)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VideoAnalysisJobWorker {
+
+    private final VideoAnalysisMapper videoAnalysisMapper;
+    private final VideoFileMapper videoFileMapper;
+    private final VideoAnalysisService videoAnalysisService;
+
+    @Value("${video.job.parallelism:2}")
+    private int parallelism;
+
+    @Value("${video.job.lease-seconds:600}")
+    private int leaseSeconds;
+
+    @Value("${video.job.max-attempts:3}")
+    private int maxAttempts;
+
+    // 실행 중 예외로 끝난 작업을 다시 claim하기까지의 대기 (즉시 재claim 반복 방지)
+    @Value("${video.job.retry-backoff-seconds:60}")
+    private int retryBackoffSeconds;
+
+    // 노드마다 고정된 고유 ID를 지정하면 재시작 직후 이전 프로세스의 작업을 바로 복구
+    // 비워두면 프로세스마다 새 ID (이전 프로세스의 작업은 lease 만료 후 복구)
+    @Value("${video.job.worker-id:}")
+    private String configuredWorkerId;
+
+    private String workerId;
+
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private ExecutorService executor;
+    private volatile boolean ready = false;
+
+    @PostConstruct
+    void init() {
+        workerId = StringUtils.hasText(configuredWorkerId) ? configuredWorkerId : processWorkerId();
+        log.info("영상 분석 워커 ID: {}", workerId);
+
+        AtomicInteger sequence = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "video-job-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // HOSTNAME이 없는 환경에서도 노드끼리 겹치지 않도록 host + pid + 임의값
+    private static String processWorkerId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "local";
+        }
+        return host + "-" + ProcessHandle.current().pid() + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        int requeued = videoAnalysisMapper.requeueOrphanedJobs(workerId);
+        if (requeued > 0) {
+            log.info("중단된 영상 분석 작업 복구 - worker: {}, 분석: {}", workerId, requeued);
+        }
+        ready = true;
+        poll();
+    }
+
+    @Scheduled(fixedDelayString = "${video.job.poll-interval-ms:2000}")
+    public synchronized void poll() {
+        if (!ready || executor.isShutdown()) {
+            return;
+        }
+
+        int free = parallelism - inFlight.size();
+        if (free <= 0) {
+            return;
+        }
+
+        videoAnalysisMapper.failExhaustedJobs(maxAttempts);
+
+        List<Long> claimed = videoAnalysisMapper.claimJobs(workerId, leaseSeconds, free, maxAttempts);
+        for (Long analysisId : claimed) {
+            log.info("영상 분석 작업 claim - ID: {}, worker: {}", analysisId, workerId);
+            inFlight.add(analysisId);
+            executor.execute(() -> run(analysisId));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${video.job.heartbeat-interval-ms:60000}")
+    public void heartbeat() {
+        for (Long analysisId : inFlight) {
+            videoAnalysisMapper.renewLease(analysisId, workerId, leaseSeconds);
+        }
+    }
+
+    private void run(Long analysisId) {
+        boolean failed = false;
+        try {
+            VideoFile videoFile = videoFileMapper.findByAnalysisId(analysisId);
+            if (videoFile == null) {
+                log.error("영상 입력 파일 없음 - ID: {}", analysisId);
+                videoAnalysisMapper.updateStatus(analysisId, "FAILED");
+                return;
+            }
+            videoAnalysisService.runAnalysis(analysisId, videoFile).block();
+        } catch (Exception e) {
+            // 구독 이후 실패의 상태(FAILED) 처리는 runAnalysis 내부에서 수행
+            // 구독 전에 던져져 PROCESSING으로 남은 작업은 backoff 후 다시 claim (attempt_count로 횟수 제한)
+            log.error("영상 분석 작업 실행 실패 - ID: {}", analysisId, e);
+            failed = true;
+        } finally {
+            if (failed) {
+                videoAnalysisMapper.backOffLease(analysisId, retryBackoffSeconds);
+            } else {
+                videoAnalysisMapper.releaseLease(analysisId);
+            }
+            inFlight.remove(analysisId);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        // 끝나지 못한 작업은 lease 만료 또는 다음 기동 시 requeueOrphanedJobs로 복구
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("종료 시 처리 중인 영상 분석 작업 {}개는 재시작 후 복구됩니다.", inFlight.size());
+            executor.shutdownNow();
+        }
+    }
+}
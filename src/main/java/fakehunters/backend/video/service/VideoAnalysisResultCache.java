@@ -0,0 +1,154 @@
+package fakehunters.backend.video.service;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import fakehunters.backend.video.dto.response.VideoAnalysisResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * 완료된 영상 분석 응답 캐시 (L1: Caffeine, L2: Redis video_analysis_result:{analysisId})
+ * - AI 분석 COMPLETED + 웹 변환 종료 상태일 때만 저장 (이후 바뀌지 않는 응답)
+ * - L1 miss → L2 조회 후 L1 채움, L2 miss → DB 조회 후 두 계층 모두 채움
+ * - 메트릭: video.result.cache{level=l1|l2, result=hit|miss}, video.result.cache.l1.* (Caffeine 통계)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VideoAnalysisResultCache {
+
+    public static final String KEY_PREFIX = "video_analysis_result:";
+
+    // 웹 변환이 끝나지 않았으면 재생 경로가 바뀔 수 있으므로 캐시하지 않음 (null: 단계 구분 이전 작업)
+    private static final Set<String> FINAL_TRANSCODE_STATUSES = Set.of("COMPLETED", "FAILED", "SKIPPED");
+
+    private final ReactiveRedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    @Value("${video.result-cache.l1-max-size:500}")
+    private long l1MaxSize;
+
+    @Value("${video.result-cache.l1-ttl:PT30M}")
+    private Duration l1Ttl;
+
+    @Value("${video.result-cache.l2-ttl:PT24H}")
+    private Duration l2Ttl;
+
+    private Cache<Long, VideoAnalysisResponse> l1;
+    private Counter l1Hit;
+    private Counter l1Miss;
+    private Counter l2Hit;
+    private Counter l2Miss;
+
+    @PostConstruct
+    void init() {
+        l1 = Caffeine.newBuilder()
+                .maximumSize(l1MaxSize)
+                .expireAfterAccess(l1Ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, l1, "video.result.cache.l1");
+
+        l1Hit = counter("l1", "hit");
+        l1Miss = counter("l1", "miss");
+        l2Hit = counter("l2", "hit");
+        l2Miss = counter("l2", "miss");
+    }
+
+    private Counter counter(String level, String result) {
+        return Counter.builder("video.result.cache")
+                .tag("level", level)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * read-through 조회 (loader는 두 계층 모두 miss일 때만 구독)
+     */
+    public Mono<VideoAnalysisResponse> get(Long analysisId, Mono<VideoAnalysisResponse> loader) {
+        return Mono.defer(() -> {
+            VideoAnalysisResponse cached = l1.getIfPresent(analysisId);
+            if (cached != null) {
+                l1Hit.increment();
+                return Mono.just(cached);
+            }
+            l1Miss.increment();
+
+            return readL2(analysisId)
+                    .doOnNext(response -> {
+                        l2Hit.increment();
+                        l1.put(analysisId, response);
+                    })
+                    .switchIfEmpty(Mono.defer(() -> {
+                        l2Miss.increment();
+                        return loader.doOnNext(response -> put(analysisId, response));
+                    }));
+        });
+    }
+
+    public static boolean isCacheable(VideoAnalysisResponse response) {
+        return "COMPLETED".equals(response.getStatus())
+                && (response.getTranscodeStatus() == null
+                || FINAL_TRANSCODE_STATUSES.contains(response.getTranscodeStatus()));
+    }
+
+    private void put(Long analysisId, VideoAnalysisResponse response) {
+        if (!isCacheable(response)) {
+            return;
+        }
+
+        l1.put(analysisId, response);
+
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(response);
+        } catch (Exception e) {
+            log.warn("분석 결과 캐시 직렬화 실패 - ID: {}", analysisId, e);
+            return;
+        }
+
+        redisTemplate.opsForValue()
+                .set(KEY_PREFIX + analysisId, json, l2Ttl)
+                .doOnError(e -> log.warn("분석 결과 Redis 캐시 저장 실패 - ID: {}", analysisId, e))
+                .onErrorResume(e -> Mono.empty())
+                .subscribe();
+    }
+
+    // Redis 장애 시에는 DB 조회로 진행
+    private Mono<VideoAnalysisResponse> readL2(Long analysisId) {
+        return redisTemplate.opsForValue()
+                .get(KEY_PREFIX + analysisId)
+                .flatMap(json -> {
+                    try {
+                        return Mono.just(objectMapper.readValue(json, VideoAnalysisResponse.class));
+                    } catch (Exception e) {
+                        log.warn("분석 결과 캐시 파싱 실패 - ID: {}", analysisId, e);
+                        return Mono.empty();
+                    }
+                })
+                .onErrorResume(e -> {
+                    log.warn("분석 결과 Redis 캐시 조회 실패 - ID: {}", analysisId, e);
+                    return Mono.empty();
+                });
+    }
+}
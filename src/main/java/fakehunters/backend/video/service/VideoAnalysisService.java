@@ -1,39 +1,45 @@
 package fakehunters.backend.video.service;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import fakehunters.backend.global.exception.custom.CustomBusinessException;
 import fakehunters.backend.global.exception.custom.CustomSystemException;
 import fakehunters.backend.video.domain.*;
+import fakehunters.backend.video.dto.request.VideoS3AnalyzeRequest;
 import fakehunters.backend.video.dto.response.*;
 import fakehunters.backend.video.exception.VideoErrorCode;
 import fakehunters.backend.video.mapper.*;
-import lombok.AllArgsConstructor;
-import lombok.Getter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.ByteArrayResource;
-import org.springframework.data.redis.core.ReactiveRedisTemplate;
-import org.springframework.http.client.MultipartBodyBuilder;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 
-import java.io.BufferedReader;
-import java.io.File;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.InputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
-import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -43,11 +49,17 @@ public class VideoAnalysisService {
     private final WebClient aiServiceWebClient;
     private final VideoAnalysisMapper videoAnalysisMapper;
     private final VideoFileMapper videoFileMapper;
-    private final AnalysisResultMapper analysisResultMapper;
-    private final FrameAnalysisMapper frameAnalysisMapper;
-    private final ReactiveRedisTemplate<String, String> redisTemplate;
-    private final ModelPredictionMapper modelPredictionMapper;
-    private final DetectedArtifactMapper detectedArtifactMapper;
+    private final VideoMultipartBodyFactory multipartBodyFactory;
+    private final VideoProgressService progressService;
+    private final VideoTranscodingService transcodingService;
+    private final VideoResultWriter resultWriter;
+    private final VideoAnalysisResultCache resultCache;
+    private final MeterRegistry meterRegistry;
+    private final VideoStorageService storageService;
+    private final Scheduler blockingScheduler;
+    private final VideoResultStreamIngestor streamIngestor;
+    private final VideoSegmenter segmenter;
+    private final SegmentedVideoAnalyzer segmentedAnalyzer;
 
     private final ObjectMapper objectMapper = new ObjectMapper();
 
@@ -57,594 +69,436 @@ public class VideoAnalysisService {
     @Value("${file.max-size:104857600}")
     private long maxFileSize;
 
-    @Value("${ffmpeg.path:ffmpeg}")
-    private String ffmpegPath;
+    @Value("${ai-service.video.s3-analyze-uri:/api/v1/video/analyze-s3}")
+    private String s3AnalyzeUri;
+
+    // AI 서버가 큐 대기 후 내려받을 수 있도록 충분히 길게
+    @Value("${ai-service.video.presign-ttl:PT1H}")
+    private Duration aiPresignTtl;
+
+    // 같은 내용의 업로드는 이전 분석 결과 재사용 (메트릭: video.upload.dedup{result=hit|miss})
+    @Value("${video.dedup.enabled:true}")
+    private boolean dedupEnabled;
+
+    // 비어 있으면 가장 최근 분석 결과의 모델 버전 기준
+    @Value("${video.dedup.model-version:}")
+    private String dedupModelVersion;
+
+    public static final String INGEST_STREAM = "stream";
+    public static final String INGEST_BUFFER = "buffer";
+
+    // AI 응답 저장 방식 (stream: 프레임 청크 단위 저장, buffer: 전체 바인딩 후 한 번에 저장)
+    @Value("${video.result.ingest-mode:stream}")
+    private String ingestMode;
 
     private static final List<String> ALLOWED_FORMATS = Arrays.asList("mp4", "avi", "mov");
 
+    private static final TypeReference<List<ModelPrediction>> MODEL_PREDICTION_LIST = new TypeReference<>() {};
+    private static final TypeReference<List<DetectedArtifact>> DETECTED_ARTIFACT_LIST = new TypeReference<>() {};
+
     public Mono<VideoAnalysisResponse> analyzeVideo(MultipartFile file) {
         validateFile(file);
 
+        // AI 분석(status)과 웹 변환(transcodeStatus)은 서로 기다리지 않고 병렬로 진행
         VideoAnalysis videoAnalysis = VideoAnalysis.builder()
                 .title(file.getOriginalFilename())
                 .status("PENDING")
+                .transcodeStatus("PENDING")
                 .createdAt(OffsetDateTime.now())
                 .build();
 
         videoAnalysisMapper.insert(videoAnalysis);
         Long analysisId = videoAnalysis.getAnalysisId();
 
-        String storedFilename;
-        String webFilename = null;
-        Double videoDuration = null;  // duration 저장
-
+        SavedFile savedFile;
         try {
-            storedFilename = saveFile(file, analysisId.toString());
-            String originalPath = uploadPath + "/" + storedFilename;
-
-            log.info("FFmpeg 변환 시작 - ID: {}", analysisId);
-            VideoConversionResult conversionResult = convertToWebFormat(originalPath, analysisId.toString());
-
-            if (conversionResult != null) {
-                webFilename = conversionResult.getFilename();
-                videoDuration = conversionResult.getDuration();  // duration 가져오기
-            }
-
-            log.info("FFmpeg 변환 완료 - ID: {}, webFilename: {}, duration: {}초",
-                    analysisId, webFilename, videoDuration);
-
+            savedFile = saveFile(file, analysisId.toString());
         } catch (IOException e) {
             log.error("파일 처리 실패", e);
+            videoAnalysisMapper.updateStatus(analysisId, "FAILED");
             throw new CustomSystemException(VideoErrorCode.UPLOAD_ERROR);
         }
+        String storedFilename = savedFile.storedFilename();
+        videoAnalysisMapper.updateContentHash(analysisId, savedFile.contentHash());
 
+        if (dedupEnabled) {
+            VideoAnalysisResponse reused = reuseExistingAnalysis(videoAnalysis, file, savedFile);
+            if (reused != null) {
+                return Mono.just(reused);
+            }
+        }
+
+        // 변환 전까지는 원본을 재생 경로로 사용
         VideoFile videoFile = VideoFile.builder()
                 .analysisId(analysisId)
                 .originalFilename(file.getOriginalFilename())
                 .storedFilename(storedFilename)
                 .filePath(uploadPath + "/" + storedFilename)
-                .webFilePath(webFilename != null ? uploadPath + "/" + webFilename : uploadPath + "/" + storedFilename)
+                .webFilePath(uploadPath + "/" + storedFilename)
                 .fileSize(file.getSize())
-                .durationSeconds(videoDuration)  // duration 설정
                 .format(getFileExtension(file.getOriginalFilename()))
                 .uploadedAt(OffsetDateTime.now())
                 .build();
         videoFileMapper.insert(videoFile);
 
-        videoAnalysisMapper.updateStatus(analysisId, "PROCESSING");
+        transcodingService.submit(analysisId, videoFile.getFilePath());
 
-        VideoProgressResponse initialProgress = VideoProgressResponse.builder()
+        VideoProgressResponse queuedProgress = VideoProgressResponse.builder()
                 .progress(0)
-                .stage("ai_analysis")
-                .detail("AI 분석을 시작합니다.")
+                .stage("queued")
+                .detail("AI 분석 대기 중입니다.")
                 .build();
 
-        String json;
-        try {
-            json = objectMapper.writeValueAsString(initialProgress);
-        } catch (Exception e) {
-            log.error("JSON 직렬화 실패", e);
-            throw new CustomSystemException(VideoErrorCode.INTERNAL_SERVER_ERROR);
-        }
-
-        String key = "video_analysis_progress:" + analysisId;
-
-        return redisTemplate.opsForValue()
-                .set(key, json, java.time.Duration.ofHours(1))
-                .doOnSuccess(result -> {
-                    log.info("Redis 초기 상태 저장 완료 - Key: {}", key);
-                    processAIAnalysisAsync(analysisId, storedFilename);
-                })
-                .doOnError(e -> log.error("Redis 초기 상태 저장 실패 - Key: {}", key, e))
+        return progressService.save(analysisId, queuedProgress)
+                .doOnSuccess(result -> log.info("분석 작업 등록 완료 - ID: {}", analysisId))
                 .thenReturn(VideoAnalysisResponse.builder()
                         .analysisId(analysisId)
                         .title(file.getOriginalFilename())
-                        .status("PROCESSING")
+                        .status("PENDING")
+                        .transcodeStatus("PENDING")
                         .createdAt(videoAnalysis.getCreatedAt())
                         .videoFile(convertToFileResponse(videoFile))
                         .build());
     }
 
-    @Async
-    public void processAIAnalysisAsync(Long analysisId, String storedFilename) {
-        log.info("AI 분석 백그라운드 시작 - ID: {}", analysisId);
+    /**
+     * 브라우저가 presigned PUT으로 S3에 올린 영상 분석 등록 (서버는 HEAD로 크기만 확인)
+     * 이후 AI 분석은 S3 key로, 웹 변환은 presigned GET URL로 진행
+     */
+    public Mono<VideoAnalysisResponse> analyzeVideoFromS3(VideoS3AnalyzeRequest request) {
+        String key = request.getS3Key();
+        if (key == null || key.isBlank()) {
+            throw new CustomBusinessException(VideoErrorCode.FILE_REQUIRED);
+        }
+        // 다른 도메인 / 단계의 객체를 분석 대상으로 지정하지 못하도록
+        if (!key.startsWith(VideoStorageService.INPUT_PREFIX)) {
+            throw new CustomBusinessException(VideoErrorCode.INVALID_VIDEO_DATA);
+        }
+        String filename = request.getFilename() != null ? request.getFilename() : key.substring(key.lastIndexOf('/') + 1);
+        String extension = getFileExtension(key).toLowerCase();
+        if (!ALLOWED_FORMATS.contains(extension)) {
+            throw new CustomBusinessException(VideoErrorCode.INVALID_FILE_FORMAT);
+        }
 
-        try {
-            Path filePath = Paths.get(uploadPath, storedFilename);
-            byte[] fileBytes = Files.readAllBytes(filePath);
-
-            MultipartBodyBuilder builder = new MultipartBodyBuilder();
-            builder.part("file", new ByteArrayResource(fileBytes) {
-                @Override
-                public String getFilename() {
-                    return storedFilename;
-                }
-            });
-            builder.part("analysis_id", analysisId);
-
-            aiServiceWebClient.post()
-                    .uri("/api/v1/video/analyze")
-                    .body(BodyInserters.fromMultipartData(builder.build()))
-                    .retrieve()
-                    .bodyToMono(VideoAnalysisResponse.class)
-                    .doOnNext(response -> {
-                        log.info("========================================");
-                        log.info("AI 분석 완료 - ID: {}", analysisId);
-                        log.info("✅ FastAPI 응답 받음");
-                        log.info("  - analysisResult: {}", response.getAnalysisResult() != null ? "존재" : "null");
-                        log.info("  - frameAnalyses: {}", response.getFrameAnalyses() != null
-                                ? response.getFrameAnalyses().size() + "개"
-                                : "null");
-                        log.info("========================================");
-
-                        saveAnalysisResultInternal(analysisId, response);
-                        videoAnalysisMapper.updateStatus(analysisId, "COMPLETED");
-                        videoAnalysisMapper.updateCompletedAt(analysisId);
-                        updateProgressToCompleted(analysisId);
-                    })
-                    .doOnError(e -> {
-                        log.error("AI 서비스 호출 실패 - ID: {}", analysisId, e);
-                        videoAnalysisMapper.updateStatus(analysisId, "FAILED");
-                        updateProgressToFailed(analysisId);
-                    })
-                    .subscribe();
-        } catch (Exception e) {
-            log.error("백그라운드 분석 실패 - ID: {}", analysisId, e);
-            videoAnalysisMapper.updateStatus(analysisId, "FAILED");
-            updateProgressToFailed(analysisId);
+        HeadObjectResponse head = storageService.head(key);
+        if (head.contentLength() > maxFileSize) {
+            throw new CustomBusinessException(VideoErrorCode.FILE_SIZE_EXCEEDED);
         }
-    }
 
-    @Getter
-    @AllArgsConstructor
-    private static class VideoConversionResult {
-        private String filename;
-        private Double duration;
-    }
+        VideoAnalysis videoAnalysis = VideoAnalysis.builder()
+                .title(filename)
+                .status("PENDING")
+                .transcodeStatus("PENDING")
+                .createdAt(OffsetDateTime.now())
+                .build();
+        videoAnalysisMapper.insert(videoAnalysis);
+        Long analysisId = videoAnalysis.getAnalysisId();
 
-    private void updateProgressToCompleted(Long analysisId) {
-        VideoProgressResponse progress = VideoProgressResponse.builder()
-                .progress(100)
-                .stage("completed")
-                .detail("분석이 완료되었습니다.")
+        String s3Path = storageService.toS3Path(key);
+        VideoFile videoFile = VideoFile.builder()
+                .analysisId(analysisId)
+                .originalFilename(filename)
+                .storedFilename(key)
+                .filePath(s3Path)
+                .webFilePath(s3Path)
+                .fileSize(head.contentLength())
+                .format(extension)
+                .uploadedAt(OffsetDateTime.now())
                 .build();
+        videoFileMapper.insert(videoFile);
 
-        try {
-            String json = objectMapper.writeValueAsString(progress);
-            String key = "video_analysis_progress:" + analysisId;
-            redisTemplate.opsForValue()
-                    .set(key, json, java.time.Duration.ofHours(1))
-                    .subscribe();
-        } catch (Exception e) {
-            log.error("Redis 완료 상태 업데이트 실패", e);
-        }
-    }
+        transcodingService.submit(analysisId, s3Path);
 
-    private void updateProgressToFailed(Long analysisId) {
-        VideoProgressResponse progress = VideoProgressResponse.builder()
+        VideoProgressResponse queuedProgress = VideoProgressResponse.builder()
                 .progress(0)
-                .stage("failed")
-                .detail("분석에 실패했습니다.")
+                .stage("queued")
+                .detail("AI 분석 대기 중입니다.")
                 .build();
 
-        try {
-            String json = objectMapper.writeValueAsString(progress);
-            String key = "video_analysis_progress:" + analysisId;
-            redisTemplate.opsForValue()
-                    .set(key, json, java.time.Duration.ofHours(1))
-                    .subscribe();
-        } catch (Exception e) {
-            log.error("Redis 실패 상태 업데이트 실패", e);
-        }
+        return progressService.save(analysisId, queuedProgress)
+                .doOnSuccess(result -> log.info("분석 작업 등록 완료 (S3) - ID: {}, key: {}", analysisId, key))
+                .thenReturn(VideoAnalysisResponse.builder()
+                        .analysisId(analysisId)
+                        .title(filename)
+                        .status("PENDING")
+                        .transcodeStatus("PENDING")
+                        .createdAt(videoAnalysis.getCreatedAt())
+                        .videoFile(convertToFileResponse(videoFile))
+                        .build());
     }
 
-    @Transactional(readOnly = true)
-    public Mono<VideoAnalysisResponse> getAnalysisResult(Long analysisId) {
-        VideoAnalysis analysis = videoAnalysisMapper.findById(analysisId);
-        if (analysis == null) {
-            throw new CustomSystemException(VideoErrorCode.NOT_FOUND);
+    /**
+     * 같은 내용(SHA-256)을 같은 모델 버전으로 이미 분석했다면 결과와 웹 파일을 연결하고 완료 처리
+     * AI 분석 / 웹 변환 없이 끝나므로 새로 저장한 업로드 파일은 삭제
+     * 작업 큐가 claim하지 않도록 입력 파일 등록 전에 COMPLETED로 전환
+     */
+    private VideoAnalysisResponse reuseExistingAnalysis(VideoAnalysis videoAnalysis, MultipartFile file,
+                                                        SavedFile savedFile) {
+        Long analysisId = videoAnalysis.getAnalysisId();
+        Long sourceId = videoAnalysisMapper.findDedupSource(
+                savedFile.contentHash(), analysisId, blankToNull(dedupModelVersion));
+        VideoFile sourceFile = sourceId != null ? videoFileMapper.findByAnalysisId(sourceId) : null;
+        if (sourceFile == null) {
+            meterRegistry.counter("video.upload.dedup", "result", "miss").increment();
+            return null;
         }
+        meterRegistry.counter("video.upload.dedup", "result", "hit").increment();
 
-        VideoFile file = videoFileMapper.findByAnalysisId(analysisId);
-        AnalysisResult result = analysisResultMapper.findByAnalysisId(analysisId);
+        VideoAnalysis source = videoAnalysisMapper.findById(sourceId);
+        videoAnalysisMapper.linkToSource(analysisId, sourceId, source.getTranscodeStatus());
 
-        if (result == null) {
-            return Mono.just(VideoAnalysisResponse.builder()
-                    .analysisId(analysis.getAnalysisId())
-                    .title(analysis.getTitle())
-                    .status(analysis.getStatus())
-                    .createdAt(analysis.getCreatedAt())
-                    .videoFile(convertToFileResponse(file))
-                    .build());
-        }
+        VideoFile videoFile = VideoFile.builder()
+                .analysisId(analysisId)
+                .originalFilename(file.getOriginalFilename())
+                .storedFilename(sourceFile.getStoredFilename())
+                .filePath(sourceFile.getFilePath())
+                .webFilePath(sourceFile.getWebFilePath())
+                .fileSize(file.getSize())
+                .durationSeconds(sourceFile.getDurationSeconds())
+                .resolution(sourceFile.getResolution())
+                .format(sourceFile.getFormat())
+                .fps(sourceFile.getFps())
+                .uploadedAt(OffsetDateTime.now())
+                .build();
+        videoFileMapper.insert(videoFile);
 
-        // 개별 모델 예측 조회
-        List<ModelPrediction> predictions = modelPredictionMapper.findByResultId(result.getResultId());
+        try {
+            Files.deleteIfExists(Paths.get(uploadPath, savedFile.storedFilename()));
+        } catch (IOException e) {
+            log.warn("중복 업로드 파일 삭제 실패 - ID: {}, 파일: {}", analysisId, savedFile.storedFilename(), e);
+        }
 
-        // 탐지된 아티팩트 조회
-        List<DetectedArtifact> artifacts = detectedArtifactMapper.findByResultId(result.getResultId());
+        progressService.update(analysisId, 100, "completed", "동일한 영상의 분석 결과를 재사용했습니다.");
+        log.info("중복 업로드 - ID: {} → 원본 분석 ID: {} 결과 재사용", analysisId, sourceId);
 
-        // 프레임 분석 조회
-        List<FrameAnalysis> frames = frameAnalysisMapper.findByResultId(result.getResultId());
+        return VideoAnalysisResponse.builder()
+                .analysisId(analysisId)
+                .title(file.getOriginalFilename())
+                .status("COMPLETED")
+                .transcodeStatus(source.getTranscodeStatus())
+                .createdAt(videoAnalysis.getCreatedAt())
+                .videoFile(convertToFileResponse(videoFile))
+                .build();
+    }
 
-        return Mono.just(VideoAnalysisResponse.builder()
-                .analysisId(analysis.getAnalysisId())
-                .title(analysis.getTitle())
-                .status(analysis.getStatus())
-                .createdAt(analysis.getCreatedAt())
-                .completedAt(analysis.getCompletedAt())
-                .videoFile(convertToFileResponse(file))
-                .analysisResult(convertToResultResponse(result, predictions, artifacts))  // 수정됨
-                .frameAnalyses(frames.stream().map(this::convertToFrameResponse).toList())
-                .build());
+    private String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
     }
 
-    public Mono<VideoProgressResponse> getAnalysisProgress(Long analysisId) {
-        String key = "video_analysis_progress:" + analysisId;
+    /**
+     * claim된 작업의 AI 분석 실행
+     * 반환된 Mono가 끝날 때까지 워커 슬롯을 점유하므로 AI 서버 동시 요청 수가 워커 수로 제한됨
+     */
+    public Mono<Void> runAnalysis(Long analysisId, VideoFile videoFile) {
+        log.info("AI 분석 시작 - ID: {}", analysisId);
 
-        log.info("Redis 조회 - Key: {}", key);
+        VideoProgressResponse startedProgress = VideoProgressResponse.builder()
+                .progress(0)
+                .stage("ai_analysis")
+                .detail("AI 분석을 시작합니다.")
+                .build();
 
-        return redisTemplate.opsForValue()
-                .get(key)
-                .doOnNext(json -> {
-                    log.info("Redis 원본 데이터: {}", json);
+        return progressService.save(analysisId, startedProgress)
+                .onErrorResume(e -> Mono.empty())
+                .then(analyze(analysisId, videoFile))
+                // 결과 저장 이후 상태 변경(JDBC)도 이벤트 루프가 아닌 blocking 스케줄러에서
+                .publishOn(blockingScheduler)
+                .doOnNext(resultId -> {
+                    log.info("AI 분석 완료 - ID: {}, resultId: {}", analysisId, resultId);
+                    updateProgressToCompleted(analysisId);
                 })
-                .map(json -> {
-                    try {
-                        VideoProgressResponse response = objectMapper.readValue(json, VideoProgressResponse.class);
-                        log.info("파싱 성공: progress={}, stage={}",
-                                response.getProgress(), response.getStage());
-                        return response;
-                    } catch (Exception e) {
-                        log.error("JSON 파싱 실패: {}", json, e);
-                        return null;
-                    }
+                .doOnError(e -> {
+                    // 저장 실패 시 트랜잭션 롤백(버퍼 모드) / 보상 삭제(스트리밍 모드) 후 FAILED 처리
+                    log.error("AI 서비스 호출 실패 - ID: {}", analysisId, e);
+                    videoAnalysisMapper.updateStatus(analysisId, "FAILED");
+                    updateProgressToFailed(analysisId);
                 })
-                .switchIfEmpty(Mono.defer(() -> {
-                    log.warn("Redis에 데이터 없음 - Key: {}", key);
-                    return Mono.empty();
-                }));
+                .then();
     }
 
-    private void saveAnalysisResultInternal(Long analysisId, VideoAnalysisResponse response) {
-        try {
-            AnalysisResult result = AnalysisResult.builder()
-                    .analysisId(analysisId)
-                    .isDeepfake(response.getAnalysisResult().getIsDeepfake())
-                    .confidenceScore(response.getAnalysisResult().getConfidenceScore())
-                    .modelVersion(response.getAnalysisResult().getModelVersion())
-                    .processingTimeMs(response.getAnalysisResult().getProcessingTimeMs())
-                    .detectedTechniques(response.getAnalysisResult().getDetectedTechniques())
-                    .summary(response.getAnalysisResult().getSummary())
-                    .analyzedAt(OffsetDateTime.now())
-                    .ensembleFakeProbability(response.getAnalysisResult().getEnsembleFakeProbability())
-                    .modelAgreement(response.getAnalysisResult().getModelAgreement())
-                    .riskLevel(response.getAnalysisResult().getRiskLevel())
-                    .build();
-
-            analysisResultMapper.insert(result);
-            Long resultId = result.getResultId();
-
-            log.info("=== Received from FastAPI ===");
-            log.info("Analysis Result: {}", response.getAnalysisResult());
-
-            // ✅ 프레임 분석 로그 추가
-            log.info("frameAnalyses is null: {}", response.getFrameAnalyses() == null);
-            if (response.getFrameAnalyses() != null) {
-                log.info("frameAnalyses size: {}", response.getFrameAnalyses().size());
-                log.info("frameAnalyses isEmpty: {}", response.getFrameAnalyses().isEmpty());
-                if (!response.getFrameAnalyses().isEmpty()) {
-                    log.info("First frame sample: {}", response.getFrameAnalyses().get(0));
-                }
-            }
-
-            // 개별 모델 예측 저장
-            if (response.getAnalysisResult().getIndividualModels() != null) {
-                saveModelPredictions(resultId, response.getAnalysisResult().getIndividualModels());
-            }
-
-            // 탐지된 아티팩트 저장
-            if (response.getAnalysisResult().getDetectedArtifacts() != null) {
-                saveDetectedArtifacts(resultId, response.getAnalysisResult().getDetectedArtifacts());
-            }
-
-            // 프레임 분석 저장
-            if (response.getFrameAnalyses() != null && !response.getFrameAnalyses().isEmpty()) {
-                log.info("✅ 프레임 분석 저장 시작 - 개수: {}", response.getFrameAnalyses().size());
-
-                List<FrameAnalysis> frameAnalyses = response.getFrameAnalyses().stream()
-                        .map(frame -> FrameAnalysis.builder()
-                                .resultId(resultId)
-                                .frameNumber(frame.getFrameNumber())
-                                .timestampSeconds(frame.getTimestampSeconds() != null
-                                        ? frame.getTimestampSeconds()
-                                        : null)
-                                .isDeepfake(frame.getIsDeepfake())
-                                .confidenceScore(frame.getConfidenceScore() != null
-                                        ? frame.getConfidenceScore()
-                                        : null)
-                                .anomalyType(frame.getAnomalyType())
-                                .features(frame.getFeatures())
-                                .build())
-                        .toList();
-
-                log.info("✅ 프레임 엔티티 변환 완료 - 개수: {}", frameAnalyses.size());
-
-                frameAnalysisMapper.insertBatch(frameAnalyses);
-
-                log.info("✅ 프레임 분석 DB 저장 완료");
-            } else {
-                log.warn("❌ 프레임 분석 데이터 없음!");
-            }
-        } catch (Exception e) {
-            log.error("DB 결과 저장 실패", e);
-            e.printStackTrace();  // ✅ 스택 트레이스 출력
+    /**
+     * 구간 분할 모드에서 긴 영상은 구간별 병렬 요청 후 병합, 그 외에는 원본 한 번에 요청
+     */
+    private Mono<Long> analyze(Long analysisId, VideoFile videoFile) {
+        if (!segmenter.isEnabled()) {
+            return prepareRequest(analysisId, videoFile).flatMap(request -> ingestResponse(analysisId, request));
         }
+
+        return Mono.fromCallable(() -> segmenter.split(analysisId, videoFile))
+                .subscribeOn(blockingScheduler)
+                .flatMap(segments -> segments.isEmpty()
+                        ? prepareRequest(analysisId, videoFile).flatMap(request -> ingestResponse(analysisId, request))
+                        : segmentedAnalyzer.analyze(analysisId, segments)
+                        .doFinally(signal -> blockingScheduler.schedule(() -> segmenter.cleanup(analysisId, segments))));
     }
 
     /**
-     * 개별 모델 예측 저장
+     * stream: 응답을 도착하는 대로 파싱해서 프레임을 청크 단위로 저장 (VideoResultStreamIngestor)
+     * buffer: 응답 전체를 VideoAnalysisResponse로 바인딩한 뒤 한 트랜잭션으로 저장 (ai-service.max-in-memory-size 이내)
      */
-    private void saveModelPredictions(Long resultId,
-                                      AnalysisResultResponse.IndividualModelsResponse models) {
-        try {
-            // XceptionNet
-            if (models.getXception() != null) {
-                ModelPrediction xception = ModelPrediction.builder()
-                        .resultId(resultId)
-                        .modelName("xception")
-                        .prediction(models.getXception().getPrediction())
-                        .confidence(models.getXception().getConfidence())
-                        .fakeProbability(models.getXception().getFakeProbability())
-                        .detectedPatterns(objectMapper.writeValueAsString(
-                                models.getXception().getDetectedPatterns()))
-                        .build();
-                modelPredictionMapper.insert(xception);
-            }
-
-            // EfficientNet-B4
-            if (models.getEfficientnet() != null) {
-                ModelPrediction efficientnet = ModelPrediction.builder()
-                        .resultId(resultId)
-                        .modelName("efficientnet")
-                        .prediction(models.getEfficientnet().getPrediction())
-                        .confidence(models.getEfficientnet().getConfidence())
-                        .fakeProbability(models.getEfficientnet().getFakeProbability())
-                        .detectedPatterns(objectMapper.writeValueAsString(
-                                models.getEfficientnet().getDetectedPatterns()))
-                        .build();
-                modelPredictionMapper.insert(efficientnet);
-            }
-
-            // CNN-LSTM
-            if (models.getCnnLstm() != null) {
-                ModelPrediction cnnLstm = ModelPrediction.builder()
-                        .resultId(resultId)
-                        .modelName("cnn_lstm")
-                        .prediction(models.getCnnLstm().getPrediction())
-                        .confidence(models.getCnnLstm().getConfidence())
-                        .fakeProbability(models.getCnnLstm().getFakeProbability())
-                        .detectedPatterns(objectMapper.writeValueAsString(
-                                models.getCnnLstm().getDetectedPatterns()))
-                        .suspiciousFrames(models.getCnnLstm().getSuspiciousFrames() != null
-                                ? objectMapper.writeValueAsString(models.getCnnLstm().getSuspiciousFrames())
-                                : null)
-                        .build();
-                modelPredictionMapper.insert(cnnLstm);
-            }
-
-        } catch (Exception e) {
-            log.error("Failed to save model predictions", e);
+    private Mono<Long> ingestResponse(Long analysisId, WebClient.RequestHeadersSpec<?> request) {
+        if (INGEST_STREAM.equalsIgnoreCase(ingestMode)) {
+            return streamIngestor.ingest(analysisId, request.retrieve().bodyToFlux(DataBuffer.class));
         }
+
+        return request.retrieve()
+                .bodyToMono(VideoAnalysisResponse.class)
+                // AI 응답은 reactor-netty 이벤트 루프에서 도착 → 결과 저장(JDBC)은 blocking 스케줄러에서
+                .publishOn(blockingScheduler)
+                .map(response -> {
+                    log.info("AI 응답 수신 - ID: {}, 프레임: {}개", analysisId,
+                            response.getFrameAnalyses() != null ? response.getFrameAnalyses().size() : 0);
+                    return resultWriter.save(analysisId, response);
+                });
     }
 
     /**
-     * 탐지된 아티팩트 저장
+     * S3 입력: key(+ presigned GET URL)만 전달하고 AI 서버가 직접 내려받음
+     * 로컬 입력: 기존 multipart 스트리밍 업로드
      */
-    private void saveDetectedArtifacts(Long resultId,
-                                       AnalysisResultResponse.DetectedArtifactsResponse artifacts) {
-        try {
-            // Spatial
-            if (artifacts.getSpatial() != null) {
-                DetectedArtifact spatial = DetectedArtifact.builder()
-                        .resultId(resultId)
-                        .artifactType("spatial")
-                        .detected(artifacts.getSpatial().getDetected())
-                        .sources(objectMapper.writeValueAsString(
-                                artifacts.getSpatial().getSources()))
-                        .patterns(objectMapper.writeValueAsString(
-                                artifacts.getSpatial().getPatterns()))
-                        .build();
-                detectedArtifactMapper.insert(spatial);
-            }
+    private Mono<WebClient.RequestHeadersSpec<?>> prepareRequest(Long analysisId, VideoFile videoFile) {
+        if (storageService.isS3Path(videoFile.getFilePath())) {
+            Map<String, Object> body = Map.of(
+                    "analysis_id", analysisId,
+                    "s3_key", storageService.extractKey(videoFile.getFilePath()),
+                    "presigned_url", storageService.presignGet(videoFile.getFilePath(), aiPresignTtl));
+            return Mono.just(aiServiceWebClient.post()
+                    .uri(s3AnalyzeUri)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(body));
+        }
 
-            // Temporal
-            if (artifacts.getTemporal() != null) {
-                DetectedArtifact temporal = DetectedArtifact.builder()
-                        .resultId(resultId)
-                        .artifactType("temporal")
-                        .detected(artifacts.getTemporal().getDetected())
-                        .sources(objectMapper.writeValueAsString(
-                                artifacts.getTemporal().getSources()))
-                        .patterns(objectMapper.writeValueAsString(
-                                artifacts.getTemporal().getPatterns()))
-                        .build();
-                detectedArtifactMapper.insert(temporal);
-            }
+        String storedFilename = videoFile.getStoredFilename();
+        Path filePath = Paths.get(uploadPath, storedFilename);
+        // 진행률 저장(Redis) 완료 시점에 구독되므로 파일 열기를 Lettuce 스레드에서 하지 않도록
+        return Mono.fromCallable(() -> multipartBodyFactory.create(filePath, storedFilename, analysisId))
+                .subscribeOn(blockingScheduler)
+                .map(body -> aiServiceWebClient.post()
+                        .uri("/api/v1/video/analyze")
+                        .body(BodyInserters.fromMultipartData(body)));
+    }
 
-            // Structural
-            if (artifacts.getStructural() != null) {
-                DetectedArtifact structural = DetectedArtifact.builder()
-                        .resultId(resultId)
-                        .artifactType("structural")
-                        .detected(artifacts.getStructural().getDetected())
-                        .sources(objectMapper.writeValueAsString(
-                                artifacts.getStructural().getSources()))
-                        .patterns(objectMapper.writeValueAsString(
-                                artifacts.getStructural().getPatterns()))
-                        .build();
-                detectedArtifactMapper.insert(structural);
-            }
+    private void updateProgressToCompleted(Long analysisId) {
+        progressService.update(analysisId, 100, "completed", "분석이 완료되었습니다.");
+    }
 
-        } catch (Exception e) {
-            log.error("Failed to save detected artifacts", e);
-        }
+    private void updateProgressToFailed(Long analysisId) {
+        progressService.update(analysisId, 0, "failed", "분석에 실패했습니다.");
     }
 
-    private VideoConversionResult convertToWebFormat(String originalPath, String analysisId) throws IOException {
-        Path uploadDir = Paths.get(uploadPath);
-        String webFilename = analysisId + "_web_" + System.currentTimeMillis() + ".mp4";
-        String webPath = uploadDir.resolve(webFilename).toString();
+    /**
+     * 분석 결과 조회 (완료된 결과는 L1/L2 캐시, miss일 때만 집계 쿼리 1회)
+     */
+    public Mono<VideoAnalysisResponse> getAnalysisResult(Long analysisId) {
+        // L2(Redis) miss 후 loader는 Lettuce 스레드에서 구독되므로 DB 조회는 blocking 스케줄러에서
+        return resultCache.get(analysisId, Mono.fromCallable(() -> loadAnalysisResult(analysisId))
+                .subscribeOn(blockingScheduler));
+    }
 
-        try {
-            List<String> command = new ArrayList<>(Arrays.asList(
-                    ffmpegPath,
-                    "-i", originalPath,
-                    "-c:v", "libx264",
-                    "-preset", "medium",
-                    "-profile:v", "baseline",
-                    "-level", "3.0",
-                    "-pix_fmt", "yuv420p",
-                    "-c:a", "aac",
-                    "-b:a", "128k",
-                    "-movflags", "+faststart",
-                    "-y",
-                    webPath
-            ));
-
-            log.info("FFmpeg 변환 명령: {}", String.join(" ", command));
-
-            ProcessBuilder processBuilder = new ProcessBuilder(command);
-            processBuilder.redirectErrorStream(true);
-            Process process = processBuilder.start();
-
-            Double duration = null;
-
-            try (BufferedReader reader = new BufferedReader(
-                    new InputStreamReader(process.getInputStream()))) {
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    // Duration 추출
-                    if (line.contains("Duration:")) {
-                        String durationStr = line.split("Duration:")[1].split(",")[0].trim();
-                        String[] parts = durationStr.split(":");
-                        if (parts.length == 3) {
-                            int hours = Integer.parseInt(parts[0]);
-                            int minutes = Integer.parseInt(parts[1]);
-                            double seconds = Double.parseDouble(parts[2]);
-                            duration = hours * 3600 + minutes * 60 + seconds;
-                        }
-                    }
-
-                    if (line.contains("Duration:") || line.contains("time=")) {
-                        log.info("[FFmpeg] {}", line);
-                    }
-                }
-            }
+    private VideoAnalysisResponse loadAnalysisResult(Long analysisId) {
+        VideoAnalysisDetail detail = videoAnalysisMapper.findDetailByAnalysisId(analysisId);
+        if (detail == null) {
+            throw new CustomSystemException(VideoErrorCode.NOT_FOUND);
+        }
 
-            int exitCode = process.waitFor();
-            if (exitCode != 0) {
-                log.error("FFmpeg 변환 실패 (exit code: {})", exitCode);
-                return null;
-            }
+        VideoAnalysis analysis = detail.getAnalysis();
+        AnalysisResult result = detail.getResult();
 
-            File webFile = new File(webPath);
-            if (!webFile.exists() || webFile.length() == 0) {
-                log.error("변환 파일 생성 실패");
-                return null;
-            }
+        if (result == null) {
+            return VideoAnalysisResponse.builder()
+                    .analysisId(analysis.getAnalysisId())
+                    .title(analysis.getTitle())
+                    .status(analysis.getStatus())
+                    .transcodeStatus(analysis.getTranscodeStatus())
+                    .createdAt(analysis.getCreatedAt())
+                    .videoFile(convertToFileResponse(detail.getFile()))
+                    .build();
+        }
 
-            log.info("FFmpeg 변환 성공: {}, 크기: {} bytes, 길이: {}초",
-                    webFilename, webFile.length(), duration);
+        List<ModelPrediction> predictions = parseList(detail.getPredictionsJson(), MODEL_PREDICTION_LIST);
+        List<DetectedArtifact> artifacts = parseList(detail.getArtifactsJson(), DETECTED_ARTIFACT_LIST);
 
-            return new VideoConversionResult(webFilename, duration);
+        return VideoAnalysisResponse.builder()
+                .analysisId(analysis.getAnalysisId())
+                .title(analysis.getTitle())
+                .status(analysis.getStatus())
+                .transcodeStatus(analysis.getTranscodeStatus())
+                .createdAt(analysis.getCreatedAt())
+                .completedAt(analysis.getCompletedAt())
+                .videoFile(convertToFileResponse(detail.getFile()))
+                .analysisResult(convertToResultResponse(result, predictions, artifacts))
+                .frameSummary(parseFrameSummary(detail.getFrameSummaryJson()))
+                .build();
+    }
 
-        } catch (Exception e) {
-            log.error("FFmpeg 변환 예외", e);
+    private FrameSummaryResponse parseFrameSummary(String json) {
+        if (json == null || json.isEmpty()) {
             return null;
         }
+        try {
+            return objectMapper.readValue(json, FrameSummaryResponse.class);
+        } catch (Exception e) {
+            log.error("프레임 요약 JSON 파싱 실패", e);
+            throw new CustomSystemException(VideoErrorCode.PROCESSING_ERROR);
+        }
     }
 
-    // 우선은 사용하지 않고 테스트
-    private VideoInfo getVideoInfo(String filePath) {
-        VideoInfo info = new VideoInfo();
+    private <T> List<T> parseList(String json, TypeReference<List<T>> type) {
+        if (json == null || json.isEmpty()) {
+            return List.of();
+        }
         try {
-            String ffprobePath = ffmpegPath.replace("ffmpeg.exe", "ffprobe.exe")
-                    .replace("ffmpeg", "ffprobe");
-
-            List<String> command = Arrays.asList(
-                    ffprobePath,
-                    "-v", "error",
-                    "-select_streams", "v:0",
-                    "-show_entries",
-                    "stream=r_frame_rate,duration:format=duration",
-                    "-of", "json",
-                    filePath
-            );
-
-            ProcessBuilder pb = new ProcessBuilder(command);
-            Process p = pb.start();
-
-            StringBuilder output = new StringBuilder();
-            try (BufferedReader reader = new BufferedReader(
-                    new InputStreamReader(p.getInputStream()))) {
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    output.append(line);
-                }
-            }
-
-            p.waitFor();
-
-            String json = output.toString();
-            if (json.contains("\"duration\"")) {
-                String durStr = json.split("\"duration\":\"")[1].split("\"")[0];
-                info.duration = Double.parseDouble(durStr);
-            }
-            if (json.contains("\"r_frame_rate\"")) {
-                String fpsStr = json.split("\"r_frame_rate\":\"")[1].split("\"")[0];
-                String[] parts = fpsStr.split("/");
-                if (parts.length == 2) {
-                    info.fps = Double.parseDouble(parts[0]) / Double.parseDouble(parts[1]);
-                }
-            }
-
-            List<String> audioCmd = Arrays.asList(
-                    ffprobePath,
-                    "-v", "error",
-                    "-select_streams", "a",
-                    "-show_entries", "stream=codec_type",
-                    "-of", "default=noprint_wrappers=1:nokey=1",
-                    filePath
-            );
-            pb = new ProcessBuilder(audioCmd);
-            p = pb.start();
-            try (BufferedReader reader = new BufferedReader(
-                    new InputStreamReader(p.getInputStream()))) {
-                info.hasAudio = reader.readLine() != null;
-            }
-            p.waitFor();
-
+            return objectMapper.readValue(json, type);
         } catch (Exception e) {
-            log.warn("비디오 정보 조회 실패: {}", filePath, e);
+            log.error("집계 결과 JSON 파싱 실패", e);
+            throw new CustomSystemException(VideoErrorCode.PROCESSING_ERROR);
         }
-        return info;
     }
 
-    private static class VideoInfo {
-        Double duration;
-        Double fps;
-        boolean hasAudio = false;
+    public Mono<VideoProgressResponse> getAnalysisProgress(Long analysisId) {
+        return progressService.find(analysisId);
+    }
+
+    public Flux<ServerSentEvent<VideoProgressResponse>> streamAnalysisProgress(Long analysisId) {
+        Mono<VideoProgressResponse> fallback = Mono.fromCallable(() -> videoAnalysisMapper.findById(analysisId))
+                .subscribeOn(blockingScheduler)
+                .switchIfEmpty(Mono.error(() -> new CustomSystemException(VideoErrorCode.NOT_FOUND)))
+                .flatMap(analysis -> Mono.justOrEmpty(toFinalProgress(analysis)));
+        return progressService.stream(analysisId, fallback);
     }
 
-    private String convertToJsonString(String value) {
-        if (value == null || value.isEmpty()) {
-            return "{}";
+    /**
+     * Redis 진행 상태가 없을 때(TTL 만료 등) DB 작업 상태로 만든 최종 진행 상태
+     * AI 분석이 아직 끝나지 않았으면 null (이후 갱신은 SSE 구독으로 수신)
+     */
+    private VideoProgressResponse toFinalProgress(VideoAnalysis analysis) {
+        String stage = switch (String.valueOf(analysis.getStatus())) {
+            case "COMPLETED" -> "completed";
+            case "FAILED" -> "failed";
+            default -> null;
+        };
+        if (stage == null) {
+            return null;
         }
-        if (value.startsWith("{") || value.startsWith("[")) {
-            return value;
+
+        VideoProgressResponse transcoding = null;
+        if (analysis.getTranscodeStatus() != null) {
+            String transcodeStage = switch (analysis.getTranscodeStatus()) {
+                case "PENDING" -> "queued";
+                case "PROCESSING" -> "transcoding";
+                default -> analysis.getTranscodeStatus().toLowerCase();
+            };
+            transcoding = VideoProgressResponse.builder()
+                    .progress("COMPLETED".equals(analysis.getTranscodeStatus()) ? 100 : 0)
+                    .stage(transcodeStage)
+                    .build();
         }
-        return "{\"type\":\"" + value.replace("\"", "\\\"") + "\"}";
+
+        return VideoProgressResponse.builder()
+                .progress("completed".equals(stage) ? 100 : 0)
+                .stage(stage)
+                .transcoding(transcoding)
+                .build();
     }
 
     private void validateFile(MultipartFile file) {
@@ -654,13 +508,26 @@ public class VideoAnalysisService {
         if (!ALLOWED_FORMATS.contains(extension)) throw new CustomSystemException(VideoErrorCode.INVALID_FILE_FORMAT);
     }
 
-    private String saveFile(MultipartFile file, String analysisId) throws IOException {
+    // 디스크에 쓰는 스트림을 그대로 SHA-256에 통과시켜 한 번만 읽음
+    private SavedFile saveFile(MultipartFile file, String analysisId) throws IOException {
         Path uploadDir = Paths.get(uploadPath);
         if (!Files.exists(uploadDir)) Files.createDirectories(uploadDir);
         String extension = getFileExtension(file.getOriginalFilename());
         String storedFilename = analysisId + "_" + System.currentTimeMillis() + "." + extension;
-        Files.copy(file.getInputStream(), uploadDir.resolve(storedFilename));
-        return storedFilename;
+
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+            Files.copy(in, uploadDir.resolve(storedFilename));
+        }
+        return new SavedFile(storedFilename, HexFormat.of().formatHex(digest.digest()));
+    }
+
+    private record SavedFile(String storedFilename, String contentHash) {
     }
 
     private String getFileExtension(String filename) {
@@ -718,18 +585,6 @@ public class VideoAnalysisService {
                 .build();
     }
 
-    private FrameAnalysisResponse convertToFrameResponse(FrameAnalysis frame) {
-        return FrameAnalysisResponse.builder()
-                .frameId(frame.getFrameId())
-                .frameNumber(frame.getFrameNumber())
-                .timestampSeconds(frame.getTimestampSeconds())
-                .isDeepfake(frame.getIsDeepfake())
-                .confidenceScore(frame.getConfidenceScore())
-                .anomalyType(frame.getAnomalyType())
-                .features(frame.getFeatures())
-                .build();
-    }
-
     /**
      * 개별 모델 예측 리스트를 Response로 변환
      */
@@ -0,0 +1,131 @@
+package fakehunters.backend.video.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import fakehunters.backend.video.dto.response.FrameAnalysisResponse;
+import fakehunters.backend.video.dto.response.VideoAnalysisResponse;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * AI 서버 영상 분석 응답을 도착하는 바이트 조각 단위로 파싱 (Jackson non-blocking 파서)
+ * - 최상위 frameAnalyses 배열의 원소는 완성되는 즉시 FrameAnalysisResponse로 반환
+ * - 나머지 필드(analysisResult 등)는 토큰으로 모아 두었다가 finish()에서 한 번에 바인딩
+ * 메모리에는 현재 프레임 하나와 프레임 외 필드만 남음 (작업 하나당 인스턴스 하나, 스레드 안전하지 않음)
+ */
+class VideoAnalysisStreamParser {
+
+    static final String FRAMES_FIELD = "frameAnalyses";
+
+    private final ObjectMapper objectMapper;
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+
+    // 프레임 목록을 뺀 나머지 응답
+    private final TokenBuffer header;
+    private TokenBuffer frame;
+
+    private int depth;
+    private boolean inFrames;
+    private boolean skipFramesValue;
+    private boolean finished;
+
+    VideoAnalysisStreamParser(ObjectMapper objectMapper) throws IOException {
+        this.objectMapper = objectMapper;
+        this.parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        this.header = new TokenBuffer(objectMapper, false);
+    }
+
+    /**
+     * 바이트 조각을 넣고 이번 조각으로 완성된 프레임 반환 (피더가 배열을 참조하므로 호출 후 재사용 금지)
+     */
+    List<FrameAnalysisResponse> feed(byte[] bytes, int offset, int length) throws IOException {
+        feeder.feedInput(bytes, offset, offset + length);
+        return drain();
+    }
+
+    /**
+     * 입력 종료 후 프레임을 제외한 응답 바인딩 (frameAnalyses는 null)
+     */
+    VideoAnalysisResponse finish() throws IOException {
+        feeder.endOfInput();
+        drain();
+        if (!finished) {
+            throw new IOException("응답 JSON이 완결되지 않음");
+        }
+        try (JsonParser headerParser = header.asParser(objectMapper)) {
+            return objectMapper.readValue(headerParser, VideoAnalysisResponse.class);
+        }
+    }
+
+    private List<FrameAnalysisResponse> drain() throws IOException {
+        List<FrameAnalysisResponse> completed = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            if (finished) {
+                throw new IOException("응답 JSON 뒤에 추가 데이터가 있음");
+            }
+            if (depth == 0 && token != JsonToken.START_OBJECT) {
+                throw new IOException("응답 JSON이 객체가 아님: " + token);
+            }
+
+            int before = depth;
+            if (token.isStructStart()) {
+                depth++;
+            } else if (token.isStructEnd()) {
+                depth--;
+            }
+
+            if (inFrames) {
+                handleFrameToken(token, before, completed);
+            } else if (skipFramesValue) {
+                // "frameAnalyses": null 등 배열이 아닌 값은 그대로 무시
+                skipFramesValue = false;
+                if (token == JsonToken.START_ARRAY) {
+                    inFrames = true;
+                } else if (token.isStructStart()) {
+                    throw new IOException(FRAMES_FIELD + " 필드가 배열이 아님");
+                }
+            } else if (before == 1 && token == JsonToken.FIELD_NAME && FRAMES_FIELD.equals(parser.currentName())) {
+                skipFramesValue = true;
+            } else {
+                header.copyCurrentEvent(parser);
+            }
+
+            if (depth == 0) {
+                finished = true;
+            }
+        }
+        return completed;
+    }
+
+    // 배열 깊이(2)에서 객체가 시작되면 프레임 하나를 모으고 같은 깊이로 돌아오면 바인딩
+    private void handleFrameToken(JsonToken token, int before, List<FrameAnalysisResponse> completed)
+            throws IOException {
+        if (before == 2 && token == JsonToken.END_ARRAY) {
+            inFrames = false;
+            return;
+        }
+        if (before == 2 && token == JsonToken.START_OBJECT) {
+            frame = new TokenBuffer(objectMapper, false);
+        }
+        if (frame == null) {
+            // null 원소 등
+            return;
+        }
+
+        frame.copyCurrentEvent(parser);
+        if (depth == 2 && token == JsonToken.END_OBJECT) {
+            try (JsonParser frameParser = frame.asParser(objectMapper)) {
+                completed.add(objectMapper.readValue(frameParser, FrameAnalysisResponse.class));
+            }
+            frame = null;
+        }
+    }
+}
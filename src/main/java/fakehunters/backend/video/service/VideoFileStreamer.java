@@ -0,0 +1,196 @@
+package fakehunters.backend.video.service;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.support.ResourceRegion;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 영상 파일 HTTP 전송 (Range / 조건부 요청 처리)
+ * - 단일 Range / 전체 파일: Tomcat sendfile 속성으로 커널에서 직접 전송 (복사 없는 경로는 이것뿐)
+ * - sendfile을 쓸 수 없는 환경 / 작은 구간 / 다중 Range(multipart/byteranges)는 응답 스트림에 직접 씀
+ *   (ServletOutputStream은 파일 채널이 아니므로 transferTo도 힙 버퍼를 거쳐 복사됨)
+ * - ETag / Last-Modified 기반 304, If-Range 불일치 시 전체 파일(200)
+ */
+@Slf4j
+@Component
+public class VideoFileStreamer {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final MediaType VIDEO_MP4 = MediaType.parseMediaType("video/mp4");
+
+    // 이보다 작은 구간은 sendfile 대신 바로 써서 응답 (Tomcat DefaultServlet 기본값과 동일)
+    @Value("${video.stream.sendfile-min-size:49152}")
+    private long sendfileMinSize;
+
+    public void stream(File file, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        long fileSize = file.length();
+        long lastModified = file.lastModified();
+        String etag = "\"" + Long.toHexString(fileSize) + "-" + Long.toHexString(lastModified) + "\"";
+        MediaType contentType = MediaTypeFactory.getMediaType(file.getName()).orElse(VIDEO_MP4);
+
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+
+        // If-None-Match / If-Modified-Since → 304 (ETag, Last-Modified 헤더도 여기서 설정)
+        if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+            return;
+        }
+
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (!StringUtils.hasText(rangeHeader) || !matchesIfRange(request, etag, lastModified)) {
+            response.setStatus(HttpStatus.OK.value());
+            response.setContentType(contentType.toString());
+            response.setContentLengthLong(fileSize);
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "inline");
+            transfer(file, 0, fileSize, request, response);
+            return;
+        }
+
+        List<ResourceRegion> regions;
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+            regions = HttpRange.toResourceRegions(ranges, new FileSystemResource(file));
+        } catch (IllegalArgumentException e) {
+            log.debug("잘못된 Range 요청 - Range: {}, total: {}", rangeHeader, fileSize);
+            response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + fileSize);
+            return;
+        }
+
+        response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+
+        if (regions.size() == 1) {
+            ResourceRegion region = regions.get(0);
+            response.setContentType(contentType.toString());
+            response.setContentLengthLong(region.getCount());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, contentRange(region, fileSize));
+            transfer(file, region.getPosition(), region.getCount(), request, response);
+            return;
+        }
+
+        writeByteRanges(file, regions, fileSize, contentType, request, response);
+    }
+
+    /**
+     * If-Range 검증 (강한 ETag 또는 Last-Modified 날짜가 정확히 일치할 때만 Range 적용)
+     */
+    private boolean matchesIfRange(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (!StringUtils.hasText(ifRange)) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(etag);
+        }
+        try {
+            return request.getDateHeader(HttpHeaders.IF_RANGE) == lastModified / 1000 * 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private void transfer(File file, long position, long count,
+                          HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (isHead(request)) {
+            return;
+        }
+
+        if (count >= sendfileMinSize && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // 응답 본문은 컨테이너가 커밋 시점에 sendfile로 전송 (end는 exclusive)
+            request.setAttribute(SENDFILE_FILENAME, file.getCanonicalPath());
+            request.setAttribute(SENDFILE_START, position);
+            request.setAttribute(SENDFILE_END, position + count);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            transferTo(channel, position, count, Channels.newChannel(response.getOutputStream()));
+        }
+    }
+
+    private void writeByteRanges(File file, List<ResourceRegion> regions, long fileSize, MediaType contentType,
+                                 HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String boundary = MimeTypeUtils.generateMultipartBoundaryString();
+
+        List<byte[]> partHeaders = new ArrayList<>(regions.size());
+        long contentLength = 0;
+        for (ResourceRegion region : regions) {
+            byte[] header = ("\r\n--" + boundary + "\r\n"
+                    + HttpHeaders.CONTENT_TYPE + ": " + contentType + "\r\n"
+                    + HttpHeaders.CONTENT_RANGE + ": " + contentRange(region, fileSize) + "\r\n\r\n")
+                    .getBytes(StandardCharsets.US_ASCII);
+            partHeaders.add(header);
+            contentLength += header.length + region.getCount();
+        }
+        byte[] closing = ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII);
+        contentLength += closing.length;
+
+        response.setContentType("multipart/byteranges; boundary=" + boundary);
+        response.setContentLengthLong(contentLength);
+
+        if (isHead(request)) {
+            return;
+        }
+
+        ServletOutputStream out = response.getOutputStream();
+        WritableByteChannel target = Channels.newChannel(out);
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            for (int i = 0; i < regions.size(); i++) {
+                ResourceRegion region = regions.get(i);
+                out.write(partHeaders.get(i));
+                transferTo(channel, region.getPosition(), region.getCount(), target);
+            }
+            out.write(closing);
+        }
+    }
+
+    // target이 ServletOutputStream을 감싼 채널이라 JDK가 힙 버퍼로 나눠 복사 (zero-copy 아님)
+    private void transferTo(FileChannel channel, long position, long count,
+                            WritableByteChannel target) throws IOException {
+        long end = position + count;
+        while (position < end) {
+            long written = channel.transferTo(position, end - position, target);
+            if (written <= 0) {
+                break;
+            }
+            position += written;
+        }
+    }
+
+    private String contentRange(ResourceRegion region, long fileSize) {
+        long start = region.getPosition();
+        long end = start + region.getCount() - 1;
+        return "bytes " + start + "-" + end + "/" + fileSize;
+    }
+
+    private boolean isHead(HttpServletRequest request) {
+        return "HEAD".equalsIgnoreCase(request.getMethod());
+    }
+}
@@ -0,0 +1,94 @@
+package fakehunters.backend.video.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.client.MultipartBodyBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MultiValueMap;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * AI 서버(/api/v1/video/analyze)로 보낼 multipart 본문 생성
+ * - streaming: 디스크에서 고정 크기 DataBuffer 단위로 읽어 전송 (작업당 메모리 일정)
+ * - buffered: 파일 전체를 힙에 올려 전송 (기존 방식, 비교/롤백용)
+ */
+@Slf4j
+@Component
+public class VideoMultipartBodyFactory {
+
+    public static final String MODE_STREAMING = "streaming";
+    public static final String MODE_BUFFERED = "buffered";
+
+    @Value("${ai-service.video.upload-mode:streaming}")
+    private String uploadMode;
+
+    @Value("${ai-service.video.upload-buffer-size:65536}")
+    private int uploadBufferSize;
+
+    public MultiValueMap<String, HttpEntity<?>> create(Path filePath, String filename, Long analysisId)
+            throws IOException {
+        if (MODE_BUFFERED.equalsIgnoreCase(uploadMode)) {
+            return buffered(filePath, filename, analysisId);
+        }
+        return streaming(filePath, filename, analysisId);
+    }
+
+    /**
+     * 파일을 uploadBufferSize 크기의 DataBuffer 스트림으로 전송
+     * (AsynchronousFileChannel 기반, 전송이 끝난 버퍼는 writer가 release)
+     */
+    public MultiValueMap<String, HttpEntity<?>> streaming(Path filePath, String filename, Long analysisId)
+            throws IOException {
+        long size = Files.size(filePath);
+
+        Flux<DataBuffer> content = DataBufferUtils.read(
+                filePath, DefaultDataBufferFactory.sharedInstance, uploadBufferSize);
+
+        MultipartBodyBuilder builder = new MultipartBodyBuilder();
+        builder.asyncPart("file", content, DataBuffer.class)
+                .filename(filename)
+                .contentType(resolveContentType(filename))
+                .header("Content-Length", String.valueOf(size));
+        builder.part("analysis_id", analysisId);
+
+        log.debug("스트리밍 업로드 본문 생성 - ID: {}, size: {} bytes, buffer: {} bytes",
+                analysisId, size, uploadBufferSize);
+
+        return builder.build();
+    }
+
+    /**
+     * 파일 전체를 byte[]로 읽어 전송 (기존 방식)
+     */
+    public MultiValueMap<String, HttpEntity<?>> buffered(Path filePath, String filename, Long analysisId)
+            throws IOException {
+        byte[] fileBytes = Files.readAllBytes(filePath);
+
+        MultipartBodyBuilder builder = new MultipartBodyBuilder();
+        builder.part("file", new ByteArrayResource(fileBytes) {
+            @Override
+            public String getFilename() {
+                return filename;
+            }
+        });
+        builder.part("analysis_id", analysisId);
+
+        return builder.build();
+    }
+
+    private MediaType resolveContentType(String filename) {
+        return MediaTypeFactory.getMediaType(filename)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM);
+    }
+}
@@ -0,0 +1,204 @@
+package fakehunters.backend.video.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fakehunters.backend.global.exception.custom.CustomSystemException;
+import fakehunters.backend.video.dto.response.VideoProgressResponse;
+import fakehunters.backend.video.exception.VideoErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 영상 분석 진행 상태 저장 / 구독
+ * - AI 분석: video_analysis_progress:{analysisId}
+ * - 웹 변환: video_analysis_progress:{analysisId}:transcoding (AI 분석과 병렬 진행)
+ * - 저장할 때마다 키와 같은 이름의 Redis 채널로 publish → SSE 연결은 자기 분석의 두 채널만 구독 (어느 노드에 붙어 있든 수신)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VideoProgressService {
+
+    public static final String KEY_PREFIX = "video_analysis_progress:";
+    public static final String TRANSCODING_SUFFIX = ":transcoding";
+    private static final Duration TTL = Duration.ofHours(1);
+
+    public static final String EVENT_PROGRESS = "progress";
+    public static final String EVENT_TRANSCODING = "transcoding";
+
+    private static final Set<String> TERMINAL_STAGES = Set.of("completed", "failed");
+    private static final Set<String> TERMINAL_TRANSCODING_STAGES = Set.of("completed", "failed", "skipped");
+    private static final Duration HEARTBEAT_INTERVAL = Duration.ofSeconds(15);
+
+    private final ReactiveRedisTemplate<String, String> redisTemplate;
+    private final ReactiveRedisMessageListenerContainer listenerContainer;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public Mono<Boolean> save(Long analysisId, VideoProgressResponse progress) {
+        return save(KEY_PREFIX + analysisId, progress);
+    }
+
+    private Mono<Boolean> save(String key, VideoProgressResponse progress) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(progress);
+        } catch (Exception e) {
+            log.error("JSON 직렬화 실패", e);
+            return Mono.error(new CustomSystemException(VideoErrorCode.INTERNAL_SERVER_ERROR));
+        }
+
+        return redisTemplate.opsForValue()
+                .set(key, json, TTL)
+                .flatMap(saved -> redisTemplate.convertAndSend(key, json).thenReturn(saved))
+                .doOnError(e -> log.error("Redis 진행 상태 저장 실패 - Key: {}", key, e));
+    }
+
+    /**
+     * 결과를 기다리지 않는 진행 상태 갱신 (실패는 로그만 남김)
+     */
+    public void update(Long analysisId, int progress, String stage, String detail) {
+        fireAndForget(KEY_PREFIX + analysisId, progress, stage, detail);
+    }
+
+    /**
+     * 웹 변환 단계 진행 상태 갱신 (AI 분석 진행률과 별도 키)
+     */
+    public void updateTranscoding(Long analysisId, int progress, String stage, String detail) {
+        fireAndForget(KEY_PREFIX + analysisId + TRANSCODING_SUFFIX, progress, stage, detail);
+    }
+
+    /**
+     * AI 분석 진행 상태 조회 (웹 변환 진행 상태가 있으면 transcoding 필드로 합쳐서 반환)
+     */
+    public Mono<VideoProgressResponse> find(Long analysisId) {
+        String key = KEY_PREFIX + analysisId;
+
+        Mono<Optional<VideoProgressResponse>> transcoding = read(key + TRANSCODING_SUFFIX)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty());
+
+        return read(key)
+                .zipWith(transcoding, (main, sub) -> sub
+                        .map(t -> VideoProgressResponse.builder()
+                                .progress(main.getProgress())
+                                .stage(main.getStage())
+                                .detail(main.getDetail())
+                                .transcoding(t)
+                                .build())
+                        .orElse(main))
+                .switchIfEmpty(Mono.defer(() -> {
+                    log.debug("Redis에 진행 상태 없음 - Key: {}", key);
+                    return Mono.empty();
+                }));
+    }
+
+    /**
+     * 진행 상태 SSE 스트림
+     * - 현재 상태(progress)를 먼저 보내고, 이후 AI 분석(progress) / 웹 변환(transcoding) 갱신을 push
+     * - Redis에 현재 상태가 없으면(TTL 만료 / 기록 전) fallback(DB 작업 상태)으로 대신해 이미 끝난 작업은 바로 종료
+     * - 두 단계가 모두 끝나면 종료, 프록시 유휴 연결 종료를 막기 위해 주기적으로 comment 전송
+     */
+    public Flux<ServerSentEvent<VideoProgressResponse>> stream(Long analysisId, Mono<VideoProgressResponse> fallback) {
+        String key = KEY_PREFIX + analysisId;
+        String transcodingKey = key + TRANSCODING_SUFFIX;
+
+        // 채널 구독이 활성화된 뒤 현재 상태를 읽어 그 사이의 갱신을 놓치지 않도록 함
+        return listenerContainer.receiveLater(ChannelTopic.of(key), ChannelTopic.of(transcodingKey))
+                .flatMapMany(messages -> {
+                    StreamState state = new StreamState();
+
+                    Flux<ServerSentEvent<VideoProgressResponse>> live = messages
+                            .concatMap(message -> parse(message.getChannel(), message.getMessage())
+                                    .map(progress -> event(
+                                            key.equals(message.getChannel()) ? EVENT_PROGRESS : EVENT_TRANSCODING,
+                                            progress)));
+
+                    Flux<ServerSentEvent<VideoProgressResponse>> snapshot = find(analysisId)
+                            .switchIfEmpty(fallback)
+                            .map(progress -> event(EVENT_PROGRESS, progress))
+                            .flux();
+
+                    Flux<ServerSentEvent<VideoProgressResponse>> heartbeat = Flux.interval(HEARTBEAT_INTERVAL)
+                            .map(tick -> ServerSentEvent.<VideoProgressResponse>builder().comment("keep-alive").build());
+
+                    return Flux.merge(live, snapshot, heartbeat)
+                            .takeUntil(state::finishedBy);
+                });
+    }
+
+    private ServerSentEvent<VideoProgressResponse> event(String name, VideoProgressResponse progress) {
+        return ServerSentEvent.<VideoProgressResponse>builder()
+                .event(name)
+                .data(progress)
+                .build();
+    }
+
+    /**
+     * SSE 연결별 단계 종료 여부
+     */
+    private static class StreamState {
+        private boolean analysisDone;
+        private boolean transcodingSeen;
+        private boolean transcodingDone;
+
+        boolean finishedBy(ServerSentEvent<VideoProgressResponse> event) {
+            VideoProgressResponse progress = event.data();
+            if (progress == null) {
+                return false;
+            }
+
+            if (EVENT_TRANSCODING.equals(event.event())) {
+                markTranscoding(progress);
+            } else {
+                analysisDone = TERMINAL_STAGES.contains(progress.getStage());
+                if (progress.getTranscoding() != null) {
+                    markTranscoding(progress.getTranscoding());
+                }
+            }
+            return analysisDone && (!transcodingSeen || transcodingDone);
+        }
+
+        private void markTranscoding(VideoProgressResponse transcoding) {
+            transcodingSeen = true;
+            transcodingDone = TERMINAL_TRANSCODING_STAGES.contains(transcoding.getStage());
+        }
+    }
+
+    private Mono<VideoProgressResponse> read(String key) {
+        return redisTemplate.opsForValue()
+                .get(key)
+                .flatMap(json -> parse(key, json));
+    }
+
+    private Mono<VideoProgressResponse> parse(String key, String json) {
+        try {
+            return Mono.just(objectMapper.readValue(json, VideoProgressResponse.class));
+        } catch (Exception e) {
+            log.error("JSON 파싱 실패 - Key: {}, 값: {}", key, json, e);
+            return Mono.empty();
+        }
+    }
+
+    private void fireAndForget(String key, int progress, String stage, String detail) {
+        VideoProgressResponse response = VideoProgressResponse.builder()
+                .progress(progress)
+                .stage(stage)
+                .detail(detail)
+                .build();
+
+        save(key, response)
+                .onErrorResume(e -> Mono.empty())
+                .subscribe();
+    }
+}
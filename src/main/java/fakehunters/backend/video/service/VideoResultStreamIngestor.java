@@ -0,0 +1,137 @@
+package fakehunters.backend.video.service;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import fakehunters.backend.global.exception.custom.CustomSystemException;
+import fakehunters.backend.video.dto.response.FrameAnalysisResponse;
+import fakehunters.backend.video.dto.response.VideoAnalysisResponse;
+import fakehunters.backend.video.exception.VideoErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * AI 서버 응답을 전부 메모리에 올리지 않고 도착하는 대로 저장 (video.result.ingest-mode=stream)
+ * - 응답 바이트 → VideoAnalysisStreamParser → 프레임 chunk-size 개씩 청크 트랜잭션으로 저장
+ * - 저장이 밀리면 concatMap(prefetch 1) backpressure로 응답 읽기도 멈춤 → 작업당 메모리 ≈ 청크 2개
+ * - 타임라인은 프레임당 원시값 4개(FrameSeries)만 누적해서 마지막에 집계
+ * - 결과 행은 빈 행(analyzed_at NULL)으로 먼저 만들고 완료 트랜잭션에서 채움, 실패 시 보상 삭제
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VideoResultStreamIngestor {
+
+    private final VideoResultWriter resultWriter;
+    private final Scheduler blockingScheduler;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    @Value("${video.result.stream-chunk-size:1000}")
+    private int chunkSize;
+
+    /**
+     * @return 저장된 결과 ID
+     */
+    public Mono<Long> ingest(Long analysisId, Flux<DataBuffer> body) {
+        return withPlaceholder(analysisId, resultId -> write(analysisId, resultId, body));
+    }
+
+    /**
+     * 빈 결과 행을 만든 뒤 writer 실행, 실패하면 그 사이 저장된 프레임까지 보상 삭제
+     * (구간 분할 분석 등 프레임을 여러 번에 나눠 저장하는 흐름 공용)
+     */
+    public Mono<Long> withPlaceholder(Long analysisId, Function<Long, Mono<Long>> writer) {
+        return Mono.fromCallable(() -> resultWriter.beginStream(analysisId))
+                .subscribeOn(blockingScheduler)
+                .flatMap(resultId -> Mono.defer(() -> writer.apply(resultId))
+                        .onErrorResume(e -> Mono.<Long>fromRunnable(() -> discard(analysisId, resultId))
+                                .subscribeOn(blockingScheduler)
+                                .then(Mono.error(e))));
+    }
+
+    /**
+     * 응답을 파싱해 프레임을 chunk-size 개씩 chunkWriter(blocking 스케줄러)로 넘기고, 끝나면 프레임을 뺀 응답 반환
+     * chunkWriter가 끝나야 다음 청크를 읽으므로 응답 하나당 메모리 ≈ 청크 2개
+     */
+    public Mono<VideoAnalysisResponse> ingestFrames(Long analysisId, Flux<DataBuffer> body,
+                                                    Function<List<FrameAnalysisResponse>, Integer> chunkWriter) {
+        VideoAnalysisStreamParser parser = newParser();
+
+        // 파싱은 응답을 받은 이벤트 루프 스레드에서 (CPU 작업), DB 쓰기만 blocking 스케줄러로
+        return body
+                .concatMapIterable(buffer -> feed(analysisId, parser, buffer))
+                .buffer(Math.max(1, chunkSize))
+                .concatMap(chunk -> Mono.fromCallable(() -> chunkWriter.apply(chunk))
+                        .subscribeOn(blockingScheduler), 1)
+                .then(Mono.fromCallable(() -> finish(analysisId, parser)));
+    }
+
+    private Mono<Long> write(Long analysisId, Long resultId, Flux<DataBuffer> body) {
+        FrameTimelineAggregator.FrameSeries series = new FrameTimelineAggregator.FrameSeries();
+
+        return ingestFrames(analysisId, body, chunk -> {
+            for (FrameAnalysisResponse frame : chunk) {
+                series.add(frame.getFrameNumber(), frame.getTimestampSeconds(),
+                        frame.getConfidenceScore(), frame.getIsDeepfake());
+            }
+            return resultWriter.appendFrames(resultId, chunk);
+        }).flatMap(response -> Mono.fromCallable(() -> resultWriter.completeStream(
+                        analysisId, resultId, response, series))
+                .subscribeOn(blockingScheduler));
+    }
+
+    private VideoAnalysisStreamParser newParser() {
+        try {
+            return new VideoAnalysisStreamParser(objectMapper);
+        } catch (IOException e) {
+            throw new CustomSystemException(VideoErrorCode.PROCESSING_ERROR);
+        }
+    }
+
+    // 파서가 배열을 참조하므로 복사해서 넣고 원본 버퍼는 바로 반환
+    private List<FrameAnalysisResponse> feed(Long analysisId, VideoAnalysisStreamParser parser, DataBuffer buffer) {
+        try {
+            byte[] bytes = new byte[buffer.readableByteCount()];
+            buffer.read(bytes);
+            return parser.feed(bytes, 0, bytes.length);
+        } catch (IOException e) {
+            log.error("AI 응답 파싱 실패 - ID: {}", analysisId, e);
+            throw new CustomSystemException(VideoErrorCode.PROCESSING_ERROR);
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+
+    private VideoAnalysisResponse finish(Long analysisId, VideoAnalysisStreamParser parser) {
+        try {
+            return parser.finish();
+        } catch (IOException e) {
+            log.error("AI 응답 파싱 실패 - ID: {}", analysisId, e);
+            throw new CustomSystemException(VideoErrorCode.PROCESSING_ERROR);
+        }
+    }
+
+    private void discard(Long analysisId, Long resultId) {
+        try {
+            resultWriter.discardStream(resultId);
+            log.warn("스트리밍 저장 실패 - 저장된 결과 삭제 - ID: {}, resultId: {}", analysisId, resultId);
+        } catch (RuntimeException e) {
+            // 남은 행은 작업 재시도 시 beginStream에서 정리
+            log.error("스트리밍 저장 보상 삭제 실패 - ID: {}, resultId: {}", analysisId, resultId, e);
+        }
+    }
+}
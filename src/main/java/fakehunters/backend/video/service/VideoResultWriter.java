@@ -0,0 +1,277 @@
+package fakehunters.backend.video.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fakehunters.backend.global.exception.custom.CustomSystemException;
+import fakehunters.backend.video.domain.AnalysisResult;
+import fakehunters.backend.video.domain.DetectedArtifact;
+import fakehunters.backend.video.domain.FrameAnalysis;
+import fakehunters.backend.video.domain.ModelPrediction;
+import fakehunters.backend.video.dto.response.AnalysisResultResponse;
+import fakehunters.backend.video.dto.response.FrameAnalysisResponse;
+import fakehunters.backend.video.dto.response.VideoAnalysisResponse;
+import fakehunters.backend.video.exception.VideoErrorCode;
+import fakehunters.backend.video.mapper.AnalysisResultMapper;
+import fakehunters.backend.video.mapper.FrameAnalysisMapper;
+import fakehunters.backend.video.mapper.VideoAnalysisMapper;
+import fakehunters.backend.video.mapper.VideoTimelineMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * AI 분석 결과 저장 (결과 / 모델 예측 / 아티팩트 / 프레임 / 작업 상태를 하나의 트랜잭션으로)
+ * - 결과 + 모델 예측 + 아티팩트: CTE 한 문장
+ * - 프레임: COPY FROM STDIN (frame-ingest=insert 이면 frame-batch-size 단위 multi-row INSERT)
+ * - 신뢰도 타임라인: 프레임에서 집계한 한 행 (FrameTimelineAggregator)
+ * - 작업 상태 COMPLETED + completed_at: 한 문장
+ * 중간에 실패하면 전체 롤백되고 호출 측에서 FAILED 처리
+ * 스트리밍 저장(VideoResultStreamIngestor)은 빈 결과 행 → 프레임 청크별 트랜잭션 → 완료 트랜잭션 순서
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VideoResultWriter {
+
+    private final AnalysisResultMapper analysisResultMapper;
+    private final FrameAnalysisMapper frameAnalysisMapper;
+    private final VideoAnalysisMapper videoAnalysisMapper;
+    private final FrameAnalysisCopyWriter frameCopyWriter;
+    private final VideoTimelineMapper videoTimelineMapper;
+    private final FrameTimelineAggregator timelineAggregator;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public static final String INGEST_COPY = "copy";
+    public static final String INGEST_INSERT = "insert";
+
+    @Value("${video.result.frame-ingest:copy}")
+    private String frameIngest;
+
+    // insert 모드: PostgreSQL 바인드 파라미터 한도(65535) / 프레임당 7개 보다 충분히 작게
+    @Value("${video.result.frame-batch-size:1000}")
+    private int frameBatchSize;
+
+    @Transactional
+    public Long save(Long analysisId, VideoAnalysisResponse response) {
+        Long resultId = analysisResultMapper.insertWithDetails(
+                toResult(analysisId, null, response),
+                toModelPredictions(response.getAnalysisResult().getIndividualModels()),
+                toDetectedArtifacts(response.getAnalysisResult().getDetectedArtifacts()));
+
+        List<FrameAnalysis> frames = toFrameRows(resultId, response.getFrameAnalyses());
+        int frameCount = saveFrames(resultId, frames);
+
+        videoTimelineMapper.upsert(
+                timelineAggregator.toEntity(analysisId, resultId, timelineAggregator.aggregate(frames)));
+
+        videoAnalysisMapper.markCompleted(analysisId);
+
+        log.info("분석 결과 저장 완료 - ID: {}, resultId: {}, 프레임: {}개", analysisId, resultId, frameCount);
+        return resultId;
+    }
+
+    /**
+     * 스트리밍 저장 시작: 이전 시도의 저장 중 결과를 정리하고 프레임이 참조할 빈 결과 행 생성
+     * 이후 appendFrames(청크별 트랜잭션) → completeStream 또는 discardStream
+     */
+    @Transactional
+    public Long beginStream(Long analysisId) {
+        analysisResultMapper.deleteIncompleteByAnalysisId(analysisId);
+        return analysisResultMapper.insertPlaceholder(analysisId);
+    }
+
+    @Transactional
+    public int appendFrames(Long resultId, List<FrameAnalysisResponse> frames) {
+        return saveFrames(resultId, toFrameRows(resultId, frames));
+    }
+
+    /**
+     * 스트리밍 저장 완료: 결과 / 모델 예측 / 아티팩트 / 타임라인 / 작업 상태를 하나의 트랜잭션으로
+     * response는 프레임 목록을 제외한 나머지 필드
+     */
+    @Transactional
+    public Long completeStream(Long analysisId, Long resultId, VideoAnalysisResponse response,
+                               FrameTimelineAggregator.FrameSeries frames) {
+        analysisResultMapper.completeWithDetails(
+                toResult(analysisId, resultId, response),
+                toModelPredictions(response.getAnalysisResult().getIndividualModels()),
+                toDetectedArtifacts(response.getAnalysisResult().getDetectedArtifacts()));
+
+        videoTimelineMapper.upsert(
+                timelineAggregator.toEntity(analysisId, resultId, timelineAggregator.aggregate(frames)));
+
+        videoAnalysisMapper.markCompleted(analysisId);
+
+        log.info("분석 결과 저장 완료 (스트리밍) - ID: {}, resultId: {}, 프레임: {}개",
+                analysisId, resultId, frames.size());
+        return resultId;
+    }
+
+    // 스트리밍 저장 실패 시 이미 커밋된 청크까지 보상 삭제
+    @Transactional
+    public void discardStream(Long resultId) {
+        analysisResultMapper.deleteWithFrames(resultId);
+    }
+
+    private AnalysisResult toResult(Long analysisId, Long resultId, VideoAnalysisResponse response) {
+        AnalysisResultResponse analysisResult = response.getAnalysisResult();
+        if (analysisResult == null) {
+            throw new CustomSystemException(VideoErrorCode.DETECTION_FAILED);
+        }
+
+        return AnalysisResult.builder()
+                .resultId(resultId)
+                .analysisId(analysisId)
+                .isDeepfake(analysisResult.getIsDeepfake())
+                .confidenceScore(analysisResult.getConfidenceScore())
+                .modelVersion(analysisResult.getModelVersion())
+                .processingTimeMs(analysisResult.getProcessingTimeMs())
+                .detectedTechniques(analysisResult.getDetectedTechniques())
+                .summary(analysisResult.getSummary())
+                .analyzedAt(OffsetDateTime.now())
+                .ensembleFakeProbability(analysisResult.getEnsembleFakeProbability())
+                .modelAgreement(analysisResult.getModelAgreement())
+                .riskLevel(analysisResult.getRiskLevel())
+                .build();
+    }
+
+    private List<FrameAnalysis> toFrameRows(Long resultId, List<FrameAnalysisResponse> frames) {
+        if (frames == null || frames.isEmpty()) {
+            return List.of();
+        }
+
+        return frames.stream()
+                .map(frame -> FrameAnalysis.builder()
+                        .resultId(resultId)
+                        .frameNumber(frame.getFrameNumber())
+                        .timestampSeconds(frame.getTimestampSeconds())
+                        .isDeepfake(frame.getIsDeepfake())
+                        .confidenceScore(frame.getConfidenceScore())
+                        .anomalyType(frame.getAnomalyType())
+                        .features(frame.getFeatures())
+                        .build())
+                .toList();
+    }
+
+    private int saveFrames(Long resultId, List<FrameAnalysis> rows) {
+        if (rows.isEmpty()) {
+            log.warn("프레임 분석 데이터 없음 - resultId: {}", resultId);
+            return 0;
+        }
+
+        if (INGEST_INSERT.equalsIgnoreCase(frameIngest)) {
+            for (int from = 0; from < rows.size(); from += frameBatchSize) {
+                frameAnalysisMapper.insertBatch(rows.subList(from, Math.min(rows.size(), from + frameBatchSize)));
+            }
+            return rows.size();
+        }
+
+        try {
+            return (int) frameCopyWriter.copy(rows);
+        } catch (SQLException e) {
+            log.error("프레임 COPY 실패 - resultId: {}", resultId, e);
+            throw new CustomSystemException(VideoErrorCode.PROCESSING_ERROR);
+        }
+    }
+
+    private List<ModelPrediction> toModelPredictions(AnalysisResultResponse.IndividualModelsResponse models) {
+        List<ModelPrediction> predictions = new ArrayList<>(3);
+        if (models == null) {
+            return predictions;
+        }
+
+        // XceptionNet
+        if (models.getXception() != null) {
+            predictions.add(ModelPrediction.builder()
+                    .modelName("xception")
+                    .prediction(models.getXception().getPrediction())
+                    .confidence(models.getXception().getConfidence())
+                    .fakeProbability(models.getXception().getFakeProbability())
+                    .detectedPatterns(toJson(models.getXception().getDetectedPatterns()))
+                    .build());
+        }
+
+        // EfficientNet-B4
+        if (models.getEfficientnet() != null) {
+            predictions.add(ModelPrediction.builder()
+                    .modelName("efficientnet")
+                    .prediction(models.getEfficientnet().getPrediction())
+                    .confidence(models.getEfficientnet().getConfidence())
+                    .fakeProbability(models.getEfficientnet().getFakeProbability())
+                    .detectedPatterns(toJson(models.getEfficientnet().getDetectedPatterns()))
+                    .build());
+        }
+
+        // CNN-LSTM
+        if (models.getCnnLstm() != null) {
+            predictions.add(ModelPrediction.builder()
+                    .modelName("cnn_lstm")
+                    .prediction(models.getCnnLstm().getPrediction())
+                    .confidence(models.getCnnLstm().getConfidence())
+                    .fakeProbability(models.getCnnLstm().getFakeProbability())
+                    .detectedPatterns(toJson(models.getCnnLstm().getDetectedPatterns()))
+                    .suspiciousFrames(models.getCnnLstm().getSuspiciousFrames() != null
+                            ? toJson(models.getCnnLstm().getSuspiciousFrames())
+                            : null)
+                    .build());
+        }
+
+        return predictions;
+    }
+
+    private List<DetectedArtifact> toDetectedArtifacts(AnalysisResultResponse.DetectedArtifactsResponse artifacts) {
+        List<DetectedArtifact> result = new ArrayList<>(3);
+        if (artifacts == null) {
+            return result;
+        }
+
+        // Spatial
+        if (artifacts.getSpatial() != null) {
+            result.add(DetectedArtifact.builder()
+                    .artifactType("spatial")
+                    .detected(artifacts.getSpatial().getDetected())
+                    .sources(toJson(artifacts.getSpatial().getSources()))
+                    .patterns(toJson(artifacts.getSpatial().getPatterns()))
+                    .build());
+        }
+
+        // Temporal
+        if (artifacts.getTemporal() != null) {
+            result.add(DetectedArtifact.builder()
+                    .artifactType("temporal")
+                    .detected(artifacts.getTemporal().getDetected())
+                    .sources(toJson(artifacts.getTemporal().getSources()))
+                    .patterns(toJson(artifacts.getTemporal().getPatterns()))
+                    .build());
+        }
+
+        // Structural
+        if (artifacts.getStructural() != null) {
+            result.add(DetectedArtifact.builder()
+                    .artifactType("structural")
+                    .detected(artifacts.getStructural().getDetected())
+                    .sources(toJson(artifacts.getStructural().getSources()))
+                    .patterns(toJson(artifacts.getStructural().getPatterns()))
+                    .build());
+        }
+
+        return result;
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            log.error("JSON 직렬화 실패", e);
+            throw new CustomSystemException(VideoErrorCode.PROCESSING_ERROR);
+        }
+    }
+}
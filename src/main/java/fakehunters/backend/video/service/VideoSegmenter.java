@@ -0,0 +1,243 @@
+package fakehunters.backend.video.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import fakehunters.backend.global.process.ExternalProcessException;
+import fakehunters.backend.global.process.ExternalProcessRunner;
+import fakehunters.backend.global.process.ProcessResult;
+import fakehunters.backend.video.domain.VideoFile;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 긴 영상을 시간 구간으로 나눔 (ffmpeg segment muxer, -c copy → 키프레임 경계에서만 잘림)
+ * - 구간 시작 시각은 segment_list(csv)의 실제 start_time (키프레임 위치라 segment-length와 다를 수 있음)
+ * - 프레임 번호 보정값 = round(start_time × fps) (가변 프레임레이트 영상은 근사)
+ * - min-duration보다 짧은 영상 / 길이·fps 조회 실패 / 분할 실패 시 빈 목록 → 단일 요청으로 분석
+ * - S3 입력 (video.segment.s3-input)
+ *   skip(기본): 분할하지 않고 단일 요청으로 key / presigned URL만 전달 (영상 바이트가 이 노드를 거치지 않음)
+ *   s3: presigned URL에서 분할한 구간을 video/segments/{analysisId}/ 에 올리고 구간도 S3 참조로 전달
+ *       (원본을 한 번 읽고 구간을 한 번 올리는 만큼 이 노드를 거침, AI 서버로는 multipart 전송 없음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VideoSegmenter {
+
+    public static final String S3_INPUT_SKIP = "skip";
+    public static final String S3_INPUT_UPLOAD = "s3";
+
+    private static final String SEGMENT_LIST = "segments.csv";
+
+    private final ExternalProcessRunner processRunner;
+    private final VideoStorageService storageService;
+
+    @Value("${file.upload.path:/uploads/videos}")
+    private String uploadPath;
+
+    @Value("${ffmpeg.path:ffmpeg}")
+    private String ffmpegPath;
+
+    @Value("${ffmpeg.ffprobe-path:ffprobe}")
+    private String ffprobePath;
+
+    @Value("${video.segment.enabled:false}")
+    private boolean enabled;
+
+    // 이보다 짧은 영상은 분할 이득보다 요청 오버헤드가 큼
+    @Value("${video.segment.min-duration:PT3M}")
+    private Duration minDuration;
+
+    @Value("${video.segment.length:PT60S}")
+    private Duration segmentLength;
+
+    @Value("${video.segment.split-timeout:PT5M}")
+    private Duration splitTimeout;
+
+    @Value("${video.transcode.probe-timeout:PT30S}")
+    private Duration probeTimeout;
+
+    @Value("${video.segment.s3-input:skip}")
+    private String s3InputMode;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 구간 파일 생성 (분석이 끝나면 cleanup 호출)
+     */
+    public List<VideoSegment> split(Long analysisId, VideoFile videoFile) {
+        boolean s3Input = storageService.isS3Path(videoFile.getFilePath());
+        if (s3Input && !S3_INPUT_UPLOAD.equalsIgnoreCase(s3InputMode)) {
+            return List.of();
+        }
+        String input = resolveInput(videoFile);
+
+        MediaInfo info = probe(input);
+        if (info == null || info.duration() < minDuration.toSeconds()) {
+            return List.of();
+        }
+
+        Path dir = segmentDir(analysisId);
+        try {
+            FileSystemUtils.deleteRecursively(dir);
+            Files.createDirectories(dir);
+
+            String extension = videoFile.getFormat() != null ? videoFile.getFormat().toLowerCase() : "mp4";
+            List<String> command = Arrays.asList(
+                    ffmpegPath, "-hide_banner", "-nostdin", "-y",
+                    "-i", input,
+                    "-map", "0:v:0", "-map", "0:a:0?",
+                    "-c", "copy",
+                    "-f", "segment",
+                    "-segment_time", String.valueOf(segmentLength.toMillis() / 1000.0),
+                    "-reset_timestamps", "1",
+                    "-segment_list", dir.resolve(SEGMENT_LIST).toString(),
+                    "-segment_list_type", "csv",
+                    dir.resolve("seg_%04d." + extension).toString());
+
+            ProcessResult result = processRunner.run("ffmpeg", command, splitTimeout);
+            if (!result.isSuccess()) {
+                log.warn("영상 구간 분할 실패 - ID: {}, {}", analysisId, result.stderrSummary());
+                deleteLocal(analysisId);
+                return List.of();
+            }
+
+            List<VideoSegment> segments = readSegmentList(dir, info.fps());
+            log.info("영상 구간 분할 완료 - ID: {}, 길이: {}초, 구간: {}개", analysisId,
+                    Math.round(info.duration()), segments.size());
+            // 한 구간뿐이면 나누지 않은 것과 같음
+            if (segments.size() < 2) {
+                deleteLocal(analysisId);
+                return List.of();
+            }
+            return s3Input ? upload(analysisId, segments) : segments;
+
+        } catch (IOException | RuntimeException e) {
+            log.warn("영상 구간 분할 실패 - ID: {}", analysisId, e);
+            cleanup(analysisId, s3Input);
+            return List.of();
+        }
+    }
+
+    public void cleanup(Long analysisId, List<VideoSegment> segments) {
+        cleanup(analysisId, segments.stream().anyMatch(segment -> segment.s3Path() != null));
+    }
+
+    private void cleanup(Long analysisId, boolean uploaded) {
+        deleteLocal(analysisId);
+        if (uploaded) {
+            try {
+                storageService.deleteSegments(analysisId);
+            } catch (RuntimeException e) {
+                log.warn("S3 구간 파일 삭제 실패 - ID: {}", analysisId, e);
+            }
+        }
+    }
+
+    private void deleteLocal(Long analysisId) {
+        try {
+            FileSystemUtils.deleteRecursively(segmentDir(analysisId));
+        } catch (IOException e) {
+            log.warn("구간 파일 삭제 실패 - ID: {}", analysisId, e);
+        }
+    }
+
+    // 구간을 올린 즉시 로컬 파일 삭제 (디스크에는 분할 결과만 잠시 남음)
+    private List<VideoSegment> upload(Long analysisId, List<VideoSegment> segments) throws IOException {
+        List<VideoSegment> uploaded = new ArrayList<>(segments.size());
+        for (VideoSegment segment : segments) {
+            String contentType = MediaTypeFactory.getMediaType(segment.filename())
+                    .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                    .toString();
+            String s3Path = storageService.uploadSegment(analysisId, segment.path(), contentType);
+            Files.deleteIfExists(segment.path());
+            uploaded.add(segment.withS3Path(s3Path));
+        }
+        deleteLocal(analysisId);
+        log.info("영상 구간 S3 업로드 완료 - ID: {}, 구간: {}개", analysisId, uploaded.size());
+        return uploaded;
+    }
+
+    private Path segmentDir(Long analysisId) {
+        return Paths.get(uploadPath, "segments", analysisId.toString());
+    }
+
+    // S3 입력은 presigned GET URL에서 직접 읽음 (분할은 -c copy라 전체를 한 번 순차로 읽음)
+    private String resolveInput(VideoFile videoFile) {
+        if (storageService.isS3Path(videoFile.getFilePath())) {
+            return storageService.presignGet(videoFile.getFilePath(), splitTimeout.plus(probeTimeout));
+        }
+        return Paths.get(uploadPath, videoFile.getStoredFilename()).toString();
+    }
+
+    // csv 한 줄: 파일명,start_time,end_time
+    private List<VideoSegment> readSegmentList(Path dir, double fps) throws IOException {
+        List<VideoSegment> segments = new ArrayList<>();
+        for (String line : Files.readAllLines(dir.resolve(SEGMENT_LIST), StandardCharsets.UTF_8)) {
+            String[] columns = line.split(",");
+            if (columns.length < 3) {
+                continue;
+            }
+            double start = Double.parseDouble(columns[1]);
+            double end = Double.parseDouble(columns[2]);
+            segments.add(new VideoSegment(segments.size(), dir.resolve(columns[0].trim()),
+                    start, end, (int) Math.round(start * fps), null));
+        }
+        return segments;
+    }
+
+    private MediaInfo probe(String input) {
+        List<String> command = Arrays.asList(
+                ffprobePath,
+                "-v", "error",
+                "-select_streams", "v:0",
+                "-show_entries", "format=duration:stream=avg_frame_rate,r_frame_rate",
+                "-of", "json",
+                input);
+        try {
+            JsonNode root = processRunner.runJson("ffprobe", command, probeTimeout);
+            JsonNode stream = root.path("streams").path(0);
+            double duration = root.path("format").path("duration").asDouble(0);
+            Double fps = FfprobeFrameRate.of(stream);
+            return duration > 0 && fps != null ? new MediaInfo(duration, fps) : null;
+        } catch (ExternalProcessException e) {
+            log.warn("영상 길이 조회 실패 - 단일 요청으로 분석", e);
+            return null;
+        }
+    }
+
+    private record MediaInfo(double duration, double fps) {
+    }
+
+    /**
+     * @param frameOffset 원본 기준 첫 프레임 번호 (구간 응답의 frame_number에 더함)
+     * @param s3Path      S3에 올린 구간이면 s3 경로 (AI 서버에 참조로 전달), 로컬 구간이면 null
+     */
+    public record VideoSegment(int index, Path path, double startSeconds, double endSeconds, int frameOffset,
+                               String s3Path) {
+
+        public String filename() {
+            return path.getFileName().toString();
+        }
+
+        VideoSegment withS3Path(String s3Path) {
+            return new VideoSegment(index, path, startSeconds, endSeconds, frameOffset, s3Path);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package fakehunters.backend.video.service;
+
+import fakehunters.backend.global.exception.custom.CustomBusinessException;
+import fakehunters.backend.global.exception.custom.CustomSystemException;
+import fakehunters.backend.global.s3.path.S3PathGenerator;
+import fakehunters.backend.video.exception.VideoErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 영상 S3 저장소 (업로드는 브라우저 → S3 presigned PUT, 서버는 메타데이터 / presigned URL만 다룸)
+ * - DB에는 오디오와 같은 s3://bucket/key 형식으로 저장
+ * - 재생: presigned GET URL로 리다이렉트 (영상 바이트가 JVM을 거치지 않음)
+ * - AI 서버 / ffprobe / ffmpeg 입력: S3 key 또는 presigned GET URL
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VideoStorageService {
+
+    public static final String INPUT_PREFIX = "video/inputs/";
+    public static final String SEGMENT_PREFIX = "video/segments/";
+
+    private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
+    private final S3PathGenerator pathGenerator;
+
+    @Value("${aws.s3.bucket}")
+    private String bucketName;
+
+    public boolean isS3Path(String path) {
+        return path != null && path.startsWith("s3://");
+    }
+
+    public String toS3Path(String key) {
+        return "s3://" + bucketName + "/" + key;
+    }
+
+    /**
+     * s3://bucket/key → key 추출
+     */
+    public String extractKey(String s3Path) {
+        if (!isS3Path(s3Path)) {
+            throw new IllegalArgumentException("Invalid S3 path: " + s3Path);
+        }
+        return s3Path.replace("s3://" + bucketName + "/", "");
+    }
+
+    /**
+     * 업로드 완료 확인 (HEAD, 본문은 받지 않음)
+     */
+    public HeadObjectResponse head(String key) {
+        try {
+            return s3Client.headObject(builder -> builder.bucket(bucketName).key(key));
+        } catch (NoSuchKeyException e) {
+            throw new CustomBusinessException(VideoErrorCode.FILE_REQUIRED);
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                throw new CustomBusinessException(VideoErrorCode.FILE_REQUIRED);
+            }
+            log.error("S3 영상 조회 실패 - key: {}", key, e);
+            throw new CustomSystemException(VideoErrorCode.UPLOAD_ERROR);
+        }
+    }
+
+    public String presignGet(String s3Path, Duration ttl) {
+        String key = extractKey(s3Path);
+        return s3Presigner.presignGetObject(builder -> builder
+                        .signatureDuration(ttl)
+                        .getObjectRequest(request -> request.bucket(bucketName).key(key)))
+                .url()
+                .toString();
+    }
+
+    /**
+     * 웹 재생용 변환 결과 업로드 → s3 경로 반환
+     */
+    public String uploadProcessed(Path file) {
+        String key = pathGenerator.generate("video", "processed", "mp4");
+        s3Client.putObject(builder -> builder.bucket(bucketName).key(key).contentType("video/mp4"),
+                RequestBody.fromFile(file));
+        return toS3Path(key);
+    }
+
+    /**
+     * 구간 분할 분석용 구간 파일 업로드 (video/segments/{analysisId}/파일명) → s3 경로 반환
+     */
+    public String uploadSegment(Long analysisId, Path file, String contentType) {
+        String key = SEGMENT_PREFIX + analysisId + "/" + file.getFileName();
+        s3Client.putObject(builder -> builder.bucket(bucketName).key(key).contentType(contentType),
+                RequestBody.fromFile(file));
+        return toS3Path(key);
+    }
+
+    /**
+     * 분석이 끝난 구간 파일 삭제 (DeleteObjects 1회 최대 1000개)
+     */
+    public void deleteSegments(Long analysisId) {
+        String prefix = SEGMENT_PREFIX + analysisId + "/";
+        for (ListObjectsV2Response page : s3Client.listObjectsV2Paginator(
+                builder -> builder.bucket(bucketName).prefix(prefix))) {
+            List<ObjectIdentifier> keys = page.contents().stream()
+                    .map(object -> ObjectIdentifier.builder().key(object.key()).build())
+                    .toList();
+            if (!keys.isEmpty()) {
+                s3Client.deleteObjects(builder -> builder.bucket(bucketName)
+                        .delete(delete -> delete.objects(keys).quiet(true)));
+            }
+        }
+    }
+}
@@ -0,0 +1,437 @@
+package fakehunters.backend.video.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import fakehunters.backend.global.process.ExternalProcessException;
+import fakehunters.backend.global.process.ExternalProcessRunner;
+import fakehunters.backend.global.process.ProcessResult;
+import fakehunters.backend.video.mapper.VideoAnalysisMapper;
+import fakehunters.backend.video.mapper.VideoFileMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 웹 재생용 FFmpeg 변환 단계
+ * - 업로드 요청 스레드와 분리된 고정 크기 프로세스 풀 + 대기 큐
+ * - AI 분석 큐와 독립적으로 진행 (transcode_status: PENDING/PROCESSING/COMPLETED/FAILED/SKIPPED)
+ * - S3 입력은 presigned GET URL을 ffprobe / ffmpeg 입력으로 사용하고 변환 결과만 S3에 업로드
+ * - ffprobe로 코덱 / 컨테이너를 확인해 이미 웹 재생 가능한 H.264/AAC MP4 이면 재인코딩 없이 remux (-c copy)
+ *   (S3 입력도 remux해서 faststart가 없는 원본도 전체 다운로드 없이 재생 시작)
+ * - ffmpeg 출력의 Duration / time= 값으로 실제 변환 진행률을 계산해 Redis에 기록
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VideoTranscodingService {
+
+    private static final Pattern DURATION_PATTERN = Pattern.compile("Duration:\\s*(\\d+):(\\d+):(\\d+(?:\\.\\d+)?)");
+    private static final Set<String> WEB_H264_PROFILES =
+            Set.of("Baseline", "Constrained Baseline", "Main", "High");
+
+    private static final Pattern TIME_PATTERN = Pattern.compile("time=\\s*(\\d+):(\\d+):(\\d+(?:\\.\\d+)?)");
+
+    // 진행률 Redis 기록 간격 (퍼센트 단위)
+    private static final int PROGRESS_STEP = 5;
+
+    private final VideoAnalysisMapper videoAnalysisMapper;
+    private final VideoFileMapper videoFileMapper;
+    private final VideoProgressService progressService;
+    private final ExternalProcessRunner processRunner;
+    private final VideoStorageService storageService;
+
+    @Value("${file.upload.path:/uploads/videos}")
+    private String uploadPath;
+
+    @Value("${ffmpeg.path:ffmpeg}")
+    private String ffmpegPath;
+
+    @Value("${ffmpeg.ffprobe-path:ffprobe}")
+    private String ffprobePath;
+
+    @Value("${video.transcode.timeout:PT30M}")
+    private Duration transcodeTimeout;
+
+    @Value("${video.transcode.probe-timeout:PT30S}")
+    private Duration probeTimeout;
+
+    // 변환 제한 시간 이후 S3 업로드 / DB 갱신까지의 여유
+    @Value("${video.transcode.stale-grace:PT10M}")
+    private Duration staleGrace;
+
+    @Value("${video.transcode.parallelism:2}")
+    private int parallelism;
+
+    @Value("${video.transcode.queue-capacity:50}")
+    private int queueCapacity;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void init() {
+        AtomicInteger sequence = new AtomicInteger();
+        executor = new ThreadPoolExecutor(
+                parallelism, parallelism,
+                0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "video-transcode-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 기동 시 끝나지 못한 변환 정리
+     * - PROCESSING: 시작 후 (ffprobe + ffmpeg 제한 시간 + 여유)가 지난 변환
+     * - PENDING: 대기 큐가 가득 찬 상태에서도 차례가 왔을 시간이 지난 변환 (대기 큐는 노드 메모리에만 있음)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void failStaleTranscodes() {
+        long processingStale = probeTimeout.plus(transcodeTimeout).plus(staleGrace).toSeconds();
+        long pendingStale = processingStale * (queueCapacity / parallelism + 2);
+
+        int failed = videoAnalysisMapper.failStaleTranscodes(processingStale, pendingStale);
+        if (failed > 0) {
+            log.info("중단된 웹 변환 FAILED 처리: {}건 (변환 중 기준 {}초, 대기 기준 {}초)", failed, processingStale, pendingStale);
+        }
+    }
+
+    /**
+     * 변환 작업 등록 (즉시 반환)
+     * 큐가 가득 차면 변환을 건너뛰고 원본을 재생 경로로 유지 (AI 분석에는 영향 없음)
+     */
+    public void submit(Long analysisId, String originalPath) {
+        progressService.updateTranscoding(analysisId, 0, "queued", "웹 재생용 변환 대기 중입니다.");
+        try {
+            executor.execute(() -> transcode(analysisId, originalPath));
+            log.info("FFmpeg 변환 대기열 등록 - ID: {}, 대기: {}", analysisId, executor.getQueue().size());
+        } catch (RejectedExecutionException e) {
+            log.warn("FFmpeg 변환 대기열 초과 - ID: {}, 원본 파일로 재생", analysisId);
+            videoAnalysisMapper.updateTranscodeStatus(analysisId, "SKIPPED");
+            progressService.updateTranscoding(analysisId, 0, "skipped", "원본 파일로 재생합니다.");
+        }
+    }
+
+    private void transcode(Long analysisId, String originalPath) {
+        log.info("FFmpeg 변환 시작 - ID: {}", analysisId);
+        videoAnalysisMapper.markTranscodeStarted(analysisId);
+        progressService.updateTranscoding(analysisId, 0, "transcoding", "웹 재생용 변환을 시작합니다.");
+
+        try {
+            // S3 입력은 ffprobe / ffmpeg가 presigned GET URL에서 필요한 범위만 직접 읽음
+            boolean s3Input = storageService.isS3Path(originalPath);
+            String input = s3Input
+                    ? storageService.presignGet(originalPath, transcodeTimeout.plus(probeTimeout))
+                    : originalPath;
+
+            VideoProbe probe = probe(input);
+            if (probe != null) {
+                videoFileMapper.updateMediaInfo(analysisId, probe.resolution(), probe.fps(), probe.duration());
+            }
+
+            VideoConversionResult result = null;
+            if (probe != null && probe.isWebCompatible()) {
+                log.info("웹 호환 코덱 - 재인코딩 없이 remux - ID: {}, {}", analysisId, probe);
+                result = remux(input, analysisId, probe.duration());
+            }
+            if (result == null) {
+                result = convertToWebFormat(input, analysisId, probe != null ? probe.duration() : null);
+            }
+            if (result == null) {
+                markFailed(analysisId);
+                return;
+            }
+
+            String webFilePath = uploadPath + "/" + result.getFilename();
+            if (s3Input) {
+                Path localWebFile = Paths.get(webFilePath);
+                try {
+                    webFilePath = storageService.uploadProcessed(localWebFile);
+                } finally {
+                    deleteQuietly(localWebFile.toString());
+                }
+            }
+
+            // AI 분석 완료 여부와 무관하게 변환이 끝나는 즉시 재생 경로 교체
+            videoFileMapper.updateWebFilePath(analysisId, webFilePath);
+            videoFileMapper.updateDurationSeconds(analysisId, result.getDuration());
+            videoAnalysisMapper.updateTranscodeStatus(analysisId, "COMPLETED");
+            progressService.updateTranscoding(analysisId, 100, "completed", "웹 재생용 변환이 완료되었습니다.");
+
+            log.info("FFmpeg 변환 완료 - ID: {}, webFilename: {}, duration: {}초",
+                    analysisId, result.getFilename(), result.getDuration());
+        } catch (Exception e) {
+            log.error("FFmpeg 변환 단계 실패 - ID: {}", analysisId, e);
+            markFailed(analysisId);
+        }
+    }
+
+    /**
+     * 변환 실패 → 원본 파일을 재생 경로로 유지
+     */
+    private void markFailed(Long analysisId) {
+        videoAnalysisMapper.updateTranscodeStatus(analysisId, "FAILED");
+        progressService.updateTranscoding(analysisId, 0, "failed", "웹 재생용 변환에 실패했습니다. 원본 파일로 재생합니다.");
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class VideoConversionResult {
+        private String filename;
+        private Double duration;
+    }
+
+    /**
+     * 이미 H.264/AAC 이면 스트림 복사로 MP4 컨테이너만 다시 씀 (moov를 앞으로 → 즉시 재생)
+     * 실패하면 null → 전체 변환으로 진행
+     */
+    private VideoConversionResult remux(String input, Long analysisId, Double knownDuration) {
+        String webFilename = analysisId + "_web_" + System.currentTimeMillis() + ".mp4";
+        String webPath = Paths.get(uploadPath).resolve(webFilename).toString();
+
+        List<String> command = Arrays.asList(
+                ffmpegPath,
+                "-i", input,
+                "-map", "0:v:0",
+                "-map", "0:a:0?",
+                "-c", "copy",
+                "-movflags", "+faststart",
+                "-y",
+                webPath
+        );
+
+        VideoConversionResult result = runFfmpeg(command, analysisId, webFilename, knownDuration);
+        if (result == null) {
+            log.warn("remux 실패 - 전체 변환으로 진행 - ID: {}", analysisId);
+        }
+        return result;
+    }
+
+    private VideoConversionResult convertToWebFormat(String originalPath, Long analysisId, Double knownDuration) {
+        String webFilename = analysisId + "_web_" + System.currentTimeMillis() + ".mp4";
+        String webPath = Paths.get(uploadPath).resolve(webFilename).toString();
+
+        List<String> command = new ArrayList<>(Arrays.asList(
+                ffmpegPath,
+                "-i", originalPath,
+                "-c:v", "libx264",
+                "-preset", "medium",
+                "-profile:v", "baseline",
+                "-level", "3.0",
+                "-pix_fmt", "yuv420p",
+                "-c:a", "aac",
+                "-b:a", "128k",
+                "-movflags", "+faststart",
+                "-y",
+                webPath
+        ));
+
+        return runFfmpeg(command, analysisId, webFilename, knownDuration);
+    }
+
+    private VideoConversionResult runFfmpeg(List<String> command, Long analysisId, String webFilename,
+                                            Double knownDuration) {
+        String webPath = Paths.get(uploadPath).resolve(webFilename).toString();
+        // presigned URL 서명은 로그에 남기지 않음
+        log.info("FFmpeg 변환 명령: {}", String.join(" ", command).replaceAll("\\?\\S*", "?..."));
+
+        FfmpegProgress progress = new FfmpegProgress(analysisId, knownDuration);
+        ProcessResult result;
+        try {
+            result = processRunner.run("ffmpeg", command, transcodeTimeout, progress);
+        } catch (ExternalProcessException e) {
+            log.error("FFmpeg 실행 실패 - ID: {}, 사유: {}", analysisId, e.getReason(), e);
+            deleteQuietly(webPath);
+            return null;
+        }
+
+        if (!result.isSuccess()) {
+            log.error("FFmpeg 변환 실패 (exit code: {}) - {}", result.exitCode(), result.stderrSummary());
+            deleteQuietly(webPath);
+            return null;
+        }
+
+        File webFile = new File(webPath);
+        if (!webFile.exists() || webFile.length() == 0) {
+            log.error("변환 파일 생성 실패");
+            deleteQuietly(webPath);
+            return null;
+        }
+
+        log.info("FFmpeg 변환 성공: {}, 크기: {} bytes, 길이: {}초, 소요: {}ms",
+                webFilename, webFile.length(), progress.duration, result.elapsed().toMillis());
+
+        return new VideoConversionResult(webFilename, progress.duration);
+    }
+
+    /**
+     * ffmpeg stderr의 Duration / time= 값으로 진행률 계산 (stderr 펌프 스레드 하나에서만 호출)
+     */
+    private class FfmpegProgress implements Consumer<String> {
+        private final Long analysisId;
+        private Double duration;
+        private int lastReported;
+
+        FfmpegProgress(Long analysisId, Double knownDuration) {
+            this.analysisId = analysisId;
+            this.duration = knownDuration;
+        }
+
+        @Override
+        public void accept(String line) {
+            if (duration == null) {
+                duration = parseSeconds(DURATION_PATTERN.matcher(line));
+                if (duration != null) {
+                    log.info("[FFmpeg] {}", line);
+                }
+            }
+
+            Double current = parseSeconds(TIME_PATTERN.matcher(line));
+            if (current != null && duration != null && duration > 0) {
+                int percent = (int) Math.min(99, current * 100 / duration);
+                if (percent >= lastReported + PROGRESS_STEP) {
+                    lastReported = percent;
+                    log.debug("[FFmpeg] ID: {}, {}%", analysisId, percent);
+                    progressService.updateTranscoding(analysisId, percent, "transcoding",
+                            "웹 재생용 변환 중입니다. (" + percent + "%)");
+                }
+            }
+        }
+    }
+
+    private void deleteQuietly(String path) {
+        try {
+            Files.deleteIfExists(Paths.get(path));
+        } catch (IOException e) {
+            log.warn("임시 변환 파일 삭제 실패: {}", path, e);
+        }
+    }
+
+    private Double parseSeconds(Matcher matcher) {
+        if (!matcher.find()) {
+            return null;
+        }
+        int hours = Integer.parseInt(matcher.group(1));
+        int minutes = Integer.parseInt(matcher.group(2));
+        double seconds = Double.parseDouble(matcher.group(3));
+        return hours * 3600 + minutes * 60 + seconds;
+    }
+
+    /**
+     * ffprobe 한 번으로 컨테이너 / 첫 비디오·오디오 스트림 정보 조회 (JSON)
+     * 실패하면 null → 전체 변환
+     */
+    private VideoProbe probe(String filePath) {
+        List<String> command = Arrays.asList(
+                ffprobePath,
+                "-v", "error",
+                "-show_entries",
+                "format=format_name,duration"
+                        + ":format_tags=major_brand"
+                        + ":stream=codec_type,codec_name,profile,pix_fmt,width,height,avg_frame_rate,r_frame_rate",
+                "-of", "json",
+                filePath
+        );
+
+        try {
+            JsonNode root = processRunner.runJson("ffprobe", command, probeTimeout);
+
+            JsonNode video = null;
+            JsonNode audio = null;
+            for (JsonNode stream : root.path("streams")) {
+                String type = stream.path("codec_type").asText();
+                if (video == null && "video".equals(type)) {
+                    video = stream;
+                } else if (audio == null && "audio".equals(type)) {
+                    audio = stream;
+                }
+            }
+            if (video == null) {
+                log.warn("비디오 스트림 없음: {}", filePath);
+                return null;
+            }
+
+            JsonNode format = root.path("format");
+            Double fps = FfprobeFrameRate.of(video);
+
+            return new VideoProbe(
+                    format.path("format_name").asText(null),
+                    format.path("tags").path("major_brand").asText(null),
+                    format.hasNonNull("duration") ? format.path("duration").asDouble() : null,
+                    video.path("codec_name").asText(null),
+                    video.path("profile").asText(null),
+                    video.path("pix_fmt").asText(null),
+                    video.path("width").asInt(0),
+                    video.path("height").asInt(0),
+                    fps,
+                    audio != null ? audio.path("codec_name").asText(null) : null);
+
+        } catch (Exception e) {
+            log.warn("비디오 정보 조회 실패: {}", filePath, e);
+            return null;
+        }
+    }
+
+    private record VideoProbe(String formatName, String majorBrand, Double duration,
+                              String videoCodec, String profile, String pixelFormat,
+                              int width, int height, Double frameRate,
+                              String audioCodec) {
+
+        // 브라우저 MSE / <video>에서 바로 재생 가능한 조합: MP4 + H.264 8bit 4:2:0 + AAC(또는 무음)
+        boolean isWebCompatible() {
+            return "h264".equals(videoCodec)
+                    && profile != null && WEB_H264_PROFILES.contains(profile)
+                    && "yuv420p".equals(pixelFormat)
+                    && (audioCodec == null || "aac".equals(audioCodec))
+                    && isMp4();
+        }
+
+        // ffprobe format_name은 .mov도 "mov,mp4,m4a,3gp,3g2,mj2"로 보고하므로 major_brand로 구분 (QuickTime = "qt  ")
+        private boolean isMp4() {
+            return formatName != null && formatName.contains("mp4")
+                    && majorBrand != null && !majorBrand.isBlank() && !"qt".equals(majorBrand.trim());
+        }
+
+        String resolution() {
+            return width > 0 && height > 0 ? width + "x" + height : null;
+        }
+
+        BigDecimal fps() {
+            return frameRate != null ? BigDecimal.valueOf(frameRate).setScale(2, RoundingMode.HALF_UP) : null;
+        }
+    }
+}
@@ -49,4 +49,50 @@ CREATE TABLE IF NOT EXISTS frame_analyses (
     anomaly_type VARCHAR(100),
     features TEXT,
     FOREIGN KEY (result_id) REFERENCES analysis_results(result_id)
-);
\ No newline at end of file
+);
+
+-- 영상 분석 작업 큐 (claim / lease)
+ALTER TABLE video_analysis_job ADD COLUMN IF NOT EXISTS claimed_by VARCHAR(100);
+ALTER TABLE video_analysis_job ADD COLUMN IF NOT EXISTS lease_until TIMESTAMPTZ;
+ALTER TABLE video_analysis_job ADD COLUMN IF NOT EXISTS attempt_count INTEGER NOT NULL DEFAULT 0;
+CREATE INDEX IF NOT EXISTS idx_video_analysis_job_queue
+    ON video_analysis_job (status, created_at);
+
+-- 영상 분석 단계별 상태 (AI 분석 = status, 웹 변환 = transcode_status)
+ALTER TABLE video_analysis_job ADD COLUMN IF NOT EXISTS transcode_status VARCHAR(20);
+-- 변환 시작 시각 (기동 시 중단된 변환 판정 기준)
+ALTER TABLE video_analysis_job ADD COLUMN IF NOT EXISTS transcode_started_at TIMESTAMPTZ;
+
+-- 프레임 keyset 페이지 (result_id, frame_number) / 의심 프레임 전용 부분 인덱스
+CREATE INDEX IF NOT EXISTS idx_video_analysis_frame_result_frame
+    ON video_analysis_frame (result_id, frame_number);
+CREATE INDEX IF NOT EXISTS idx_video_analysis_frame_suspicious
+    ON video_analysis_frame (result_id, frame_number) WHERE is_deepfake;
+
+-- 신뢰도 타임라인 (프레임 저장 시 집계, 분석당 1행)
+CREATE TABLE IF NOT EXISTS video_analysis_timeline (
+    analysis_id BIGINT PRIMARY KEY,
+    result_id BIGINT NOT NULL,
+    frame_count INTEGER NOT NULL,
+    bucket_frames INTEGER NOT NULL,
+    consistency_window INTEGER NOT NULL,
+    per_second JSONB NOT NULL,
+    per_frames JSONB NOT NULL,
+    downsampled JSONB NOT NULL,
+    created_at TIMESTAMPTZ DEFAULT NOW()
+);
+
+
+-- 업로드 중복 제거 (같은 내용의 영상은 이전 분석 결과 / 웹 파일 재사용)
+ALTER TABLE video_analysis_job ADD COLUMN IF NOT EXISTS content_hash VARCHAR(64);
+ALTER TABLE video_analysis_job ADD COLUMN IF NOT EXISTS source_analysis_id BIGINT;
+CREATE INDEX IF NOT EXISTS idx_video_analysis_job_content_hash
+    ON video_analysis_job (content_hash) WHERE source_analysis_id IS NULL;
+
+-- 오디오 목록 keyset 페이지 (created_at, id) / 상태 필터 / 분석 결과 존재 여부
+CREATE INDEX IF NOT EXISTS idx_audio_files_created_id
+    ON audio_files (created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_audio_files_status_created_id
+    ON audio_files (status, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_audio_analysis_results_audio_file
+    ON audio_analysis_results (audio_file_id);
@@ -0,0 +1,121 @@
+package fakehunters.backend.audio.calibration;
+
+import fakehunters.backend.audio.dto.response.FastApiAudioResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시간 구간 수별 응답 보정 비용 비교
+ * - legacy: 결과 / 모델 / 지표마다 구간을 다시 세고 BigDecimal(String.valueOf(double))로 계산하던 기존 방식
+ * - singlePass: AudioResponseStats 1회 순회 + double 보정, 저장할 값만 BigDecimal 변환
+ * 실행: ./gradlew jmh -Pjmh.includes=AudioCalibrationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AudioCalibrationBenchmark {
+
+    @Param({"1000", "10000"})
+    private int segmentCount;
+
+    private FastApiAudioResponse response;
+    private HighRiskRatioCalibration strategy;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<FastApiAudioResponse.TimeSegment> segments = new ArrayList<>(segmentCount);
+        for (int i = 0; i < segmentCount; i++) {
+            segments.add(new FastApiAudioResponse.TimeSegment(
+                    BigDecimal.valueOf(i), BigDecimal.valueOf(i + 1),
+                    random.nextInt(5) == 0 ? "high" : "low", "spectral artifact"));
+        }
+
+        Map<String, Map<String, BigDecimal>> modelOutputs = new LinkedHashMap<>();
+        modelOutputs.put("mel", Map.of("real", new BigDecimal("0.12"), "fake", new BigDecimal("0.88")));
+        modelOutputs.put("lfcc", Map.of("real", new BigDecimal("0.31"), "fake", new BigDecimal("0.69")));
+
+        response = FastApiAudioResponse.builder()
+                .confidence(new BigDecimal("0.88"))
+                .probabilities(Map.of("real", new BigDecimal("0.2"), "fake", new BigDecimal("0.8")))
+                .modelOutputs(modelOutputs)
+                .suspiciousPatterns(List.of("pitch discontinuity", "phase mismatch"))
+                .timeSegments(segments)
+                .build();
+        strategy = new HighRiskRatioCalibration();
+    }
+
+    @Benchmark
+    public void singlePass(Blackhole bh) {
+        AudioResponseStats stats = AudioResponseStats.of(response);
+        CalibratedScores scores = new CalibratedScores(stats);
+        strategy.calibrate(stats, scores);
+
+        bh.consume(BigDecimal.valueOf(scores.fakeProbability()));
+        bh.consume(BigDecimal.valueOf(scores.realProbability()));
+        bh.consume(BigDecimal.valueOf(scores.confidence()));
+        for (int i = 0; i < stats.modelCount(); i++) {
+            bh.consume(BigDecimal.valueOf(scores.modelFake(i)));
+            bh.consume(BigDecimal.valueOf(scores.modelReal(i)));
+            bh.consume(BigDecimal.valueOf(scores.modelConfidence(i)));
+        }
+        bh.consume(BigDecimal.valueOf(scores.indicatorConfidence()));
+    }
+
+    @Benchmark
+    public void legacy(Blackhole bh) {
+        // 결과
+        BigDecimal fake = legacyAdjusted(legacyRatio());
+        BigDecimal real = BigDecimal.ONE.subtract(fake);
+        bh.consume(fake.compareTo(new BigDecimal("0.5")) > 0 ? fake : real);
+
+        // 모델
+        double factor = legacyAdjusted(legacyRatio()).doubleValue();
+        response.getModelOutputs().forEach((name, probs) -> {
+            BigDecimal modelFake = probs.get("fake").multiply(new BigDecimal(String.valueOf(factor)));
+            BigDecimal modelReal = BigDecimal.ONE.subtract(modelFake);
+            bh.consume(modelFake.max(modelReal));
+        });
+
+        // 지표
+        BigDecimal indicatorConfidence = legacyAdjusted(legacyRatio());
+        response.getSuspiciousPatterns().forEach(pattern -> bh.consume(indicatorConfidence));
+    }
+
+    private double legacyRatio() {
+        List<FastApiAudioResponse.TimeSegment> segments = response.getTimeSegments();
+        long high = segments.stream().filter(s -> "high".equals(s.getRisk())).count();
+        return (double) high / segments.size();
+    }
+
+    private static BigDecimal legacyAdjusted(double ratio) {
+        if (ratio >= 0.3) {
+            return new BigDecimal("0.85").add(new BigDecimal(String.valueOf(ratio * 0.15)));
+        }
+        if (ratio >= 0.15) {
+            return new BigDecimal("0.70").add(new BigDecimal(String.valueOf(ratio * 0.3)));
+        }
+        return new BigDecimal("0.55").add(new BigDecimal(String.valueOf(ratio * 0.45)));
+    }
+}
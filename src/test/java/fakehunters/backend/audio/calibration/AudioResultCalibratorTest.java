@@ -0,0 +1,117 @@
+package fakehunters.backend.audio.calibration;
+
+import fakehunters.backend.audio.dto.response.FastApiAudioResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class AudioResultCalibratorTest {
+
+    @Test
+    @DisplayName("high-risk-ratio: 구간 비율 구간별 보정값과 모델별 fake × 보정값")
+    void highRiskRatio() {
+        AudioResultCalibrator calibrator = calibrator("high-risk-ratio");
+
+        // 3/10 → 0.85 + 0.3×0.15
+        CalibratedScores scores = calibrator.calibrate(response(10, 3));
+        assertThat(scores.stats().highRiskCount()).isEqualTo(3);
+        assertThat(scores.fakeProbability()).isCloseTo(0.895, within(1e-12));
+        assertThat(scores.realProbability()).isCloseTo(0.105, within(1e-12));
+        assertThat(scores.isFake()).isTrue();
+        assertThat(scores.confidence()).isCloseTo(0.895, within(1e-12));
+        assertThat(scores.indicatorConfidence()).isCloseTo(0.895, within(1e-12));
+        assertThat(scores.stats().modelName(0)).isEqualTo("mel");
+        assertThat(scores.modelFake(0)).isCloseTo(0.8 * 0.895, within(1e-12));
+        assertThat(scores.modelReal(0)).isCloseTo(1 - 0.8 * 0.895, within(1e-12));
+        assertThat(scores.isModelFake(0)).isTrue();
+
+        // 2/10 → 0.70 + 0.2×0.3, 1/10 → 0.55 + 0.1×0.45
+        assertThat(calibrator.calibrate(response(10, 2)).fakeProbability()).isCloseTo(0.76, within(1e-12));
+        assertThat(calibrator.calibrate(response(10, 1)).fakeProbability()).isCloseTo(0.595, within(1e-12));
+    }
+
+    @Test
+    @DisplayName("high-risk-ratio: 시간 구간이 없으면 응답 확률 그대로")
+    void highRiskRatioWithoutSegments() {
+        CalibratedScores scores = calibrator("high-risk-ratio").calibrate(response(0, 0));
+
+        assertThat(scores.fakeProbability()).isEqualTo(0.4);
+        assertThat(scores.realProbability()).isEqualTo(0.6);
+        assertThat(scores.isFake()).isFalse();
+        assertThat(scores.prediction()).isEqualTo("real");
+        assertThat(scores.confidence()).isEqualTo(0.6);
+        assertThat(scores.indicatorConfidence()).isEqualTo(0.6);
+        assertThat(scores.modelFake(0)).isEqualTo(0.8);
+    }
+
+    @Test
+    @DisplayName("none: 전체 / 모델별 확률을 보정 없이 사용")
+    void passThrough() {
+        CalibratedScores scores = calibrator("none").calibrate(response(10, 5));
+
+        assertThat(scores.fakeProbability()).isEqualTo(0.4);
+        assertThat(scores.modelFake(0)).isEqualTo(0.8);
+        assertThat(scores.modelReal(0)).isEqualTo(0.3);
+        assertThat(scores.modelConfidence(0)).isEqualTo(0.8);
+    }
+
+    @Test
+    @DisplayName("none: 전체 prediction / confidence는 확률과 달라도 응답 값 그대로")
+    void passThroughKeepsResponseVerdict() {
+        FastApiAudioResponse response = response(10, 5);
+        response.setPrediction("fake");
+        response.setConfidence(new BigDecimal("0.75"));
+
+        CalibratedScores scores = calibrator("none").calibrate(response);
+
+        assertThat(scores.isPassThrough()).isTrue();
+        assertThat(scores.prediction()).isEqualTo("fake");
+        assertThat(scores.confidence()).isEqualTo(0.75);
+        assertThat(scores.isFake()).isFalse();
+
+        response.setConfidence(null);
+        assertThat(calibrator("none").calibrate(response).confidence()).isNaN();
+    }
+
+    @Test
+    @DisplayName("알 수 없는 전략 이름은 기동 시 실패")
+    void unknownStrategy() {
+        assertThatThrownBy(() -> calibrator("unknown")).isInstanceOf(IllegalStateException.class);
+    }
+
+    private AudioResultCalibrator calibrator(String strategy) {
+        AudioResultCalibrator calibrator = new AudioResultCalibrator(
+                List.of(new HighRiskRatioCalibration(), new PassThroughCalibration()));
+        ReflectionTestUtils.setField(calibrator, "strategyName", strategy);
+        calibrator.init();
+        return calibrator;
+    }
+
+    private FastApiAudioResponse response(int segmentCount, int highRiskCount) {
+        List<FastApiAudioResponse.TimeSegment> segments = new ArrayList<>();
+        for (int i = 0; i < segmentCount; i++) {
+            segments.add(new FastApiAudioResponse.TimeSegment(
+                    BigDecimal.valueOf(i), BigDecimal.valueOf(i + 1), i < highRiskCount ? "high" : "low", "reason"));
+        }
+
+        Map<String, Map<String, BigDecimal>> modelOutputs = new LinkedHashMap<>();
+        modelOutputs.put("mel", Map.of("real", new BigDecimal("0.3"), "fake", new BigDecimal("0.8")));
+
+        return FastApiAudioResponse.builder()
+                .confidence(new BigDecimal("0.6"))
+                .probabilities(Map.of("real", new BigDecimal("0.6"), "fake", new BigDecimal("0.4")))
+                .modelOutputs(modelOutputs)
+                .timeSegments(segments)
+                .build();
+    }
+}
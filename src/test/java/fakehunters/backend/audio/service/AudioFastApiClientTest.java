@@ -0,0 +1,118 @@
+package fakehunters.backend.audio.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.content;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.jsonPath;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class AudioFastApiClientTest {
+
+    private static final String API_URL = "http://ai.test";
+    private static final String S3_PATH = "s3://bucket/audio/2026/sample.wav";
+    private static final String RESPONSE = "{\"prediction\": \"fake\", \"confidence\": 0.9}";
+    private static final byte[] AUDIO = "RIFF....WAVEfmt ".getBytes(StandardCharsets.US_ASCII);
+
+    private MockRestServiceServer server;
+    private S3Client s3Client;
+    private AudioStorageService storageService;
+    private AudioFastApiClient client;
+
+    @BeforeEach
+    void setUp() {
+        RestTemplate restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        s3Client = mock(S3Client.class);
+        storageService = mock(AudioStorageService.class);
+
+        client = new AudioFastApiClient(restTemplate, s3Client, storageService);
+        ReflectionTestUtils.setField(client, "fastApiUrl", API_URL);
+        ReflectionTestUtils.setField(client, "bucketName", "bucket");
+        ReflectionTestUtils.setField(client, "referencePath", "/api/v1/audio/analyze-by-reference");
+        ReflectionTestUtils.setField(client, "presignedUrlTtl", Duration.ofMinutes(10));
+        ReflectionTestUtils.setField(client, "referenceRetryInterval", Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("presigned-url 모드는 URL만 전달하고 S3 객체를 읽지 않음")
+    void presignedUrl() {
+        ReflectionTestUtils.setField(client, "dispatchMode", AudioFastApiClient.DISPATCH_PRESIGNED_URL);
+        when(storageService.generatePresignedGetUrl(eq(S3_PATH), any())).thenReturn("https://s3.test/signed");
+
+        server.expect(requestTo(API_URL + "/api/v1/audio/analyze-by-reference"))
+                .andExpect(method(HttpMethod.POST))
+                .andExpect(jsonPath("$.audio_url").value("https://s3.test/signed"))
+                .andExpect(jsonPath("$.file_name").value("sample.wav"))
+                .andRespond(withSuccess(RESPONSE, MediaType.APPLICATION_JSON));
+
+        assertThat(client.analyzeAudio(S3_PATH).getPrediction()).isEqualTo("fake");
+        server.verify();
+        verify(s3Client, never()).getObject(any(GetObjectRequest.class));
+    }
+
+    @Test
+    @DisplayName("s3-key 모드는 버킷과 키만 전달")
+    void s3Key() {
+        ReflectionTestUtils.setField(client, "dispatchMode", AudioFastApiClient.DISPATCH_S3_KEY);
+
+        server.expect(requestTo(API_URL + "/api/v1/audio/analyze-by-reference"))
+                .andExpect(jsonPath("$.bucket").value("bucket"))
+                .andExpect(jsonPath("$.s3_key").value("audio/2026/sample.wav"))
+                .andRespond(withSuccess(RESPONSE, MediaType.APPLICATION_JSON));
+
+        client.analyzeAudio(S3_PATH);
+        server.verify();
+    }
+
+    @Test
+    @DisplayName("참조 전달 미지원이면 multipart로 재요청하고 이후 요청은 바로 multipart")
+    void fallbackToMultipart() {
+        ReflectionTestUtils.setField(client, "dispatchMode", AudioFastApiClient.DISPATCH_S3_KEY);
+        when(s3Client.getObject(any(GetObjectRequest.class))).thenAnswer(invocation -> s3Object());
+
+        server.expect(requestTo(API_URL + "/api/v1/audio/analyze-by-reference"))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND));
+        server.expect(ExpectedCount.times(2), requestTo(API_URL + "/api/v1/audio/analyze"))
+                .andExpect(content().string(containsString("filename=\"sample.wav\"")))
+                .andRespond(withSuccess(RESPONSE, MediaType.APPLICATION_JSON));
+
+        client.analyzeAudio(S3_PATH);
+        client.analyzeAudio(S3_PATH);
+        server.verify();
+    }
+
+    private ResponseInputStream<GetObjectResponse> s3Object() {
+        return new ResponseInputStream<>(
+                GetObjectResponse.builder().contentLength((long) AUDIO.length).build(),
+                AbortableInputStream.create(new ByteArrayInputStream(AUDIO)));
+    }
+}
@@ -0,0 +1,268 @@
+package fakehunters.backend.audio.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class AudioHeaderParserTest {
+
+    private static final int HEAD_BYTES = 64 * 1024;
+
+    @Test
+    @DisplayName("WAV: LIST 청크(홀수 크기) 뒤의 data 청크 크기 / byteRate")
+    void wav() throws IOException {
+        int byteRate = 44100 * 2 * 2;
+        byte[] file = new Bytes()
+                .ascii("RIFF").u32le(0).ascii("WAVE")
+                .ascii("fmt ").u32le(16).u16le(1).u16le(2).u32le(44100).u32le(byteRate).u16le(4).u16le(16)
+                .ascii("LIST").u32le(5).zeros(5 + 1)
+                .ascii("data").u32le(byteRate * 2).zeros(byteRate * 2)
+                .toArray();
+
+        AudioMetadata metadata = parse(file);
+
+        assertThat(metadata.duration()).isCloseTo(2.0, within(1e-9));
+        assertThat(metadata.sampleRate()).isEqualTo(44100);
+    }
+
+    @Test
+    @DisplayName("WAV: 스트리밍 녹음(data 크기 미기록)은 파일 끝까지")
+    void wavStreaming() throws IOException {
+        byte[] file = new Bytes()
+                .ascii("RIFF").u32le(0xFFFFFFFFL).ascii("WAVE")
+                .ascii("fmt ").u32le(16).u16le(1).u16le(1).u32le(16000).u32le(32000).u16le(2).u16le(16)
+                .ascii("data").u32le(0xFFFFFFFFL).zeros(32000 * 3)
+                .toArray();
+
+        assertThat(parse(file).duration()).isCloseTo(3.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("FLAC: STREAMINFO의 totalSamples / sampleRate")
+    void flac() throws IOException {
+        long streamInfo = (48000L << 44) | (1L << 41) | (15L << 36) | (48000L * 3);
+        byte[] file = new Bytes()
+                .ascii("fLaC").u8(0x80).u8(0).u8(0).u8(34)
+                .u16be(4096).u16be(4096).zeros(6).u64be(streamInfo).zeros(16)
+                .zeros(1000)
+                .toArray();
+
+        AudioMetadata metadata = parse(file);
+
+        assertThat(metadata.duration()).isCloseTo(3.0, within(1e-9));
+        assertThat(metadata.sampleRate()).isEqualTo(48000);
+    }
+
+    @Test
+    @DisplayName("MP3 CBR: ID3v2 태그를 건너뛰고 (오디오 크기 / 비트레이트)")
+    void mp3Cbr() throws IOException {
+        // MPEG1 Layer III 128kbps 44.1kHz → 프레임 417바이트
+        Bytes bytes = new Bytes().ascii("ID3").u8(4).u8(0).u8(0).u8(0).u8(0).u8(0).u8(90).zeros(90);
+        for (int i = 0; i < 100; i++) {
+            bytes.u8(0xFF).u8(0xFB).u8(0x90).u8(0x44).zeros(417 - 4);
+        }
+
+        AudioMetadata metadata = parse(bytes.toArray());
+
+        assertThat(metadata.duration()).isCloseTo(417 * 100 * 8 / 128000.0, within(1e-9));
+        assertThat(metadata.sampleRate()).isEqualTo(44100);
+    }
+
+    @Test
+    @DisplayName("MP3 VBR: Xing 헤더의 프레임 수 × 1152 / sampleRate")
+    void mp3Xing() throws IOException {
+        Bytes bytes = new Bytes()
+                .u8(0xFF).u8(0xFB).u8(0x90).u8(0x44).zeros(32)
+                .ascii("Xing").u32be(0x01).u32be(1000).zeros(417 - 4 - 32 - 12);
+        for (int i = 0; i < 10; i++) {
+            bytes.u8(0xFF).u8(0xFB).u8(0x90).u8(0x44).zeros(417 - 4);
+        }
+
+        assertThat(parse(bytes.toArray()).duration()).isCloseTo(1000 * 1152 / 44100.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("OGG Vorbis: 파일 끝 페이지의 granule position만 읽음")
+    void oggVorbis() throws IOException {
+        byte[] identification = new Bytes()
+                .u8(0x01).ascii("vorbis").u32le(0).u8(2).u32le(44100).zeros(12).u8(0xB8).u8(0x01)
+                .toArray();
+        byte[] file = new Bytes()
+                .append(oggPage(0, 1234, identification))
+                .zeros(1024 * 1024)
+                .append(oggPage(44100L * 5, 1234, new byte[10]))
+                .toArray();
+
+        CountingReader reader = new CountingReader(file);
+        AudioMetadata metadata = new AudioHeaderParser(reader, HEAD_BYTES, HEAD_BYTES, 1024 * 1024).parse();
+
+        assertThat(metadata.duration()).isCloseTo(5.0, within(1e-9));
+        assertThat(metadata.sampleRate()).isEqualTo(44100);
+        assertThat(reader.bytesRead).isLessThanOrEqualTo(2L * HEAD_BYTES);
+    }
+
+    @Test
+    @DisplayName("OGG Opus: 48kHz granule에서 pre-skip을 빼고 입력 샘플레이트 반환")
+    void oggOpus() throws IOException {
+        byte[] head = new Bytes().ascii("OpusHead").u8(1).u8(1).u16le(312).u32le(16000).u16le(0).u8(0).toArray();
+        byte[] file = new Bytes()
+                .append(oggPage(0, 7, head))
+                .zeros(1000)
+                .append(oggPage(48000L * 4 + 312, 7, new byte[10]))
+                .toArray();
+
+        AudioMetadata metadata = parse(file);
+
+        assertThat(metadata.duration()).isCloseTo(4.0, within(1e-9));
+        assertThat(metadata.sampleRate()).isEqualTo(16000);
+    }
+
+    @Test
+    @DisplayName("M4A: 파일 끝의 moov에서 사운드 트랙 mdhd / stsd")
+    void m4aMoovAtEnd() throws IOException {
+        byte[] stsd = box("stsd", new Bytes().u32be(0).u32be(1)
+                .append(box("mp4a", new Bytes().zeros(6).u16be(1).zeros(8)
+                        .u16be(2).u16be(16).u16be(0).u16be(0).u32be(44100L << 16).toArray()))
+                .toArray());
+        byte[] trak = box("trak", box("mdia",
+                box("mdhd", new Bytes().u32be(0).u32be(0).u32be(0).u32be(44100).u32be(44100L * 10).u32be(0).toArray()),
+                box("hdlr", new Bytes().u32be(0).u32be(0).ascii("soun").zeros(12).u8(0).toArray()),
+                box("minf", box("stbl", stsd))));
+        byte[] moov = box("moov",
+                box("mvhd", new Bytes().u32be(0).u32be(0).u32be(0).u32be(1000).u32be(9990).zeros(80).toArray()),
+                trak);
+
+        byte[] file = new Bytes()
+                .append(box("ftyp", new Bytes().ascii("M4A ").u32be(0).ascii("isom").toArray()))
+                .append(box("mdat", new byte[2 * 1024 * 1024]))
+                .append(moov)
+                .toArray();
+
+        CountingReader reader = new CountingReader(file);
+        AudioMetadata metadata = new AudioHeaderParser(reader, HEAD_BYTES, HEAD_BYTES, 1024 * 1024).parse();
+
+        assertThat(metadata.duration()).isCloseTo(10.0, within(1e-9));
+        assertThat(metadata.sampleRate()).isEqualTo(44100);
+        assertThat(reader.bytesRead).isLessThan(HEAD_BYTES + 1024L);
+    }
+
+    @Test
+    @DisplayName("모르는 형식 / 잘린 헤더는 null")
+    void unknown() throws IOException {
+        byte[] text = "plain text, not audio\n".repeat(200).getBytes(StandardCharsets.US_ASCII);
+
+        assertThat(parse(text)).isNull();
+        assertThat(parse(Arrays.copyOf("fLaC".getBytes(StandardCharsets.US_ASCII), 20))).isNull();
+    }
+
+    private AudioMetadata parse(byte[] file) throws IOException {
+        return new AudioHeaderParser(new CountingReader(file), HEAD_BYTES, HEAD_BYTES, 1024 * 1024).parse();
+    }
+
+    private static byte[] oggPage(long granule, int serial, byte[] packet) {
+        return new Bytes()
+                .ascii("OggS").u8(0).u8(granule == 0 ? 0x02 : 0x04).u64le(granule).u32le(serial).u32le(0).u32le(0)
+                .u8(1).u8(packet.length)
+                .append(packet)
+                .toArray();
+    }
+
+    private static byte[] box(String type, byte[]... children) {
+        Bytes payload = new Bytes();
+        for (byte[] child : children) {
+            payload.append(child);
+        }
+        byte[] body = payload.toArray();
+        return new Bytes().u32be(8 + body.length).ascii(type).append(body).toArray();
+    }
+
+    static final class CountingReader implements AudioRangeReader {
+
+        private final byte[] data;
+        long bytesRead;
+
+        CountingReader(byte[] data) {
+            this.data = data;
+        }
+
+        @Override
+        public long size() {
+            return data.length;
+        }
+
+        @Override
+        public byte[] read(long offset, int length) {
+            int from = (int) Math.min(offset, data.length);
+            int to = (int) Math.min((long) from + length, data.length);
+            bytesRead += to - from;
+            return Arrays.copyOfRange(data, from, to);
+        }
+    }
+
+    private static final class Bytes {
+
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        Bytes ascii(String value) {
+            return append(value.getBytes(StandardCharsets.US_ASCII));
+        }
+
+        Bytes u8(int value) {
+            out.write(value);
+            return this;
+        }
+
+        Bytes u16le(int value) {
+            return put(2, ByteOrder.LITTLE_ENDIAN, value);
+        }
+
+        Bytes u16be(int value) {
+            return put(2, ByteOrder.BIG_ENDIAN, value);
+        }
+
+        Bytes u32le(long value) {
+            return put(4, ByteOrder.LITTLE_ENDIAN, value);
+        }
+
+        Bytes u32be(long value) {
+            return put(4, ByteOrder.BIG_ENDIAN, value);
+        }
+
+        Bytes u64le(long value) {
+            return put(8, ByteOrder.LITTLE_ENDIAN, value);
+        }
+
+        Bytes u64be(long value) {
+            return put(8, ByteOrder.BIG_ENDIAN, value);
+        }
+
+        Bytes zeros(int length) {
+            return append(new byte[length]);
+        }
+
+        Bytes append(byte[] bytes) {
+            out.writeBytes(bytes);
+            return this;
+        }
+
+        byte[] toArray() {
+            return out.toByteArray();
+        }
+
+        private Bytes put(int width, ByteOrder order, long value) {
+            ByteBuffer buffer = ByteBuffer.allocate(8).order(order);
+            buffer.putLong(order == ByteOrder.LITTLE_ENDIAN ? value : value << (8 * (8 - width)));
+            // 앞쪽 width 바이트 = 값의 하위 width 바이트
+            return append(Arrays.copyOfRange(buffer.array(), 0, width));
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package fakehunters.backend.audio.service;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * 파일 크기별 메타데이터 추출 지연 / 전송량 비교 (전체 다운로드 후 해석 vs 헤더 범위만 읽기)
+ * 전체 다운로드는 임시 파일 복사로 재현, 네트워크 시간은 benchmark.audio.bandwidth-mbps (기본 100MB/s)로 환산
+ * 실행: ./gradlew test --tests '*AudioMetadataBenchmark' -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class AudioMetadataBenchmark {
+
+    private static final int[] FILE_SIZES_MB = {4, 16, 64, 256};
+    private static final int HEAD_BYTES = 64 * 1024;
+    private static final int RUNS = 5;
+
+    private static Path workDir;
+
+    @BeforeAll
+    static void setUp() throws IOException {
+        workDir = Files.createTempDirectory("audio-metadata-bench");
+        for (int sizeMb : FILE_SIZES_MB) {
+            writeWav(workDir.resolve(sizeMb + "mb.wav"), sizeMb * 1024L * 1024);
+        }
+    }
+
+    @AfterAll
+    static void tearDown() throws IOException {
+        try (var files = Files.list(workDir)) {
+            for (Path p : files.toList()) {
+                Files.deleteIfExists(p);
+            }
+        }
+        Files.deleteIfExists(workDir);
+    }
+
+    @Test
+    @DisplayName("파일 크기별 메타데이터 추출 지연")
+    void latencyBySize() throws IOException {
+        double bandwidth = Double.parseDouble(System.getProperty("benchmark.audio.bandwidth-mbps", "100"));
+
+        System.out.printf("%-10s %10s %14s %12s %16s%n", "size(MB)", "mode", "transferred", "local(ms)", "est@" + bandwidth + "MB/s");
+        for (int sizeMb : FILE_SIZES_MB) {
+            Path file = workDir.resolve(sizeMb + "mb.wav");
+
+            long[] download = new long[RUNS];
+            long[] header = new long[RUNS];
+            long headerBytes = 0;
+            for (int run = 0; run < RUNS; run++) {
+                long start = System.nanoTime();
+                downloadAndParse(file);
+                download[run] = System.nanoTime() - start;
+
+                start = System.nanoTime();
+                headerBytes = parseHeaderOnly(file);
+                header[run] = System.nanoTime() - start;
+            }
+
+            long fileBytes = Files.size(file);
+            print(sizeMb, "download", fileBytes, median(download), bandwidth);
+            print(sizeMb, "header", headerBytes, median(header), bandwidth);
+        }
+    }
+
+    // 기존 방식: 객체 전체를 임시 파일로 받은 뒤 해석
+    private void downloadAndParse(Path file) throws IOException {
+        Path temp = Files.createTempFile(workDir, "audio-", ".tmp");
+        try (InputStream in = Files.newInputStream(file)) {
+            Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            parse(new FileRangeReader(temp));
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private long parseHeaderOnly(Path file) throws IOException {
+        FileRangeReader reader = new FileRangeReader(file);
+        parse(reader);
+        return reader.bytesRead;
+    }
+
+    private void parse(FileRangeReader reader) throws IOException {
+        if (new AudioHeaderParser(reader, HEAD_BYTES, HEAD_BYTES, 8 * 1024 * 1024).parse() == null) {
+            throw new IllegalStateException("parse failed");
+        }
+    }
+
+    private void print(int sizeMb, String mode, long bytes, long nanos, double bandwidth) {
+        double localMs = nanos / 1_000_000.0;
+        double estimatedMs = localMs + bytes / (bandwidth * 1024 * 1024) * 1000;
+        System.out.printf("%-10d %10s %14d %12.2f %16.2f%n", sizeMb, mode, bytes, localMs, estimatedMs);
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    // 44.1kHz 16bit 스테레오 PCM, 데이터는 0 (sparse)
+    private static void writeWav(Path path, long size) throws IOException {
+        long dataSize = size - 44;
+        ByteBuffer header = ByteBuffer.allocate(44).order(ByteOrder.LITTLE_ENDIAN);
+        header.put("RIFF".getBytes()).putInt((int) (size - 8)).put("WAVE".getBytes())
+                .put("fmt ".getBytes()).putInt(16).putShort((short) 1).putShort((short) 2)
+                .putInt(44100).putInt(44100 * 4).putShort((short) 4).putShort((short) 16)
+                .put("data".getBytes()).putInt((int) dataSize);
+
+        try (RandomAccessFile raf = new RandomAccessFile(path.toFile(), "rw")) {
+            raf.write(header.array());
+            raf.setLength(size);
+        }
+    }
+
+    private static final class FileRangeReader implements AudioRangeReader {
+
+        private final Path path;
+        private long bytesRead;
+
+        private FileRangeReader(Path path) {
+            this.path = path;
+        }
+
+        @Override
+        public long size() throws IOException {
+            return Files.size(path);
+        }
+
+        @Override
+        public byte[] read(long offset, int length) throws IOException {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                int available = (int) Math.max(0, Math.min(length, channel.size() - offset));
+                ByteBuffer buffer = ByteBuffer.allocate(available);
+                while (buffer.hasRemaining() && channel.read(buffer, offset + buffer.position()) > 0) {
+                    // 끝까지 읽음
+                }
+                bytesRead += buffer.position();
+                return Arrays.copyOf(buffer.array(), buffer.position());
+            }
+        }
+    }
+}
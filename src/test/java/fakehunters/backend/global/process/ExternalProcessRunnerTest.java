@@ -0,0 +1,106 @@
+package fakehunters.backend.global.process;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@EnabledOnOs({OS.LINUX, OS.MAC})
+class ExternalProcessRunnerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ExternalProcessRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        runner = new ExternalProcessRunner(meterRegistry);
+        ReflectionTestUtils.setField(runner, "ffmpegPermits", 2);
+        ReflectionTestUtils.setField(runner, "ffprobePermits", 8);
+        ReflectionTestUtils.setField(runner, "defaultPermits", 2);
+        ReflectionTestUtils.setField(runner, "acquireTimeout", Duration.ofMillis(200));
+        ReflectionTestUtils.setField(runner, "killGrace", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(runner, "maxOutputBytes", 1024);
+    }
+
+    @Test
+    @DisplayName("stdout / stderr 분리 수집, JSON 파싱, 지연 시간 기록")
+    void collectsOutput() {
+        List<String> stderrLines = new ArrayList<>();
+        ProcessResult result = runner.run("sh", sh("echo '{\"a\": 1}'; echo warn >&2; exit 3"),
+                Duration.ofSeconds(5), stderrLines::add);
+
+        assertThat(result.exitCode()).isEqualTo(3);
+        assertThat(result.stdout()).contains("\"a\": 1");
+        assertThat(result.stderrTail()).containsExactly("warn");
+        assertThat(stderrLines).containsExactly("warn");
+
+        assertThat(runner.runJson("sh", sh("echo '{\"a\": 1}'"), Duration.ofSeconds(5)).path("a").asInt())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("external.process.duration").tag("tool", "sh").timers()).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("마감 시간이 지나면 종료하고 TIMEOUT")
+    void killsOnTimeout() {
+        long started = System.nanoTime();
+        assertThatThrownBy(() -> runner.run("sh", sh("sleep 30"), Duration.ofMillis(300)))
+                .isInstanceOf(ExternalProcessException.class)
+                .extracting("reason")
+                .isEqualTo(ExternalProcessException.Reason.TIMEOUT);
+
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(5));
+        assertThat(meterRegistry.get("external.process.running").tag("tool", "sh").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("stdout은 max-output-bytes까지만 보관하고 나머지는 버리며 계속 읽음")
+    void truncatesLargeOutput() {
+        ProcessResult result = runner.run("sh", sh("head -c 1000000 /dev/zero | tr '\\0' x"), Duration.ofSeconds(5));
+
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.stdout()).hasSize(1024);
+    }
+
+    @Test
+    @DisplayName("도구별 동시 실행 한도를 넘으면 대기 후 REJECTED")
+    void limitsConcurrency() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<ProcessResult>> running = List.of(
+                    pool.submit(() -> runner.run("sh", sh("sleep 1"), Duration.ofSeconds(5))),
+                    pool.submit(() -> runner.run("sh", sh("sleep 1"), Duration.ofSeconds(5))));
+            Thread.sleep(200);
+
+            assertThatThrownBy(() -> runner.run("sh", sh("true"), Duration.ofSeconds(5)))
+                    .isInstanceOf(ExternalProcessException.class)
+                    .extracting("reason")
+                    .isEqualTo(ExternalProcessException.Reason.REJECTED);
+            assertThat(meterRegistry.get("external.process.rejected").tag("tool", "sh").counter().count())
+                    .isEqualTo(1);
+
+            for (Future<ProcessResult> future : running) {
+                assertThat(future.get().isSuccess()).isTrue();
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private List<String> sh(String script) {
+        return List.of("sh", "-c", script);
+    }
+}
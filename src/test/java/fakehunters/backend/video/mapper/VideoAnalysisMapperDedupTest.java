@@ -0,0 +1,122 @@
+package fakehunters.backend.video.mapper;
+
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.mybatis.spring.SqlSessionFactoryBean;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * findDedupSource - 스트리밍 / 구간 분석의 임시 결과 행(analyzed_at, model_version NULL)이 있어도 재사용 대상 조회
+ * 세션 전용 TEMP 테이블을 사용하므로 실제 테이블에는 영향 없음
+ * 실행: ./gradlew test --tests '*VideoAnalysisMapperDedupTest' \
+ *       -Dit.db.url=jdbc:postgresql://localhost:5432/postgres -Dit.db.username=postgres -Dit.db.password=...
+ */
+@EnabledIfSystemProperty(named = "it.db.url", matches = ".+")
+class VideoAnalysisMapperDedupTest {
+
+    private static final String HASH = "a".repeat(64);
+
+    private static SingleConnectionDataSource dataSource;
+    private static JdbcTemplate jdbcTemplate;
+    private static VideoAnalysisMapper videoAnalysisMapper;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        dataSource = new SingleConnectionDataSource(
+                System.getProperty("it.db.url"),
+                System.getProperty("it.db.username", "postgres"),
+                System.getProperty("it.db.password", "postgres"),
+                true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        // pg_temp가 search_path 맨 앞이므로 같은 세션에서는 TEMP 테이블이 실제 테이블을 가림
+        jdbcTemplate.execute("""
+                CREATE TEMP TABLE video_analysis_job (
+                    analysis_id BIGINT PRIMARY KEY,
+                    status VARCHAR(20),
+                    transcode_status VARCHAR(20),
+                    content_hash VARCHAR(64),
+                    source_analysis_id BIGINT,
+                    completed_at TIMESTAMP
+                )""");
+        jdbcTemplate.execute("""
+                CREATE TEMP TABLE video_analysis_result (
+                    result_id BIGSERIAL PRIMARY KEY,
+                    analysis_id BIGINT,
+                    model_version VARCHAR(50),
+                    analyzed_at TIMESTAMP
+                )""");
+
+        SqlSessionFactoryBean factoryBean = new SqlSessionFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setMapperLocations(new ClassPathResource("mapper/video/VideoAnalysisMapper.xml"));
+        SqlSessionFactory sqlSessionFactory = factoryBean.getObject();
+        videoAnalysisMapper = new SqlSessionTemplate(sqlSessionFactory).getMapper(VideoAnalysisMapper.class);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        dataSource.destroy();
+    }
+
+    @BeforeEach
+    void truncate() {
+        jdbcTemplate.execute("TRUNCATE video_analysis_job, video_analysis_result");
+
+        // 완료된 원본 분석
+        insertJob(1L, "COMPLETED", HASH);
+        insertResult(1L, "v2", "CURRENT_TIMESTAMP - INTERVAL '1 hour'");
+    }
+
+    @Test
+    @DisplayName("modelVersion 미지정: 진행 중인 스트림의 임시 결과 행이 있어도 최신 모델 버전으로 조회")
+    void placeholderDoesNotHideLatestModelVersion() {
+        insertJob(2L, "PROCESSING", "b".repeat(64));
+        insertResult(2L, null, null);
+
+        assertThat(videoAnalysisMapper.findDedupSource(HASH, 3L, null)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("같은 해시의 임시 결과 행은 재사용 대상이 아님")
+    void placeholderIsNotASource() {
+        insertJob(2L, "COMPLETED", HASH);
+        insertResult(2L, null, null);
+        jdbcTemplate.update("UPDATE video_analysis_job SET completed_at = CURRENT_TIMESTAMP WHERE analysis_id = 2");
+
+        assertThat(videoAnalysisMapper.findDedupSource(HASH, 3L, null)).isEqualTo(1L);
+        assertThat(videoAnalysisMapper.findDedupSource(HASH, 3L, "v2")).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("모델 버전이 다르면 재사용하지 않음")
+    void modelVersionMismatch() {
+        insertJob(2L, "COMPLETED", "b".repeat(64));
+        insertResult(2L, "v3", "CURRENT_TIMESTAMP");
+
+        assertThat(videoAnalysisMapper.findDedupSource(HASH, 3L, null)).isNull();
+        assertThat(videoAnalysisMapper.findDedupSource(HASH, 3L, "v2")).isEqualTo(1L);
+    }
+
+    private void insertJob(Long analysisId, String status, String contentHash) {
+        jdbcTemplate.update("""
+                INSERT INTO video_analysis_job (analysis_id, status, transcode_status, content_hash, completed_at)
+                VALUES (?, ?, 'COMPLETED', ?, CURRENT_TIMESTAMP - INTERVAL '1 hour')""",
+                analysisId, status, contentHash);
+    }
+
+    private void insertResult(Long analysisId, String modelVersion, String analyzedAt) {
+        jdbcTemplate.update("INSERT INTO video_analysis_result (analysis_id, model_version, analyzed_at) VALUES (?, ?, "
+                + (analyzedAt != null ? analyzedAt : "NULL") + ")", analysisId, modelVersion);
+    }
+}
@@ -0,0 +1,33 @@
+package fakehunters.backend.video.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class FfprobeFrameRateTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("분수 / 정수 형식, 0/0 과 잘못된 값은 null")
+    void parse() {
+        assertThat(FfprobeFrameRate.parse("30000/1001")).isCloseTo(29.97, within(0.001));
+        assertThat(FfprobeFrameRate.parse("25")).isEqualTo(25.0);
+        assertThat(FfprobeFrameRate.parse("0/0")).isNull();
+        assertThat(FfprobeFrameRate.parse("N/A")).isNull();
+        assertThat(FfprobeFrameRate.parse(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("avg_frame_rate가 없으면 r_frame_rate")
+    void fallbackToRealFrameRate() throws Exception {
+        assertThat(FfprobeFrameRate.of(objectMapper.readTree(
+                "{\"avg_frame_rate\": \"0/0\", \"r_frame_rate\": \"24/1\"}"))).isEqualTo(24.0);
+        assertThat(FfprobeFrameRate.of(objectMapper.readTree(
+                "{\"avg_frame_rate\": \"30/1\", \"r_frame_rate\": \"60/1\"}"))).isEqualTo(30.0);
+        assertThat(FfprobeFrameRate.of(objectMapper.readTree("{}"))).isNull();
+    }
+}
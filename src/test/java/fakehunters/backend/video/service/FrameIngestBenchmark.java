@@ -0,0 +1,146 @@
+package fakehunters.backend.video.service;
+
+import fakehunters.backend.video.domain.FrameAnalysis;
+import fakehunters.backend.video.mapper.FrameAnalysisMapper;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.mybatis.spring.SqlSessionFactoryBean;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * video_analysis_frame 저장 방식별 rows/sec 비교 (foreach 단일 INSERT / 1000건 분할 INSERT / COPY)
+ * 세션 전용 TEMP 테이블을 사용하므로 실제 테이블에는 영향 없음
+ * 실행: ./gradlew test --tests '*FrameIngestBenchmark' -Dbenchmark=true \
+ *       -Dbenchmark.db.url=jdbc:postgresql://localhost:5432/postgres -Dbenchmark.db.username=postgres -Dbenchmark.db.password=...
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class FrameIngestBenchmark {
+
+    private static final int[] FRAME_COUNTS = {1_000, 10_000, 100_000};
+    private static final int INSERT_BATCH_SIZE = 1_000;
+
+    private static SingleConnectionDataSource dataSource;
+    private static JdbcTemplate jdbcTemplate;
+    private static FrameAnalysisMapper frameAnalysisMapper;
+    private static FrameAnalysisCopyWriter copyWriter;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        dataSource = new SingleConnectionDataSource(
+                System.getProperty("benchmark.db.url", "jdbc:postgresql://localhost:5432/postgres"),
+                System.getProperty("benchmark.db.username", "postgres"),
+                System.getProperty("benchmark.db.password", "postgres"),
+                true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        // pg_temp가 search_path 맨 앞이므로 같은 세션에서는 TEMP 테이블이 실제 테이블을 가림
+        jdbcTemplate.execute("""
+                CREATE TEMP TABLE video_analysis_frame (
+                    frame_id BIGSERIAL PRIMARY KEY,
+                    result_id BIGINT,
+                    frame_number INTEGER,
+                    timestamp_seconds DECIMAL(10, 3),
+                    is_deepfake BOOLEAN,
+                    confidence_score DECIMAL(5, 4),
+                    anomaly_type VARCHAR(100),
+                    features JSONB
+                )""");
+
+        SqlSessionFactoryBean factoryBean = new SqlSessionFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setMapperLocations(new ClassPathResource("mapper/video/FrameAnalysisMapper.xml"));
+        SqlSessionFactory sqlSessionFactory = factoryBean.getObject();
+        frameAnalysisMapper = new SqlSessionTemplate(sqlSessionFactory).getMapper(FrameAnalysisMapper.class);
+
+        copyWriter = new FrameAnalysisCopyWriter(dataSource);
+        ReflectionTestUtils.setField(copyWriter, "chunkSize", 64 * 1024);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        dataSource.destroy();
+    }
+
+    @Test
+    @DisplayName("프레임 수별 저장 처리량 (rows/sec)")
+    void rowsPerSecond() throws Exception {
+        // JIT / 커넥션 워밍업
+        List<FrameAnalysis> warmup = frames(1_000);
+        frameAnalysisMapper.insertBatch(warmup);
+        copyWriter.copy(warmup);
+        truncate();
+
+        System.out.printf("%-10s %-16s %14s %12s%n", "frames", "mode", "rows/sec", "elapsed(ms)");
+        for (int count : FRAME_COUNTS) {
+            List<FrameAnalysis> frames = frames(count);
+
+            measure(count, "foreach", () -> frameAnalysisMapper.insertBatch(frames));
+            measure(count, "foreach-1000", () -> {
+                for (int from = 0; from < frames.size(); from += INSERT_BATCH_SIZE) {
+                    frameAnalysisMapper.insertBatch(
+                            frames.subList(from, Math.min(frames.size(), from + INSERT_BATCH_SIZE)));
+                }
+            });
+            measure(count, "copy", () -> assertThat(copyWriter.copy(frames)).isEqualTo(count));
+        }
+    }
+
+    private void measure(int count, String mode, Ingest ingest) {
+        long started = System.nanoTime();
+        try {
+            ingest.run();
+        } catch (Exception e) {
+            // 단일 foreach INSERT는 7 * 프레임 수가 바인드 파라미터 한도(65535)를 넘으면 실패
+            System.out.printf("%-10d %-16s %14s %12s  (%s)%n", count, mode, "-", "-",
+                    e.getClass().getSimpleName());
+            truncate();
+            return;
+        }
+        double elapsedMs = (System.nanoTime() - started) / 1e6;
+
+        Integer stored = jdbcTemplate.queryForObject("SELECT count(*) FROM video_analysis_frame", Integer.class);
+        assertThat(stored).isEqualTo(count);
+        truncate();
+
+        System.out.printf("%-10d %-16s %14.0f %12.1f%n", count, mode, count / (elapsedMs / 1000), elapsedMs);
+    }
+
+    private void truncate() {
+        jdbcTemplate.execute("TRUNCATE video_analysis_frame");
+    }
+
+    private List<FrameAnalysis> frames(int count) {
+        List<FrameAnalysis> frames = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            boolean suspicious = i % 7 == 0;
+            frames.add(FrameAnalysis.builder()
+                    .resultId(1L)
+                    .frameNumber(i)
+                    .timestampSeconds(i / 30.0)
+                    .isDeepfake(suspicious)
+                    .confidenceScore(suspicious ? 0.9123 : 0.1234)
+                    .anomalyType(suspicious ? "face_warp" : null)
+                    .features("{\"blur\": 0.12, \"note\": \"say \\\"hi\\\", ok\"}")
+                    .build());
+        }
+        return frames;
+    }
+
+    @FunctionalInterface
+    private interface Ingest {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,170 @@
+package fakehunters.backend.video.service;
+
+import fakehunters.backend.video.domain.FrameAnalysis;
+import fakehunters.backend.video.dto.response.VideoTimelineResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class FrameTimelineAggregatorTest {
+
+    private FrameTimelineAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        aggregator = new FrameTimelineAggregator();
+        ReflectionTestUtils.setField(aggregator, "bucketFrames", 10);
+        ReflectionTestUtils.setField(aggregator, "consistencyWindow", 5);
+        ReflectionTestUtils.setField(aggregator, "downsamplePoints", 20);
+    }
+
+    @Test
+    @DisplayName("초 / N프레임 버킷: 최대·평균 신뢰도, 딥페이크 비율")
+    void buckets() {
+        // 10fps, 3초 = 30프레임, 1초 구간(10~19)만 딥페이크
+        List<FrameAnalysis> frames = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            boolean fake = i >= 10 && i < 20;
+            frames.add(frame(i, i / 10.0, fake ? 0.9 : 0.1, fake));
+        }
+
+        VideoTimelineResponse timeline = aggregator.aggregate(frames);
+
+        assertThat(timeline.getFrameCount()).isEqualTo(30);
+        VideoTimelineResponse.BucketSeries perSecond = timeline.getPerSecond();
+        assertThat(perSecond.getStart()).containsExactly(0, 1, 2);
+        assertThat(perSecond.getFrameCount()).containsExactly(10, 10, 10);
+        assertThat(perSecond.getMaxConfidence()).containsExactly(0.1, 0.9, 0.1);
+        assertThat(perSecond.getMeanConfidence()).containsExactly(0.1, 0.9, 0.1);
+        assertThat(perSecond.getDeepfakeRatio()).containsExactly(0.0, 1.0, 0.0);
+
+        VideoTimelineResponse.BucketSeries perFrames = timeline.getPerFrames();
+        assertThat(perFrames.getStart()).containsExactly(0, 10, 20);
+        assertThat(perFrames.getDeepfakeRatio()).containsExactly(0.0, 1.0, 0.0);
+    }
+
+    @Test
+    @DisplayName("순서가 섞인 입력도 frame_number 순으로 집계하고 빈 버킷은 제외")
+    void unorderedWithGap() {
+        List<FrameAnalysis> frames = new ArrayList<>(List.of(
+                frame(0, 0.0, 0.2, false),
+                frame(1, 0.5, 0.4, false),
+                frame(50, 5.0, 0.8, true),
+                frame(51, 5.5, 0.6, true)));
+        Collections.reverse(frames);
+
+        VideoTimelineResponse timeline = aggregator.aggregate(frames);
+
+        assertThat(timeline.getPerSecond().getStart()).containsExactly(0, 5);
+        assertThat(timeline.getPerSecond().getMeanConfidence()).containsExactly(0.3, 0.7);
+        assertThat(timeline.getPerFrames().getStart()).containsExactly(0, 50);
+        assertThat(timeline.getDownsampled().getFrameNumber()).containsExactly(0, 1, 50, 51);
+    }
+
+    @Test
+    @DisplayName("시간적 일관성: 일정하면 1, 프레임마다 0↔1로 튀면 0")
+    void consistency() {
+        double[] flat = {0.5, 0.5, 0.5, 0.5};
+        assertThat(FrameTimelineAggregator.consistency(flat, 3)).containsExactly(1.0, 1.0, 1.0, 1.0);
+
+        double[] flicker = {0, 1, 0, 1, 0};
+        double[] result = FrameTimelineAggregator.consistency(flicker, 3);
+        assertThat(result[0]).isEqualTo(1.0);
+        for (int i = 1; i < result.length; i++) {
+            assertThat(result[i]).isCloseTo(0.0, within(1e-9));
+        }
+
+        // 윈도우 밖의 변화는 반영되지 않음
+        double[] step = {0, 1, 1, 1, 1};
+        assertThat(FrameTimelineAggregator.consistency(step, 3)[4]).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("LTTB: 목표 개수, 양 끝점 유지, 급격한 피크 보존")
+    void lttb() {
+        int n = 1_000;
+        double[] x = new double[n];
+        double[] y = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = i;
+            y[i] = 0.1;
+        }
+        y[437] = 0.95;
+
+        int[] selected = FrameTimelineAggregator.lttb(x, y, 50);
+
+        assertThat(selected).hasSize(50);
+        assertThat(selected[0]).isZero();
+        assertThat(selected[49]).isEqualTo(n - 1);
+        assertThat(selected).isSorted().contains(437);
+
+        // 목표 개수 이상이면 그대로
+        assertThat(FrameTimelineAggregator.lttb(new double[]{0, 1}, new double[]{0, 1}, 50))
+                .containsExactly(0, 1);
+    }
+
+    @Test
+    @DisplayName("다운샘플 결과는 downsample-points 개, 타임스탬프 없는 프레임 제외")
+    void downsampled() {
+        List<FrameAnalysis> frames = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            frames.add(frame(i, i % 100 == 0 ? null : i / 30.0, Math.abs(Math.sin(i / 10.0)), false));
+        }
+
+        VideoTimelineResponse timeline = aggregator.aggregate(frames);
+
+        VideoTimelineResponse.DownsampledSeries downsampled = timeline.getDownsampled();
+        assertThat(downsampled.getFrameNumber()).hasSize(20).doesNotContain(0, 100, 200);
+        assertThat(downsampled.getFrameNumber()[19]).isEqualTo(299);
+        assertThat(timeline.getPerSecond().getFrameCount()).containsExactly(29, 30, 30, 29, 30, 30, 29, 30, 30, 30);
+    }
+
+    @Test
+    @DisplayName("스트리밍 누적(FrameSeries)도 순서가 섞이면 frame_number 순으로 정렬해서 같은 결과")
+    void frameSeries() {
+        List<FrameAnalysis> frames = new ArrayList<>();
+        FrameTimelineAggregator.FrameSeries series = new FrameTimelineAggregator.FrameSeries(4);
+        for (int i = 29; i >= 0; i--) {
+            boolean fake = i >= 10 && i < 20;
+            FrameAnalysis frame = frame(i, i / 10.0, fake ? 0.9 : 0.1, fake);
+            frames.add(frame);
+            series.add(frame.getFrameNumber(), frame.getTimestampSeconds(),
+                    frame.getConfidenceScore(), frame.getIsDeepfake());
+        }
+
+        VideoTimelineResponse fromSeries = aggregator.aggregate(series);
+        VideoTimelineResponse fromList = aggregator.aggregate(frames);
+
+        assertThat(fromSeries.getFrameCount()).isEqualTo(30);
+        assertThat(fromSeries).usingRecursiveComparison().isEqualTo(fromList);
+        assertThat(fromSeries.getDownsampled().getFrameNumber()).isSorted();
+    }
+
+    @Test
+    @DisplayName("프레임이 없으면 빈 시리즈")
+    void empty() {
+        VideoTimelineResponse timeline = aggregator.aggregate(List.of());
+
+        assertThat(timeline.getFrameCount()).isZero();
+        assertThat(timeline.getPerSecond().getStart()).isEmpty();
+        assertThat(timeline.getPerFrames().getStart()).isEmpty();
+        assertThat(timeline.getDownsampled().getFrameNumber()).isEmpty();
+    }
+
+    private FrameAnalysis frame(int frameNumber, Double seconds, double confidence, boolean deepfake) {
+        return FrameAnalysis.builder()
+                .frameNumber(frameNumber)
+                .timestampSeconds(seconds)
+                .confidenceScore(confidence)
+                .isDeepfake(deepfake)
+                .build();
+    }
+}
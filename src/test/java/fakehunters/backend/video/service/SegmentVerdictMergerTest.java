@@ -0,0 +1,106 @@
+package fakehunters.backend.video.service;
+
+import fakehunters.backend.video.dto.response.AnalysisResultResponse;
+import fakehunters.backend.video.dto.response.FrameAnalysisResponse;
+import fakehunters.backend.video.dto.response.VideoAnalysisResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class SegmentVerdictMergerTest {
+
+    @Test
+    @DisplayName("구간 프레임을 원본 frame_number / timestamp로 보정")
+    void offsetsFrames() {
+        SegmentVerdictMerger merger = new SegmentVerdictMerger(0.5);
+
+        // 30fps, 두 번째 구간은 키프레임 위치 60.5초(프레임 1815)에서 시작
+        List<FrameAnalysisResponse> frames = add(merger, segment(1, 60.5, 1815),
+                response(List.of(frame(0, 0.0, false, 0.2), frame(15, 0.5, true, 0.9)), 0.4, "LOW"));
+
+        assertThat(frames).extracting(FrameAnalysisResponse::getFrameNumber).containsExactly(1815, 1830);
+        assertThat(frames).extracting(FrameAnalysisResponse::getTimestampSeconds).containsExactly(60.5, 61.0);
+    }
+
+    @Test
+    @DisplayName("판정은 병합 프레임의 딥페이크 비율, 앙상블 확률은 프레임 수 가중 평균")
+    void verdictFromMergedFrames() {
+        SegmentVerdictMerger merger = new SegmentVerdictMerger(0.5);
+
+        // 뒤 구간이 먼저 도착해도 결과는 같음
+        add(merger, segment(1, 60.0, 1800), response(List.of(
+                frame(0, 0.0, true, 0.9),
+                frame(30, 1.0, true, 0.7),
+                frame(60, 2.0, false, 0.6)), 0.8, "HIGH"));
+        add(merger, segment(0, 0.0, 0), response(List.of(
+                frame(0, 0.0, false, 0.8)), 0.2, "LOW"));
+
+        AnalysisResultResponse result = merger.toResponse().getAnalysisResult();
+
+        // 딥페이크 프레임 2/4 = 0.5 ≥ 0.5
+        assertThat(result.getIsDeepfake()).isTrue();
+        assertThat(result.getConfidenceScore()).isCloseTo(0.8, within(1e-9));
+        assertThat(result.getEnsembleFakeProbability()).isCloseTo((0.8 * 3 + 0.2) / 4, within(1e-9));
+        assertThat(result.getRiskLevel()).isEqualTo("HIGH");
+        assertThat(result.getSummary()).contains("2개 구간");
+        assertThat(merger.frameCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("가장 의심스러운 구간의 CNN-LSTM suspiciousFrames를 원본 번호로 보정")
+    void offsetsSuspiciousFrames() {
+        SegmentVerdictMerger merger = new SegmentVerdictMerger(0.5);
+        VideoAnalysisResponse response = response(List.of(frame(0, 0.0, true, 0.9)), 0.9, "HIGH");
+        response.getAnalysisResult().setIndividualModels(AnalysisResultResponse.IndividualModelsResponse.builder()
+                .cnnLstm(AnalysisResultResponse.ModelPredictionResponse.builder()
+                        .suspiciousFrames(new ArrayList<>(List.of(3, 10)))
+                        .build())
+                .build());
+
+        add(merger, segment(2, 120.0, 3600), response);
+
+        assertThat(merger.toResponse().getAnalysisResult().getIndividualModels().getCnnLstm().getSuspiciousFrames())
+                .containsExactly(3603, 3610);
+        // 구간 응답 자체는 구간 기준 번호 그대로
+        assertThat(response.getAnalysisResult().getIndividualModels().getCnnLstm().getSuspiciousFrames())
+                .containsExactly(3, 10);
+    }
+
+    // 스트리밍과 같은 순서로 프레임 청크 → 구간 완료 반영
+    private List<FrameAnalysisResponse> add(SegmentVerdictMerger merger, VideoSegmenter.VideoSegment segment,
+                                            VideoAnalysisResponse response) {
+        List<FrameAnalysisResponse> frames = merger.addFrames(segment, response.getFrameAnalyses());
+        merger.completeSegment(segment, response, frames.size());
+        return frames;
+    }
+
+    private VideoSegmenter.VideoSegment segment(int index, double start, int frameOffset) {
+        return new VideoSegmenter.VideoSegment(index, Path.of("seg_" + index + ".mp4"), start, start + 60, frameOffset, null);
+    }
+
+    private VideoAnalysisResponse response(List<FrameAnalysisResponse> frames, double ensemble, String riskLevel) {
+        return VideoAnalysisResponse.builder()
+                .frameAnalyses(frames)
+                .analysisResult(AnalysisResultResponse.builder()
+                        .ensembleFakeProbability(ensemble)
+                        .riskLevel(riskLevel)
+                        .modelVersion("v1")
+                        .build())
+                .build();
+    }
+
+    private FrameAnalysisResponse frame(int frameNumber, double seconds, boolean deepfake, double confidence) {
+        return FrameAnalysisResponse.builder()
+                .frameNumber(frameNumber)
+                .timestampSeconds(seconds)
+                .isDeepfake(deepfake)
+                .confidenceScore(confidence)
+                .build();
+    }
+}
@@ -0,0 +1,113 @@
+package fakehunters.backend.video.service;
+
+import fakehunters.backend.video.dto.response.FrameAnalysisResponse;
+import fakehunters.backend.video.dto.response.VideoAnalysisResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SegmentedVideoAnalyzerTest {
+
+    private static final Long ANALYSIS_ID = 1L;
+    private static final Long RESULT_ID = 10L;
+
+    private static final String SEGMENT_BODY = """
+            {"status": "COMPLETED",
+             "analysisResult": {"isDeepfake": true, "ensembleFakeProbability": 0.7, "modelVersion": "v1"},
+             "frameAnalyses": [
+               {"frameNumber": 0, "timestampSeconds": 0.0, "isDeepfake": true, "confidenceScore": 0.9},
+               {"frameNumber": 30, "timestampSeconds": 1.0, "isDeepfake": false, "confidenceScore": 0.6},
+               {"frameNumber": 60, "timestampSeconds": 2.0, "isDeepfake": true, "confidenceScore": 0.8}
+             ]}
+            """;
+
+    private VideoResultWriter resultWriter;
+    private Scheduler blockingScheduler;
+    private SegmentedVideoAnalyzer analyzer;
+    private final List<List<Integer>> chunks = Collections.synchronizedList(new ArrayList<>());
+
+    @BeforeEach
+    void setUp() throws Exception {
+        resultWriter = mock(VideoResultWriter.class);
+        VideoMultipartBodyFactory multipartBodyFactory = mock(VideoMultipartBodyFactory.class);
+        blockingScheduler = Schedulers.newBoundedElastic(4, 100, "test-blocking-io");
+
+        when(resultWriter.beginStream(ANALYSIS_ID)).thenReturn(RESULT_ID);
+        doAnswer(invocation -> {
+            List<FrameAnalysisResponse> frames = invocation.getArgument(1);
+            chunks.add(frames.stream().map(FrameAnalysisResponse::getFrameNumber).toList());
+            return frames.size();
+        }).when(resultWriter).appendFrames(eq(RESULT_ID), any());
+        when(resultWriter.completeStream(eq(ANALYSIS_ID), eq(RESULT_ID), any(), any())).thenReturn(RESULT_ID);
+        when(multipartBodyFactory.create(any(), anyString(), anyLong())).thenReturn(new LinkedMultiValueMap<>());
+
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> Mono.just(ClientResponse.create(HttpStatus.OK)
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .body(SEGMENT_BODY)
+                        .build()))
+                .build();
+
+        VideoResultStreamIngestor streamIngestor = new VideoResultStreamIngestor(resultWriter, blockingScheduler);
+        ReflectionTestUtils.setField(streamIngestor, "chunkSize", 2);
+
+        analyzer = new SegmentedVideoAnalyzer(webClient, multipartBodyFactory, resultWriter, streamIngestor,
+                mock(VideoProgressService.class), mock(VideoStorageService.class), blockingScheduler);
+        ReflectionTestUtils.setField(analyzer, "concurrency", 2);
+        ReflectionTestUtils.setField(analyzer, "deepfakeRatio", 0.5);
+    }
+
+    @AfterEach
+    void tearDown() {
+        blockingScheduler.dispose();
+    }
+
+    @Test
+    @DisplayName("구간 응답을 청크 단위로 저장하고 원본 프레임 번호로 보정한 뒤 병합")
+    void streamsSegmentFramesInChunks() {
+        List<VideoSegmenter.VideoSegment> segments = List.of(
+                new VideoSegmenter.VideoSegment(0, Path.of("seg_0000.mp4"), 0.0, 60.0, 0, null),
+                new VideoSegmenter.VideoSegment(1, Path.of("seg_0001.mp4"), 60.0, 120.0, 1800, null));
+
+        Long resultId = analyzer.analyze(ANALYSIS_ID, segments).block(Duration.ofSeconds(5));
+
+        assertThat(resultId).isEqualTo(RESULT_ID);
+        // chunk-size 2 → 구간마다 프레임 3개가 청크 2번 (2 + 1)
+        assertThat(chunks).hasSize(4).allSatisfy(chunk -> assertThat(chunk.size()).isLessThanOrEqualTo(2));
+        assertThat(chunks.stream().flatMap(List::stream).sorted().toList())
+                .containsExactly(0, 30, 60, 1800, 1830, 1860);
+
+        ArgumentCaptor<VideoAnalysisResponse> merged = ArgumentCaptor.forClass(VideoAnalysisResponse.class);
+        verify(resultWriter).completeStream(eq(ANALYSIS_ID), eq(RESULT_ID), merged.capture(), any());
+        assertThat(merged.getValue().getAnalysisResult().getIsDeepfake()).isTrue();
+        assertThat(merged.getValue().getAnalysisResult().getSummary()).contains("2개 구간", "4/6");
+    }
+}
@@ -0,0 +1,247 @@
+package fakehunters.backend.video.service;
+
+import fakehunters.backend.video.domain.VideoAnalysis;
+import fakehunters.backend.video.domain.VideoAnalysisDetail;
+import fakehunters.backend.video.domain.VideoFile;
+import fakehunters.backend.video.dto.response.VideoAnalysisResponse;
+import fakehunters.backend.video.mapper.VideoAnalysisMapper;
+import fakehunters.backend.video.mapper.VideoFileMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.blockhound.BlockHound;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 이벤트 루프(non-blocking) 스레드에서 blocking 호출이 일어나면 실패
+ * - WebClient / Redis 응답은 Schedulers.parallel() 스레드에서 도착하도록 흉내 (reactor-netty / Lettuce 이벤트 루프와 같은 NonBlocking 스레드)
+ * - DB 쓰기 / 파일 열기 mock은 Thread.sleep으로 blocking 호출을 재현
+ */
+class VideoAnalysisServiceBlockingTest {
+
+    private static final Long ANALYSIS_ID = 1L;
+
+    private static final String RESPONSE_BODY = """
+            {"analysisId": 1, "status": "COMPLETED",
+             "analysisResult": {"isDeepfake": true, "confidenceScore": 0.9},
+             "frameAnalyses": [
+               {"frameNumber": 0, "timestampSeconds": 0.0, "isDeepfake": false, "confidenceScore": 0.1},
+               {"frameNumber": 1, "timestampSeconds": 0.5, "isDeepfake": true, "confidenceScore": 0.8},
+               {"frameNumber": 2, "timestampSeconds": 1.0, "isDeepfake": true, "confidenceScore": 0.9}
+             ]}
+            """;
+
+    private VideoAnalysisMapper videoAnalysisMapper;
+    private VideoResultWriter resultWriter;
+    private VideoProgressService progressService;
+    private VideoMultipartBodyFactory multipartBodyFactory;
+    private VideoStorageService storageService;
+    private VideoAnalysisResultCache resultCache;
+    private Scheduler blockingScheduler;
+    private VideoResultStreamIngestor streamIngestor;
+    private VideoAnalysisService service;
+
+    // 코덱 기본 설정은 클래스 초기화 때 파일을 읽으므로 BlockHound 설치 전에 한 번만 생성
+    private static ExchangeStrategies exchangeStrategies;
+
+    @BeforeAll
+    static void installBlockHound() {
+        exchangeStrategies = ExchangeStrategies.withDefaults();
+        BlockHound.install();
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        videoAnalysisMapper = mock(VideoAnalysisMapper.class);
+        resultWriter = mock(VideoResultWriter.class);
+        progressService = mock(VideoProgressService.class);
+        multipartBodyFactory = mock(VideoMultipartBodyFactory.class);
+        storageService = mock(VideoStorageService.class);
+        resultCache = mock(VideoAnalysisResultCache.class);
+        blockingScheduler = Schedulers.newBoundedElastic(4, 100, "test-blocking-io");
+
+        // Redis 응답이 이벤트 루프 스레드에서 도착
+        when(progressService.save(anyLong(), any()))
+                .thenAnswer(invocation -> Mono.delay(Duration.ofMillis(5)).thenReturn(true));
+        doAnswer(invocation -> {
+            Thread.sleep(1);
+            return 10L;
+        }).when(resultWriter).save(anyLong(), any());
+        doAnswer(invocation -> {
+            Thread.sleep(1);
+            return 1;
+        }).when(videoAnalysisMapper).updateStatus(anyLong(), anyString());
+        doAnswer(invocation -> {
+            Thread.sleep(1);
+            return new LinkedMultiValueMap<>();
+        }).when(multipartBodyFactory).create(any(), anyString(), anyLong());
+
+        streamIngestor = new VideoResultStreamIngestor(resultWriter, blockingScheduler);
+        ReflectionTestUtils.setField(streamIngestor, "chunkSize", 2);
+
+        service = new VideoAnalysisService(
+                aiServiceWebClient(),
+                videoAnalysisMapper,
+                mock(VideoFileMapper.class),
+                multipartBodyFactory,
+                progressService,
+                mock(VideoTranscodingService.class),
+                resultWriter,
+                resultCache,
+                new SimpleMeterRegistry(),
+                storageService,
+                blockingScheduler,
+                streamIngestor,
+                mock(VideoSegmenter.class),
+                mock(SegmentedVideoAnalyzer.class));
+        ReflectionTestUtils.setField(service, "ingestMode", VideoAnalysisService.INGEST_BUFFER);
+        ReflectionTestUtils.setField(service, "uploadPath", "/tmp");
+        ReflectionTestUtils.setField(service, "s3AnalyzeUri", "/api/v1/video/analyze-s3");
+        ReflectionTestUtils.setField(service, "aiPresignTtl", Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        blockingScheduler.dispose();
+    }
+
+    // AI 서버 응답이 이벤트 루프 스레드에서 도착하는 WebClient
+    private WebClient aiServiceWebClient() {
+        return WebClient.builder()
+                .exchangeFunction(request -> Mono.delay(Duration.ofMillis(5))
+                        .map(tick -> ClientResponse.create(HttpStatus.OK, exchangeStrategies)
+                                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                .body(RESPONSE_BODY)
+                                .build()))
+                .build();
+    }
+
+    @Test
+    @DisplayName("로컬 입력: 파일 열기와 결과 저장이 이벤트 루프 밖에서 실행")
+    void runAnalysisLocal() {
+        VideoFile videoFile = VideoFile.builder()
+                .analysisId(ANALYSIS_ID)
+                .storedFilename("1.mp4")
+                .filePath("/tmp/1.mp4")
+                .build();
+
+        service.runAnalysis(ANALYSIS_ID, videoFile).block(Duration.ofSeconds(5));
+
+        verify(resultWriter).save(eq(ANALYSIS_ID), any());
+    }
+
+    @Test
+    @DisplayName("스트리밍 저장: 청크 저장 / 완료 트랜잭션이 이벤트 루프 밖에서 실행")
+    void runAnalysisStreaming() {
+        ReflectionTestUtils.setField(service, "ingestMode", VideoAnalysisService.INGEST_STREAM);
+        doAnswer(invocation -> {
+            Thread.sleep(1);
+            return 10L;
+        }).when(resultWriter).beginStream(anyLong());
+        doAnswer(invocation -> {
+            Thread.sleep(1);
+            return ((List<?>) invocation.getArgument(1)).size();
+        }).when(resultWriter).appendFrames(anyLong(), any());
+        doAnswer(invocation -> {
+            Thread.sleep(1);
+            return 10L;
+        }).when(resultWriter).completeStream(anyLong(), anyLong(), any(), any());
+        VideoFile videoFile = VideoFile.builder()
+                .analysisId(ANALYSIS_ID)
+                .storedFilename("1.mp4")
+                .filePath("/tmp/1.mp4")
+                .build();
+
+        service.runAnalysis(ANALYSIS_ID, videoFile).block(Duration.ofSeconds(5));
+
+        // chunk-size 2 → 프레임 3개는 청크 2번
+        verify(resultWriter, times(2)).appendFrames(eq(10L), any());
+        verify(resultWriter).completeStream(eq(ANALYSIS_ID), eq(10L), any(), any());
+    }
+
+    @Test
+    @DisplayName("S3 입력: 결과 저장이 이벤트 루프 밖에서 실행")
+    void runAnalysisS3() {
+        when(storageService.isS3Path(anyString())).thenReturn(true);
+        when(storageService.extractKey(anyString())).thenReturn("video/inputs/1.mp4");
+        when(storageService.presignGet(anyString(), any())).thenReturn("https://example.com/1.mp4");
+        VideoFile videoFile = VideoFile.builder()
+                .analysisId(ANALYSIS_ID)
+                .filePath("s3://bucket/video/inputs/1.mp4")
+                .build();
+
+        service.runAnalysis(ANALYSIS_ID, videoFile).block(Duration.ofSeconds(5));
+
+        verify(resultWriter).save(eq(ANALYSIS_ID), any());
+    }
+
+    @Test
+    @DisplayName("저장 실패 시 FAILED 처리도 이벤트 루프 밖에서 실행")
+    void runAnalysisFailure() {
+        doAnswer(invocation -> {
+            Thread.sleep(1);
+            throw new IllegalStateException("db down");
+        }).when(resultWriter).save(anyLong(), any());
+        VideoFile videoFile = VideoFile.builder()
+                .analysisId(ANALYSIS_ID)
+                .storedFilename("1.mp4")
+                .filePath("/tmp/1.mp4")
+                .build();
+
+        assertThatThrownBy(() -> service.runAnalysis(ANALYSIS_ID, videoFile).block(Duration.ofSeconds(5)))
+                .hasMessageContaining("db down");
+        verify(videoAnalysisMapper).updateStatus(ANALYSIS_ID, "FAILED");
+    }
+
+    @Test
+    @DisplayName("결과 조회: 캐시 miss 후 DB 조회가 이벤트 루프 밖에서 실행")
+    void getAnalysisResultOnCacheMiss() {
+        // Redis miss 응답이 이벤트 루프 스레드에서 도착한 뒤 loader 구독
+        when(resultCache.get(eq(ANALYSIS_ID), any())).thenAnswer(invocation -> {
+            Mono<VideoAnalysisResponse> loader = invocation.getArgument(1);
+            return Mono.delay(Duration.ofMillis(5)).then(loader);
+        });
+        VideoAnalysisDetail detail = new VideoAnalysisDetail();
+        ReflectionTestUtils.setField(detail, "analysis", VideoAnalysis.builder()
+                .analysisId(ANALYSIS_ID)
+                .status("PROCESSING")
+                .build());
+        doAnswer(invocation -> {
+            Thread.sleep(1);
+            return detail;
+        }).when(videoAnalysisMapper).findDetailByAnalysisId(ANALYSIS_ID);
+
+        VideoAnalysisResponse response = service.getAnalysisResult(ANALYSIS_ID).block(Duration.ofSeconds(5));
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo("PROCESSING");
+    }
+}
@@ -0,0 +1,95 @@
+package fakehunters.backend.video.service;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import fakehunters.backend.video.dto.response.FrameAnalysisResponse;
+import fakehunters.backend.video.dto.response.VideoAnalysisResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VideoAnalysisStreamParserTest {
+
+    private static final String RESPONSE = """
+            {
+              "analysisId": 7,
+              "frameAnalyses": [
+                {"frameNumber": 0, "timestampSeconds": 0.0, "isDeepfake": false, "confidenceScore": 0.1,
+                 "features": "{\\"blur\\": 0.2}", "extra": {"nested": [1, 2, {"x": null}]}},
+                null,
+                {"frameNumber": 1, "timestampSeconds": 0.04, "isDeepfake": true, "confidenceScore": 0.85,
+                 "anomalyType": "말 그대로 \\"따옴표\\""}
+              ],
+              "analysisResult": {"isDeepfake": true, "confidenceScore": 0.85, "modelVersion": "v2"},
+              "status": "COMPLETED",
+              "createdAt": "2026-01-12T10:00:00+09:00"
+            }
+            """;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    @Test
+    @DisplayName("어떤 위치에서 잘려 도착해도 프레임과 나머지 필드를 같은 결과로 파싱")
+    void splitAtEveryOffset() throws IOException {
+        byte[] bytes = RESPONSE.getBytes(StandardCharsets.UTF_8);
+
+        for (int split = 1; split < bytes.length; split++) {
+            VideoAnalysisStreamParser parser = new VideoAnalysisStreamParser(objectMapper);
+            List<FrameAnalysisResponse> frames = new ArrayList<>();
+            frames.addAll(parser.feed(bytes, 0, split));
+            frames.addAll(parser.feed(bytes, split, bytes.length - split));
+            VideoAnalysisResponse header = parser.finish();
+
+            assertThat(frames).extracting(FrameAnalysisResponse::getFrameNumber).containsExactly(0, 1);
+            assertThat(frames.get(0).getFeatures()).isEqualTo("{\"blur\": 0.2}");
+            assertThat(frames.get(1).getAnomalyType()).isEqualTo("말 그대로 \"따옴표\"");
+            assertThat(header.getAnalysisId()).isEqualTo(7L);
+            assertThat(header.getStatus()).isEqualTo("COMPLETED");
+            assertThat(header.getAnalysisResult().getModelVersion()).isEqualTo("v2");
+            assertThat(header.getFrameAnalyses()).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("프레임은 완성되는 조각에서 바로 반환")
+    void emitsFramesIncrementally() throws IOException {
+        byte[] bytes = RESPONSE.getBytes(StandardCharsets.UTF_8);
+        int firstFrameEnd = RESPONSE.indexOf("null,");
+
+        VideoAnalysisStreamParser parser = new VideoAnalysisStreamParser(objectMapper);
+
+        assertThat(parser.feed(bytes, 0, firstFrameEnd)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("frameAnalyses가 없거나 null이어도 나머지 필드 파싱")
+    void withoutFrames() throws IOException {
+        byte[] bytes = "{\"status\": \"COMPLETED\", \"frameAnalyses\": null}".getBytes(StandardCharsets.UTF_8);
+
+        VideoAnalysisStreamParser parser = new VideoAnalysisStreamParser(objectMapper);
+
+        assertThat(parser.feed(bytes, 0, bytes.length)).isEmpty();
+        assertThat(parser.finish().getStatus()).isEqualTo("COMPLETED");
+    }
+
+    @Test
+    @DisplayName("응답이 중간에 끊기면 실패")
+    void truncated() throws IOException {
+        byte[] bytes = RESPONSE.getBytes(StandardCharsets.UTF_8);
+
+        VideoAnalysisStreamParser parser = new VideoAnalysisStreamParser(objectMapper);
+        parser.feed(bytes, 0, bytes.length / 2);
+
+        assertThatThrownBy(parser::finish).isInstanceOf(IOException.class);
+    }
+}
@@ -0,0 +1,188 @@
+package fakehunters.backend.video.service;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 영상 탐색(seek) 트래픽 부하 테스트 - 내장 Tomcat + 동시 Range 요청
+ * sendfile 사용/미사용 처리량과 지연 시간(p50/p95/p99) 비교, 304 재검증 확인
+ * 실행: ./gradlew test --tests '*VideoFileStreamerLoadTest' -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class VideoFileStreamerLoadTest {
+
+    private static final int FILE_SIZE = 64 * 1024 * 1024;
+    private static final int SEEK_WINDOW = 1024 * 1024;
+    private static final int CLIENTS = 32;
+    private static final int REQUESTS_PER_CLIENT = 200;
+
+    private static final VideoFileStreamer streamer = new VideoFileStreamer();
+
+    private static Path workDir;
+    private static Path video;
+    private static byte[] content;
+    private static WebServer server;
+    private static HttpClient client;
+    private static URI uri;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        workDir = Files.createTempDirectory("video-stream-bench");
+        video = workDir.resolve("seek.mp4");
+        content = new byte[FILE_SIZE];
+        new Random(42).nextBytes(content);
+        try (OutputStream out = Files.newOutputStream(video)) {
+            out.write(content);
+        }
+
+        TomcatServletWebServerFactory factory = new TomcatServletWebServerFactory(0);
+        server = factory.getWebServer(servletContext -> servletContext
+                .addServlet("video", new HttpServlet() {
+                    @Override
+                    protected void doGet(HttpServletRequest request, HttpServletResponse response)
+                            throws IOException {
+                        streamer.stream(video.toFile(), request, response);
+                    }
+                })
+                .addMapping("/video"));
+        server.start();
+
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        uri = URI.create("http://localhost:" + server.getPort() + "/video");
+    }
+
+    @AfterAll
+    static void tearDown() throws Exception {
+        server.stop();
+        Files.deleteIfExists(video);
+        Files.deleteIfExists(workDir);
+    }
+
+    @ParameterizedTest(name = "sendfile={0}")
+    @ValueSource(booleans = {true, false})
+    @DisplayName("동시 탐색 Range 요청 처리량 / 지연 시간")
+    void concurrentSeekTraffic(boolean sendfile) throws Exception {
+        ReflectionTestUtils.setField(streamer, "sendfileMinSize", sendfile ? 0L : Long.MAX_VALUE);
+
+        long[] latencies = new long[CLIENTS * REQUESTS_PER_CLIENT];
+        AtomicLong bytes = new AtomicLong();
+
+        ExecutorService pool = Executors.newFixedThreadPool(CLIENTS);
+        long started = System.nanoTime();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int c = 0; c < CLIENTS; c++) {
+                int offset = c * REQUESTS_PER_CLIENT;
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < REQUESTS_PER_CLIENT; i++) {
+                        long start = ThreadLocalRandom.current().nextLong(FILE_SIZE - SEEK_WINDOW);
+                        long end = start + SEEK_WINDOW - 1;
+
+                        long t0 = System.nanoTime();
+                        HttpResponse<byte[]> response = client.send(HttpRequest.newBuilder(uri)
+                                        .header("Range", "bytes=" + start + "-" + end)
+                                        .build(),
+                                HttpResponse.BodyHandlers.ofByteArray());
+                        latencies[offset + i] = System.nanoTime() - t0;
+
+                        assertThat(response.statusCode()).isEqualTo(206);
+                        assertThat(response.body())
+                                .isEqualTo(Arrays.copyOfRange(content, (int) start, (int) end + 1));
+                        bytes.addAndGet(response.body().length);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+        double seconds = (System.nanoTime() - started) / 1e9;
+
+        Arrays.sort(latencies);
+        System.out.printf("sendfile=%s requests=%d throughput=%.1f req/s, %.1f MB/s, p50=%.2fms p95=%.2fms p99=%.2fms%n",
+                sendfile, latencies.length,
+                latencies.length / seconds,
+                bytes.get() / 1048576.0 / seconds,
+                percentile(latencies, 0.50), percentile(latencies, 0.95), percentile(latencies, 0.99));
+    }
+
+    @Test
+    @DisplayName("조건부 요청: If-None-Match → 304, If-Range 불일치 → 200, 다중 Range → multipart/byteranges")
+    void conditionalRequests() throws Exception {
+        HttpResponse<Void> head = client.send(HttpRequest.newBuilder(uri)
+                        .header("Range", "bytes=0-0")
+                        .build(),
+                HttpResponse.BodyHandlers.discarding());
+        String etag = head.headers().firstValue("ETag").orElseThrow();
+
+        HttpResponse<Void> notModified = client.send(HttpRequest.newBuilder(uri)
+                        .header("If-None-Match", etag)
+                        .build(),
+                HttpResponse.BodyHandlers.discarding());
+        assertThat(notModified.statusCode()).isEqualTo(304);
+
+        HttpResponse<Void> staleRange = client.send(HttpRequest.newBuilder(uri)
+                        .header("Range", "bytes=100-199")
+                        .header("If-Range", "\"stale\"")
+                        .build(),
+                HttpResponse.BodyHandlers.discarding());
+        assertThat(staleRange.statusCode()).isEqualTo(200);
+        assertThat(staleRange.headers().firstValueAsLong("Content-Length").orElseThrow()).isEqualTo(FILE_SIZE);
+
+        HttpResponse<byte[]> multi = client.send(HttpRequest.newBuilder(uri)
+                        .header("Range", "bytes=0-99,1000-1099")
+                        .header("If-Range", etag)
+                        .build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        assertThat(multi.statusCode()).isEqualTo(206);
+        assertThat(multi.headers().firstValue("Content-Type").orElseThrow())
+                .startsWith("multipart/byteranges");
+        assertThat(multi.headers().firstValueAsLong("Content-Length").orElseThrow())
+                .isEqualTo(multi.body().length);
+
+        HttpResponse<Void> unsatisfiable = client.send(HttpRequest.newBuilder(uri)
+                        .header("Range", "bytes=" + FILE_SIZE + "-")
+                        .build(),
+                HttpResponse.BodyHandlers.discarding());
+        assertThat(unsatisfiable.statusCode()).isEqualTo(416);
+    }
+
+    private double percentile(long[] sorted, double p) {
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+}
@@ -0,0 +1,118 @@
+package fakehunters.backend.video.service;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ClientCodecConfigurer;
+import org.springframework.http.codec.multipart.MultipartHttpMessageWriter;
+import org.springframework.mock.http.client.reactive.MockClientHttpRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.MultiValueMap;
+import reactor.core.publisher.Mono;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * AI 서버 업로드 본문의 파일 크기별 peak heap 비교 (buffered vs streaming)
+ * 실행: ./gradlew test --tests '*VideoMultipartBodyBenchmark' -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class VideoMultipartBodyBenchmark {
+
+    private static final int[] FILE_SIZES_MB = {16, 64, 128};
+
+    private static Path workDir;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        workDir = Files.createTempDirectory("video-upload-bench");
+        byte[] chunk = new byte[1024 * 1024];
+        for (int sizeMb : FILE_SIZES_MB) {
+            try (OutputStream out = Files.newOutputStream(workDir.resolve(sizeMb + "mb.mp4"))) {
+                for (int i = 0; i < sizeMb; i++) {
+                    out.write(chunk);
+                }
+            }
+        }
+    }
+
+    @AfterAll
+    static void tearDown() throws Exception {
+        try (var files = Files.list(workDir)) {
+            for (Path p : files.toList()) {
+                Files.deleteIfExists(p);
+            }
+        }
+        Files.deleteIfExists(workDir);
+    }
+
+    @Test
+    @DisplayName("파일 크기별 업로드 본문 인코딩 peak heap")
+    void peakHeapBySize() throws Exception {
+        VideoMultipartBodyFactory factory = new VideoMultipartBodyFactory();
+        ReflectionTestUtils.setField(factory, "uploadBufferSize", 64 * 1024);
+
+        System.out.printf("%-10s %12s %14s%n", "size(MB)", "mode", "peakHeap(MB)");
+        for (int sizeMb : FILE_SIZES_MB) {
+            Path file = workDir.resolve(sizeMb + "mb.mp4");
+
+            long buffered = measurePeakHeap(() -> factory.buffered(file, file.getFileName().toString(), 1L));
+            long streaming = measurePeakHeap(() -> factory.streaming(file, file.getFileName().toString(), 1L));
+
+            System.out.printf("%-10d %12s %14.1f%n", sizeMb, "buffered", buffered / 1048576.0);
+            System.out.printf("%-10d %12s %14.1f%n", sizeMb, "streaming", streaming / 1048576.0);
+        }
+    }
+
+    private long measurePeakHeap(BodySupplier supplier) throws Exception {
+        List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .toList();
+
+        System.gc();
+        long baseline = heapPools.stream().mapToLong(pool -> pool.getUsage().getUsed()).sum();
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+
+        MultiValueMap<String, HttpEntity<?>> body = supplier.get();
+        encode(body);
+
+        long peak = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+        return Math.max(0, peak - baseline);
+    }
+
+    /**
+     * WebClient와 같은 multipart writer로 본문을 인코딩하고, 전송된 버퍼는 즉시 release
+     */
+    private void encode(MultiValueMap<String, HttpEntity<?>> body) {
+        MultipartHttpMessageWriter writer =
+                new MultipartHttpMessageWriter(ClientCodecConfigurer.create().getWriters());
+
+        MockClientHttpRequest request =
+                new MockClientHttpRequest(HttpMethod.POST, URI.create("/api/v1/video/analyze"));
+        request.setWriteHandler(flux -> flux.doOnNext(DataBufferUtils::release).then());
+
+        writer.write(Mono.just(body), ResolvableType.forClass(MultiValueMap.class),
+                        MediaType.MULTIPART_FORM_DATA, request, Map.of())
+                .block();
+    }
+
+    @FunctionalInterface
+    private interface BodySupplier {
+        MultiValueMap<String, HttpEntity<?>> get() throws Exception;
+    }
+}
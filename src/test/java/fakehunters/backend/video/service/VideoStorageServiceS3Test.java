@@ -0,0 +1,139 @@
+package fakehunters.backend.video.service;
+
+import fakehunters.backend.global.exception.custom.CustomBusinessException;
+import fakehunters.backend.global.s3.path.S3PathGenerator;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.BucketAlreadyOwnedByYouException;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 영상 S3 흐름 (presigned PUT 업로드 → HEAD → presigned GET Range 재생 / 변환 결과 업로드)
+ * 로컬 S3 호환 스토리지(MinIO 등)로 실행:
+ * ./gradlew test --tests '*VideoStorageServiceS3Test' -Dit.s3.endpoint=http://localhost:9000 \
+ *       -Dit.s3.access-key=minioadmin -Dit.s3.secret-key=minioadmin
+ */
+@EnabledIfSystemProperty(named = "it.s3.endpoint", matches = ".+")
+class VideoStorageServiceS3Test {
+
+    private static final String BUCKET = System.getProperty("it.s3.bucket", "fakehunters-it");
+
+    private static S3Client s3Client;
+    private static S3Presigner presigner;
+    private static VideoStorageService storageService;
+    private static HttpClient httpClient;
+
+    @BeforeAll
+    static void setUp() {
+        URI endpoint = URI.create(System.getProperty("it.s3.endpoint"));
+        StaticCredentialsProvider credentials = StaticCredentialsProvider.create(AwsBasicCredentials.create(
+                System.getProperty("it.s3.access-key", "minioadmin"),
+                System.getProperty("it.s3.secret-key", "minioadmin")));
+        Region region = Region.of(System.getProperty("it.s3.region", "us-east-1"));
+
+        s3Client = S3Client.builder()
+                .region(region)
+                .credentialsProvider(credentials)
+                .endpointOverride(endpoint)
+                .forcePathStyle(true)
+                .build();
+        presigner = S3Presigner.builder()
+                .region(region)
+                .credentialsProvider(credentials)
+                .endpointOverride(endpoint)
+                .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build())
+                .build();
+
+        try {
+            s3Client.createBucket(builder -> builder.bucket(BUCKET));
+        } catch (BucketAlreadyOwnedByYouException ignored) {
+            // 재실행
+        }
+
+        storageService = new VideoStorageService(s3Client, presigner, new S3PathGenerator());
+        ReflectionTestUtils.setField(storageService, "bucketName", BUCKET);
+        httpClient = HttpClient.newHttpClient();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        presigner.close();
+        s3Client.close();
+    }
+
+    @Test
+    @DisplayName("presigned PUT 업로드 → HEAD 크기 확인 → presigned GET Range 재생")
+    void uploadAndPlayback() throws Exception {
+        byte[] content = new byte[256 * 1024];
+        new Random(7).nextBytes(content);
+        String key = new S3PathGenerator().generate("video", "inputs", "mp4");
+
+        String putUrl = presigner.presignPutObject(builder -> builder
+                        .signatureDuration(Duration.ofMinutes(5))
+                        .putObjectRequest(request -> request.bucket(BUCKET).key(key).contentType("video/mp4")))
+                .url().toString();
+        HttpResponse<Void> put = httpClient.send(HttpRequest.newBuilder(URI.create(putUrl))
+                        .header("Content-Type", "video/mp4")
+                        .PUT(HttpRequest.BodyPublishers.ofByteArray(content))
+                        .build(),
+                HttpResponse.BodyHandlers.discarding());
+        assertThat(put.statusCode()).isEqualTo(200);
+
+        assertThat(storageService.head(key).contentLength()).isEqualTo(content.length);
+
+        String s3Path = storageService.toS3Path(key);
+        assertThat(storageService.extractKey(s3Path)).isEqualTo(key);
+
+        HttpResponse<byte[]> range = httpClient.send(
+                HttpRequest.newBuilder(URI.create(storageService.presignGet(s3Path, Duration.ofMinutes(5))))
+                        .header("Range", "bytes=1000-1999")
+                        .build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        assertThat(range.statusCode()).isEqualTo(206);
+        assertThat(range.body()).isEqualTo(Arrays.copyOfRange(content, 1000, 2000));
+    }
+
+    @Test
+    @DisplayName("업로드되지 않은 key는 FILE_REQUIRED")
+    void missingObject() {
+        assertThatThrownBy(() -> storageService.head(VideoStorageService.INPUT_PREFIX + "missing.mp4"))
+                .isInstanceOf(CustomBusinessException.class);
+    }
+
+    @Test
+    @DisplayName("변환 결과 업로드는 video/processed 경로")
+    void uploadProcessed() throws Exception {
+        Path file = Files.createTempFile("video-web", ".mp4");
+        try {
+            Files.write(file, new byte[]{1, 2, 3});
+            String s3Path = storageService.uploadProcessed(file);
+
+            assertThat(storageService.extractKey(s3Path)).startsWith("video/processed/").endsWith(".mp4");
+            assertThat(storageService.head(storageService.extractKey(s3Path)).contentLength()).isEqualTo(3);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}